@@ -7,6 +7,8 @@ GRANT CREATE SESSION TO testuser;
 GRANT CREATE TABLE TO testuser;
 GRANT CREATE SEQUENCE TO testuser;
 GRANT UNLIMITED TABLESPACE TO testuser;
+-- 쓰기 부하의 세션 통계 (V$MYSTAT, V$SESSION_EVENT) 조회
+GRANT SELECT_CATALOG_ROLE TO testuser;
 
 -- Connect as testuser and create sequence
 ALTER SESSION SET CURRENT_SCHEMA = testuser;
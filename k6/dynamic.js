@@ -7,6 +7,25 @@ const RPS = parseInt(__ENV.RPS || '10');
 const DURATION = __ENV.DURATION || '5m';
 const VUS = parseInt(__ENV.VUS || '20');
 const BASE_URL = __ENV.BASE_URL || 'http://localhost:28080';
+// 지연 SLO (p95, ms). 블로킹/비동기 경로의 최대 처리량을 같은 SLO 로 비교할 때 사용
+const SLO_P95_MS = parseInt(__ENV.SLO_P95_MS || '5000');
+// 시나리오 이름이 _async 로 끝나면 /api/workload/async 경로 사용 (예: cpu_async, io_async, mixed_async, realistic_async)
+const ASYNC = SCENARIO.endsWith('_async');
+const BASE_SCENARIO = ASYNC ? SCENARIO.slice(0, -'_async'.length) : SCENARIO;
+const WORKLOAD_URL = `${BASE_URL}/api/workload${ASYNC ? '/async' : ''}`;
+// 복합 조회 실행 방식: serial | fanout (fanout 은 하위 쿼리별 커넥션 사용, 커넥션 풀 고갈 비교용)
+const QUERY_MODE = __ENV.QUERY_MODE || 'serial';
+// 목록 조회 fetch 방식: entity | read_only | projection | aggregate (비우면 기존 캐시 경로)
+const FETCH_MODE = __ENV.FETCH_MODE || '';
+const FETCH_PARAM = FETCH_MODE ? `&fetch=${FETCH_MODE}` : '';
+// db_write 시나리오의 쓰기 방식: insert | transition | archive | hot-row (hot-row 는 HOT_FRACTION 비율을 HOT_KEYS 개 행에 집중)
+const WRITE_MODE = __ENV.WRITE_MODE || 'transition';
+const WRITE_BATCH = parseInt(__ENV.WRITE_BATCH || '20');
+const HOT_FRACTION = parseFloat(__ENV.HOT_FRACTION || '0.9');
+const HOT_KEYS = parseInt(__ENV.HOT_KEYS || '10');
+// 주문 처리 동시성 제어: none | optimistic | pessimistic | skip-locked, 재시도: none | immediate | backoff (비우면 서버 기본값)
+const LOCKING = __ENV.LOCKING || '';
+const RETRY = __ENV.RETRY || '';
 
 export const options = {
   scenarios: {
@@ -20,7 +39,7 @@ export const options = {
     },
   },
   thresholds: {
-    http_req_duration: ['p(95)<5000'],
+    http_req_duration: [`p(95)<${SLO_P95_MS}`],
     http_req_failed: ['rate<0.1'],
   },
 };
@@ -28,20 +47,22 @@ export const options = {
 // 시나리오 함수 매핑
 const scenarios = {
   cpu: executeCPULoad,
+  io: executeIOLoad,
   db: executeDBLoad,
   realistic: executeRealisticLoad,
   mixed: executeMixedLoad,
   high_burst: executeHighBurst,
+  db_write: executeDBWrite,
 };
 
 export default function () {
-  const scenarioFunc = scenarios[SCENARIO] || executeRealisticLoad;
+  const scenarioFunc = scenarios[BASE_SCENARIO] || executeRealisticLoad;
   scenarioFunc();
 }
 
 // CPU 부하 시나리오
 function executeCPULoad() {
-  const res = http.post(`${BASE_URL}/api/workload/cpu`, JSON.stringify({
+  const res = http.post(`${WORKLOAD_URL}/cpu`, JSON.stringify({
     durationMs: 1000,
     cpuPercent: 70
   }), {
@@ -55,13 +76,29 @@ function executeCPULoad() {
   sleep(0.5);
 }
 
+// IO 부하 시나리오 (디스크 I/O 와 I/O 대기 위주)
+function executeIOLoad() {
+  const res = http.post(`${WORKLOAD_URL}/io`, JSON.stringify({
+    durationMs: 1000,
+    ioOps: 10
+  }), {
+    headers: { 'Content-Type': 'application/json' },
+  });
+
+  check(res, {
+    'io load status is 200': (r) => r.status === 200,
+  });
+
+  sleep(0.5);
+}
+
 // DB 조회 부하 시나리오
 function executeDBLoad() {
   const queries = [
     () => http.get(`${BASE_URL}/api/workload/db/query?limit=20`),
-    () => http.post(`${BASE_URL}/api/workload/db/complex`),
-    () => http.get(`${BASE_URL}/api/workload/db/high-value?minPrice=500000`),
-    () => http.get(`${BASE_URL}/api/workload/db/date-range?daysAgo=30`),
+    () => http.post(`${BASE_URL}/api/workload/db/complex?mode=${QUERY_MODE}`),
+    () => http.get(`${BASE_URL}/api/workload/db/high-value?minPrice=500000${FETCH_PARAM}`),
+    () => http.get(`${BASE_URL}/api/workload/db/date-range?daysAgo=30${FETCH_PARAM}`),
   ];
 
   const randomQuery = queries[Math.floor(Math.random() * queries.length)];
@@ -77,9 +114,10 @@ function executeDBLoad() {
 // 현실적인 워크로드 (DB + CPU)
 function executeRealisticLoad() {
   // 1. 기존의 realistic 워크로드 (DB 조회 + CPU 부하)
-  const realisticRes = http.post(`${BASE_URL}/api/workload/realistic`, JSON.stringify({
+  const realisticRes = http.post(`${WORKLOAD_URL}/realistic`, JSON.stringify({
     durationMs: 800,
-    cpuPercent: 40
+    cpuPercent: 40,
+    mode: QUERY_MODE
   }), {
     headers: { 'Content-Type': 'application/json' },
   });
@@ -95,9 +133,10 @@ function executeRealisticLoad() {
   ];
   const randomCustomer = customerNames[Math.floor(Math.random() * customerNames.length)];
 
-  const processRes = http.post(`${BASE_URL}/api/workload/process-order`, JSON.stringify({
-    customerName: randomCustomer
-  }), {
+  const processBody = { customerName: randomCustomer };
+  if (LOCKING) processBody.locking = LOCKING;
+  if (RETRY) processBody.retry = RETRY;
+  const processRes = http.post(`${BASE_URL}/api/workload/process-order`, JSON.stringify(processBody), {
     headers: { 'Content-Type': 'application/json' },
   });
 
@@ -111,7 +150,7 @@ function executeRealisticLoad() {
 
 // 혼합 부하 시나리오
 function executeMixedLoad() {
-  const res = http.post(`${BASE_URL}/api/workload/mixed`, JSON.stringify({
+  const res = http.post(`${WORKLOAD_URL}/mixed`, JSON.stringify({
     durationMs: 1500,
     cpuPercent: 60,
     ioOps: 5
@@ -141,7 +180,7 @@ function executeHighBurst() {
   });
 
   // DB 복합 쿼리
-  const dbRes = http.post(`${BASE_URL}/api/workload/db/complex`);
+  const dbRes = http.post(`${BASE_URL}/api/workload/db/complex?mode=${QUERY_MODE}`);
 
   check(dbRes, {
     'high burst db status is 200': (r) => r.status === 200,
@@ -149,3 +188,19 @@ function executeHighBurst() {
 
   sleep(0.3);
 }
+
+// DB 쓰기 부하 (트랜잭션 1회/요청, deadlock 은 409 로 응답)
+function executeDBWrite() {
+  const res = http.post(`${BASE_URL}/api/workload/db/write/${WRITE_MODE}`, JSON.stringify({
+    batchSize: WRITE_BATCH,
+    hotFraction: HOT_FRACTION,
+    hotKeys: HOT_KEYS
+  }), {
+    headers: { 'Content-Type': 'application/json' },
+    responseCallback: http.expectedStatuses(200, 409),
+  });
+
+  check(res, {
+    'db write committed': (r) => r.status === 200,
+  });
+}
@@ -0,0 +1,58 @@
+package com.dw.idstrust.loadtesttoy.controller;
+
+import com.dw.idstrust.loadtesttoy.service.QueryResult;
+import com.dw.idstrust.loadtesttoy.service.QueryStrategy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WorkloadController 응답 본문 생성과 JSON 직렬화 비용 (요청당 고정 오버헤드).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseMapBenchmark {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final QueryResult listResult = new QueryResult(QueryStrategy.LIST, 100, null);
+    private final QueryResult pageResult = new QueryResult(QueryStrategy.PAGE, 100, "MjAyNC0wMS0wMVQwMDowMDowMHwxMjM0NQ");
+
+    // /cpu, /io 등의 Map.of 응답
+    @Benchmark
+    public Map<String, Object> immutableMap() {
+        return Map.of(
+                "status", "completed",
+                "durationMs", 1000,
+                "cpuPercent", 50,
+                "kernel", "spin",
+                "parallelism", 1
+        );
+    }
+
+    // /db/status, /db/high-value, /db/date-range 응답
+    @Benchmark
+    public Map<String, Object> queryResponse() {
+        return WorkloadController.queryResponse("queryStatus", "PENDING", listResult);
+    }
+
+    @Benchmark
+    public Map<String, Object> queryResponsePage() {
+        return WorkloadController.queryResponse("queryStatus", "PENDING", pageResult);
+    }
+
+    // 메시지 컨버터가 하는 직렬화까지 포함
+    @Benchmark
+    public byte[] queryResponseSerialized() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(WorkloadController.queryResponse("queryStatus", "PENDING", pageResult));
+    }
+}
@@ -0,0 +1,89 @@
+package com.dw.idstrust.loadtesttoy.entity;
+
+import com.dw.idstrust.loadtesttoy.service.OrderGenerator;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내장 H2 (Oracle 호환 모드) 에서 Order 엔티티 조회 후 hydration 비용.
+ * 일반 세션(1차 캐시 + dirty checking 스냅샷), 읽기 전용 세션, StatelessSession 을 비교하며
+ * 같은 SQL 이므로 차이는 대부분 엔티티 생성과 영속성 컨텍스트 관리 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderHydrationBenchmark {
+
+    private static final int TABLE_ROWS = 5_000;
+    private static final String QUERY = "from Order o order by o.id";
+
+    @Param({"10", "100", "1000"})
+    public int rows;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Order.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:bench;MODE=Oracle;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "500")
+                .buildSessionFactory();
+
+        OrderGenerator generator = new OrderGenerator();
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < TABLE_ROWS; i++) {
+                session.insert(generator.next(String.format("BENCH-%08d", i)));
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public List<Order> managed() {
+        try (Session session = sessionFactory.openSession()) {
+            return session.createSelectionQuery(QUERY, Order.class).setMaxResults(rows).getResultList();
+        }
+    }
+
+    // 스냅샷을 남기지 않음 (@Transactional(readOnly = true) 와 같은 효과)
+    @Benchmark
+    public List<Order> readOnly() {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            return session.createSelectionQuery(QUERY, Order.class).setMaxResults(rows).getResultList();
+        }
+    }
+
+    // 영속성 컨텍스트 없음
+    @Benchmark
+    public List<Order> stateless() {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            return session.createSelectionQuery(QUERY, Order.class).setMaxResults(rows).getResultList();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 더미 주문 생성 처리량과 주문 1건당 할당량 (gc 프로파일러의 gc.alloc.rate.norm).
+ * 대량 적재(BulkLoadService)와 DB 쓰기 워크로드의 CPU/할당 하한이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderGeneratorBenchmark {
+
+    private final OrderGenerator generator = new OrderGenerator();
+
+    // 주문 번호 포맷(String.format) 포함
+    @Benchmark
+    public Order next() {
+        return generator.next();
+    }
+
+    // 주문 번호를 호출자가 넘기는 경로 (BulkLoadService)
+    @Benchmark
+    public Order nextWithOrderNumber() {
+        return generator.next("BENCH-00000001");
+    }
+
+    // 여러 스레드에서 동시 호출 (ThreadLocalRandom 경합 없음 확인)
+    @Benchmark
+    @Threads(4)
+    public Order nextContended() {
+        return generator.next();
+    }
+}
@@ -0,0 +1,50 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+import com.dw.idstrust.loadtesttoy.service.OrderGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU 부하 엔진이 busy 구간에 반복 실행하는 커널의 1회 실행 시간.
+ * 커널 하나는 수십~수백 µs 안에 끝나야 하므로 (CpuKernel 참고) 변경 후 이 범위를 벗어나는지 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CpuKernelBenchmark {
+
+    @Param({"spin", "sha256", "matrix", "deflate", "regex", "json", "bigdecimal"})
+    public String kernel;
+
+    private CpuKernel target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        OrderGenerator orders = new OrderGenerator();
+        CpuKernelRegistry registry = new CpuKernelRegistry(List.of(
+                new SpinKernel(),
+                new Sha256Kernel(),
+                new MatrixMultiplyKernel(),
+                new DeflateKernel(orders),
+                new RegexKernel(orders),
+                new JsonOrderKernel(Jackson2ObjectMapperBuilder.json().build(), orders),
+                new BigDecimalKernel()));
+        target = registry.get(kernel);
+    }
+
+    @Benchmark
+    public long execute() {
+        return target.execute();
+    }
+}
@@ -0,0 +1,157 @@
+package com.dw.idstrust.loadtesttoy.config;
+
+import com.dw.idstrust.loadtesttoy.service.AdaptiveConcurrencyLimiter;
+import com.dw.idstrust.loadtesttoy.service.AdaptiveConcurrencyLimiter.Outcome;
+import com.dw.idstrust.loadtesttoy.service.AdaptiveConcurrencyLimiter.Priority;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 워크로드 엔드포인트 앞단의 admission control.
+ * {@link AdaptiveConcurrencyLimiter} 의 한도를 넘는 요청은 Tomcat 큐나 Hikari 커넥션 대기에 쌓이기 전에 즉시 429 로 거절한다.
+ * 우선순위는 X-Load-Priority 헤더(critical | normal | batch), 없으면 경로 설정으로 정한다.
+ * 5xx 와 비동기 타임아웃은 과부하 신호(drop)로, 4xx 는 처리 용량과 무관하므로 표본에서 제외한다.
+ * 지연 표본은 매칭된 핸들러 패턴(없으면 URI) 별로 나누어 제한기에 전달한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final String PRIORITY_HEADER = "X-Load-Priority";
+
+    private final AdmissionControlProperties props;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public AdmissionControlFilter(AdmissionControlProperties props, AdaptiveConcurrencyLimiter limiter) {
+        this.props = props;
+        this.limiter = limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !props.isEnabled() || !matches(props.getPaths(), request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Priority priority = resolvePriority(request);
+        if (!limiter.tryAcquire(priority)) {
+            reject(response, priority);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean released = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(start));
+                released = true;
+            }
+        } catch (IOException | ServletException | RuntimeException e) {
+            limiter.release(route(request), System.nanoTime() - start, Outcome.DROPPED);
+            released = true;
+            throw e;
+        } finally {
+            if (!released) {
+                limiter.release(route(request), System.nanoTime() - start, outcome(response.getStatus()));
+            }
+        }
+    }
+
+    private Priority resolvePriority(HttpServletRequest request) {
+        Priority fromHeader = Priority.from(request.getHeader(PRIORITY_HEADER));
+        if (fromHeader != null) {
+            return fromHeader;
+        }
+        String uri = request.getRequestURI();
+        if (matches(props.getCriticalPaths(), uri)) {
+            return Priority.CRITICAL;
+        }
+        if (matches(props.getBatchPaths(), uri)) {
+            return Priority.BATCH;
+        }
+        return Priority.NORMAL;
+    }
+
+    // 경로 변수가 있는 URI 가 경로마다 따로 잡히지 않도록 핸들러 패턴을 쓴다
+    private static String route(ServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        return request instanceof HttpServletRequest http ? http.getRequestURI() : null;
+    }
+
+    private boolean matches(List<String> patterns, String uri) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reject(HttpServletResponse response, Priority priority) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"overloaded\",\"priority\":\"" + priority.name().toLowerCase()
+                + "\",\"limit\":" + limiter.getLimit() + ",\"inflight\":" + limiter.getInflight() + "}");
+    }
+
+    private static Outcome outcome(int status) {
+        if (status >= 500) {
+            return Outcome.DROPPED;
+        }
+        return status >= 400 ? Outcome.IGNORED : Outcome.SUCCESS;
+    }
+
+    private final class ReleaseOnComplete implements AsyncListener {
+        private final long start;
+        private boolean timedOut;
+
+        ReleaseOnComplete(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            int status = ((HttpServletResponse) event.getSuppliedResponse()).getStatus();
+            limiter.release(route(event.getSuppliedRequest()), System.nanoTime() - start,
+                    timedOut ? Outcome.DROPPED : outcome(status));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            timedOut = true;
+        }
+
+        // 오류 후에도 onComplete 가 호출되므로 별도로 반납하지 않는다
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.dw.idstrust.loadtesttoy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 워크로드 엔드포인트 앞단의 적응형 동시성 제한(admission control) 설정.
+ * 한도를 넘는 요청은 큐에 쌓지 않고 즉시 429 로 거절한다.
+ * GRADIENT 는 기준 지연 대비 최근 지연의 비율로 한도를 비례 조정하고,
+ * AIMD 는 지연이 tolerance 배를 넘거나 5xx 가 나면 backoffRatio 배로 줄이고 그 외에는 1씩 늘린다.
+ */
+@Component
+@ConfigurationProperties(prefix = "load.admission")
+public class AdmissionControlProperties {
+
+    public enum Algorithm {
+        GRADIENT, AIMD
+    }
+
+    private boolean enabled = false;
+    private Algorithm algorithm = Algorithm.GRADIENT;
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 400;
+    // 기준 지연의 몇 배까지를 정상으로 볼지
+    private double tolerance = 2.0;
+    // GRADIENT: 새 한도 반영 비율
+    private double smoothing = 0.2;
+    // AIMD: 감소 배율
+    private double backoffRatio = 0.9;
+    // 한도 재계산 주기와 최소 표본 수
+    private Duration window = Duration.ofSeconds(1);
+    private int minWindowSamples = 10;
+    // 우선순위별로 사용할 수 있는 한도 비율 (critical 은 항상 1.0)
+    private double normalShare = 0.9;
+    private double batchShare = 0.5;
+    // 제한 대상 경로와 우선순위별 경로 (Ant 패턴). X-Load-Priority 헤더가 있으면 헤더가 우선한다
+    private List<String> paths = new ArrayList<>(List.of("/api/workload/**"));
+    private List<String> criticalPaths = new ArrayList<>(List.of("/api/workload/db/status", "/api/workload/async/stats"));
+    private List<String> batchPaths = new ArrayList<>(List.of("/api/workload/db/generate", "/api/workload/memory", "/api/workload/cpu-memory"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(Duration window) {
+        this.window = window;
+    }
+
+    public int getMinWindowSamples() {
+        return minWindowSamples;
+    }
+
+    public void setMinWindowSamples(int minWindowSamples) {
+        this.minWindowSamples = minWindowSamples;
+    }
+
+    public double getNormalShare() {
+        return normalShare;
+    }
+
+    public void setNormalShare(double normalShare) {
+        this.normalShare = normalShare;
+    }
+
+    public double getBatchShare() {
+        return batchShare;
+    }
+
+    public void setBatchShare(double batchShare) {
+        this.batchShare = batchShare;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public List<String> getCriticalPaths() {
+        return criticalPaths;
+    }
+
+    public void setCriticalPaths(List<String> criticalPaths) {
+        this.criticalPaths = criticalPaths;
+    }
+
+    public List<String> getBatchPaths() {
+        return batchPaths;
+    }
+
+    public void setBatchPaths(List<String> batchPaths) {
+        this.batchPaths = batchPaths;
+    }
+}
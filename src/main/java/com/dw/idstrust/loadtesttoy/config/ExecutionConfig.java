@@ -0,0 +1,77 @@
+package com.dw.idstrust.loadtesttoy.config;
+
+import com.dw.idstrust.loadtesttoy.service.ThreadStatsService;
+import com.dw.idstrust.loadtesttoy.service.TimerWheel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실행 모드(platform / virtual)에 따라 워커 풀과 Tomcat 요청 실행기를 구성한다.
+ * spring.threads.virtual.enabled 대신 직접 구성하는 이유는 생성된 스레드 수를 풀별로 집계하기 위해서다.
+ */
+@Configuration
+public class ExecutionConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService loadWorkerPool(ExecutionProperties props, ThreadStatsService threadStats) {
+        if (props.isVirtual()) {
+            return Executors.newThreadPerTaskExecutor(
+                    threadStats.counting("load-worker", Thread.ofVirtual().name("load-worker-vt-", 0).factory()));
+        }
+        return Executors.newCachedThreadPool(
+                threadStats.counting("load-worker", Thread.ofPlatform().name("load-worker-", 0).daemon(true).factory()));
+    }
+
+    // 비동기 경로의 CPU 구간 전용. 실행 모드와 무관하게 코어 수 크기의 플랫폼 스레드 풀
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor asyncCpuPool(ExecutionProperties props, ThreadStatsService threadStats) {
+        ExecutionProperties.Async async = props.getAsync();
+        int size = async.getCpuPoolSize() > 0 ? async.getCpuPoolSize() : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(async.getCpuQueueCapacity()),
+                threadStats.counting("async-cpu", Thread.ofPlatform().name("async-cpu-", 0).daemon(true).factory()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 비동기 경로의 DB 호출과 파일 I/O 전용. 커넥션 풀보다 크게 잡아도 커넥션 대기만 늘어난다
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor asyncBlockingPool(ExecutionProperties props, ThreadStatsService threadStats) {
+        ExecutionProperties.Async async = props.getAsync();
+        return new ThreadPoolExecutor(async.getBlockingPoolSize(), async.getBlockingPoolSize(), 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(async.getBlockingQueueCapacity()),
+                threadStats.counting("async-blocking", Thread.ofPlatform().name("async-blocking-", 0).daemon(true).factory()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 복합 조회 fan-out 의 하위 쿼리 실행용. 큐가 가득 차면 RejectedExecutionException (503)
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor dbFanoutPool(ExecutionProperties props, ThreadStatsService threadStats) {
+        ExecutionProperties.Fanout fanout = props.getFanout();
+        return new ThreadPoolExecutor(fanout.getPoolSize(), fanout.getPoolSize(), 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(fanout.getQueueCapacity()),
+                threadStats.counting("db-fanout", Thread.ofPlatform().name("db-fanout-", 0).daemon(true).factory()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean(destroyMethod = "close")
+    public TimerWheel timerWheel(ExecutionProperties props) {
+        ExecutionProperties.Async async = props.getAsync();
+        return new TimerWheel(async.getTimerTick().toNanos(), TimeUnit.NANOSECONDS, async.getTimerWheelSize());
+    }
+
+    // virtual 모드에서는 요청마다 가상 스레드를 생성하여 Tomcat 스레드 한도에 묶이지 않도록 한다.
+    @Bean
+    @ConditionalOnProperty(prefix = "load.execution", name = "mode", havingValue = "virtual")
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadRequestExecutor(ThreadStatsService threadStats) {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newThreadPerTaskExecutor(
+                threadStats.counting("http-request", Thread.ofVirtual().name("http-vt-", 0).factory())));
+    }
+}
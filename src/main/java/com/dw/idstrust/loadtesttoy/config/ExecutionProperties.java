@@ -0,0 +1,158 @@
+package com.dw.idstrust.loadtesttoy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 워커 풀과 HTTP 요청 처리에 사용할 스레드 실행 모드 설정.
+ * mode=virtual 이면 시나리오 워커와 Tomcat 요청 처리 모두 가상 스레드에서 실행된다.
+ */
+@Component
+@ConfigurationProperties(prefix = "load.execution")
+public class ExecutionProperties {
+
+    public enum Mode {
+        PLATFORM, VIRTUAL
+    }
+
+    private Mode mode = Mode.PLATFORM;
+    // JFR jdk.VirtualThreadPinned 이벤트 임계값 (이보다 짧은 pinning 은 기록하지 않음)
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+    private final Async async = new Async();
+    private final Fanout fanout = new Fanout();
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public boolean isVirtual() {
+        return mode == Mode.VIRTUAL;
+    }
+
+    public Duration getPinnedThreshold() {
+        return pinnedThreshold;
+    }
+
+    public void setPinnedThreshold(Duration pinnedThreshold) {
+        this.pinnedThreshold = pinnedThreshold;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public Fanout getFanout() {
+        return fanout;
+    }
+
+    /**
+     * /api/workload/async 경로의 실행기 설정.
+     * CPU 구간은 코어 수 크기의 고정 풀에서, DB 호출과 파일 I/O 는 별도 블로킹 풀에서 실행하고,
+     * 시간 대기는 타이머 휠로 처리하여 어떤 스레드도 점유하지 않는다. 큐가 가득 차면 503 으로 거절한다.
+     */
+    public static class Async {
+        private int cpuPoolSize = 0; // 0 이면 availableProcessors
+        private int cpuQueueCapacity = 1000;
+        private int blockingPoolSize = 20; // spring.datasource.hikari.maximum-pool-size 와 맞춤
+        private int blockingQueueCapacity = 1000;
+        private Duration timerTick = Duration.ofMillis(1);
+        private int timerWheelSize = 512;
+
+        public int getCpuPoolSize() {
+            return cpuPoolSize;
+        }
+
+        public void setCpuPoolSize(int cpuPoolSize) {
+            this.cpuPoolSize = cpuPoolSize;
+        }
+
+        public int getCpuQueueCapacity() {
+            return cpuQueueCapacity;
+        }
+
+        public void setCpuQueueCapacity(int cpuQueueCapacity) {
+            this.cpuQueueCapacity = cpuQueueCapacity;
+        }
+
+        public int getBlockingPoolSize() {
+            return blockingPoolSize;
+        }
+
+        public void setBlockingPoolSize(int blockingPoolSize) {
+            this.blockingPoolSize = blockingPoolSize;
+        }
+
+        public int getBlockingQueueCapacity() {
+            return blockingQueueCapacity;
+        }
+
+        public void setBlockingQueueCapacity(int blockingQueueCapacity) {
+            this.blockingQueueCapacity = blockingQueueCapacity;
+        }
+
+        public Duration getTimerTick() {
+            return timerTick;
+        }
+
+        public void setTimerTick(Duration timerTick) {
+            this.timerTick = timerTick;
+        }
+
+        public int getTimerWheelSize() {
+            return timerWheelSize;
+        }
+
+        public void setTimerWheelSize(int timerWheelSize) {
+            this.timerWheelSize = timerWheelSize;
+        }
+    }
+
+    /**
+     * 복합 조회 fan-out 모드 설정. 요청 하나의 하위 쿼리를 최대 parallelism 개까지 동시에 서로 다른 커넥션으로 실행하고,
+     * deadline 이 지나면 남은 하위 쿼리를 취소한다. 풀 전체가 공유되므로 poolSize 가 커넥션 풀보다 크면 커넥션 대기가 생긴다.
+     */
+    public static class Fanout {
+        private int poolSize = 32;
+        private int queueCapacity = 200;
+        private int parallelism = 4; // 요청당 동시 하위 쿼리 수 기본값
+        private Duration deadline = Duration.ofSeconds(5);
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        public Duration getDeadline() {
+            return deadline;
+        }
+
+        public void setDeadline(Duration deadline) {
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.dw.idstrust.loadtesttoy.config;
+
+import com.dw.idstrust.loadtesttoy.service.LatencyMetricsService;
+import com.dw.idstrust.loadtesttoy.service.LatencyRecorder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * WorkloadController / LoadController 핸들러의 처리 시간을 엔드포인트별 HDR 히스토그램에 기록한다.
+ * 기록기는 핸들러 메소드당 한 번만 조회되므로 정상 경로에서는 추가 할당이 없다.
+ * 비동기 요청(/api/workload/async)은 요청 스레드가 먼저 반환되므로 AsyncListener 로 응답 완료 시점에 기록한다.
+ */
+@Component
+public class LatencyRecordingFilter extends OncePerRequestFilter {
+
+    private final LatencyMetricsService latencyMetrics;
+    private final ConcurrentMap<Method, LatencyRecorder> recordersByHandler = new ConcurrentHashMap<>();
+
+    public LatencyRecordingFilter(LatencyMetricsService latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !(uri.startsWith("/api/workload/") || uri.startsWith("/api/load/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            LatencyRecorder recorder = resolveRecorder(request);
+            if (recorder != null) {
+                if (request.isAsyncStarted()) {
+                    request.getAsyncContext().addListener(new CompletionRecorder(recorder, start));
+                } else {
+                    recorder.recordNanos(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    private record CompletionRecorder(LatencyRecorder recorder, long start) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            recorder.recordNanos(System.nanoTime() - start);
+        }
+
+        // 타임아웃/오류 후에도 onComplete 가 호출되므로 별도로 기록하지 않는다
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 재시작된 비동기 처리에도 계속 기록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private LatencyRecorder resolveRecorder(HttpServletRequest request) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return null;
+        }
+        LatencyRecorder recorder = recordersByHandler.get(handler.getMethod());
+        if (recorder == null) {
+            String name = request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            recorder = recordersByHandler.computeIfAbsent(handler.getMethod(), m -> latencyMetrics.recorder(name));
+        }
+        return recorder;
+    }
+}
@@ -4,6 +4,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 @Component
@@ -11,6 +12,8 @@ import java.util.List;
 public class LoadScenarioProperties {
     private boolean schedulerEnabled = false;
     private List<Scenario> definitions;
+    // schedulerEnabled=true 일 때 ScenarioScheduler 가 실행하는 시간표
+    private List<Schedule> schedules = new ArrayList<>();
 
     public boolean isSchedulerEnabled() {
         return schedulerEnabled;
@@ -28,12 +31,140 @@ public class LoadScenarioProperties {
         this.definitions = definitions;
     }
 
+    public List<Schedule> getSchedules() {
+        return schedules;
+    }
+
+    public void setSchedules(List<Schedule> schedules) {
+        this.schedules = schedules;
+    }
+
+    public enum ArrivalDistribution {
+        CONSTANT, POISSON
+    }
+
+    /**
+     * 이전 회차가 아직 실행 중일 때 다음 시작 시각이 오면: SKIP 건너뜀, QUEUE 끝난 뒤 한 번 실행, REPLACE 이전 회차를 멈추고 새로 시작.
+     */
+    public enum OverlapPolicy {
+        SKIP, QUEUE, REPLACE
+    }
+
+    /**
+     * 시나리오 시간표. scenarios 에 나열한 시나리오를 앞의 것이 끝나는 즉시(gap 만큼 쉬고) 차례로 실행하는 것이 한 회차다.
+     * cron 이 있으면 cron 시각마다 회차를 시작하고, 없으면 애플리케이션 시작 후 startDelay 뒤에 시작하여
+     * repeat 회 (0 이면 무한) 연속으로 반복한다.
+     */
+    public static class Schedule {
+        private String name;
+        private boolean enabled = true;
+        private String cron; // Spring cron (초 분 시 일 월 요일), 예: "0 0 9 * * MON-FRI"
+        private String zone; // cron 기준 시간대 (기본값 시스템 시간대)
+        private List<String> scenarios = new ArrayList<>();
+        private Duration gap = Duration.ZERO;
+        private Duration startDelay = Duration.ZERO;
+        private int repeat = 1;
+        private OverlapPolicy overlap = OverlapPolicy.SKIP;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getCron() {
+            return cron;
+        }
+
+        public void setCron(String cron) {
+            this.cron = cron;
+        }
+
+        public String getZone() {
+            return zone;
+        }
+
+        public void setZone(String zone) {
+            this.zone = zone;
+        }
+
+        public List<String> getScenarios() {
+            return scenarios;
+        }
+
+        public void setScenarios(List<String> scenarios) {
+            this.scenarios = scenarios;
+        }
+
+        public Duration getGap() {
+            return gap;
+        }
+
+        public void setGap(Duration gap) {
+            this.gap = gap;
+        }
+
+        public Duration getStartDelay() {
+            return startDelay;
+        }
+
+        public void setStartDelay(Duration startDelay) {
+            this.startDelay = startDelay;
+        }
+
+        public int getRepeat() {
+            return repeat;
+        }
+
+        public void setRepeat(int repeat) {
+            this.repeat = repeat;
+        }
+
+        public OverlapPolicy getOverlap() {
+            return overlap;
+        }
+
+        public void setOverlap(OverlapPolicy overlap) {
+            this.overlap = overlap;
+        }
+    }
+
     public static class Scenario {
         private String name;
         private Duration duration = Duration.ofMinutes(5);
         private int concurrency = 10;
         private int cpuLoadPercent = 50; // 0-100
         private int ioOpsPerSecond = 0; // 0 means none
+        private String cpuKernel = "spin"; // spin, sha256, matrix, deflate, regex, json, bigdecimal
+        private int cpuParallelism = 1; // 작업 단위 하나의 busy 구간을 나누어 실행할 코어 수
+        // Open-loop: 초당 작업 단위 도착률 (0 이면 concurrency 기반 closed-loop)
+        private double arrivalRate = 0;
+        private ArrivalDistribution arrivalDistribution = ArrivalDistribution.CONSTANT;
+        private int unitDurationMs = 100; // 작업 단위 1개의 길이
+        private int maxInflight = 10000; // open-loop 동시 처리 상한 (초과 시 drop)
+        // coordinated omission 보정: open-loop 는 의도된 시작 시각 기준으로 측정.
+        // closed-loop 는 think time / pacing 이 없어 의도된 발행 간격이 없으므로 보정하지 않는다 (결과의 latencyCorrection 참고)
+        private boolean correctCoordinatedOmission = true;
+        // 시나리오와 함께 돌릴 GC 부하 (allocationRateMbPerSec 가 0 이면 사용 안 함)
+        private GcProfile gc = new GcProfile();
+        // 시나리오와 함께 돌릴 디스크 I/O 부하 (enabled=false 이면 사용 안 함)
+        private DiskProfile disk = new DiskProfile();
+        // 시나리오와 함께 돌릴 loopback 네트워크 부하 (enabled=false 이면 사용 안 함)
+        private NetworkProfile network = new NetworkProfile();
+        // 시나리오와 함께 돌릴 ORDERS 쓰기 부하 (enabled=false 이면 사용 안 함)
+        private WriteProfile write = new WriteProfile();
+        // closed-loop 단계별 워커 수 (k6 ramping-vus). 비어 있지 않으면 concurrency 와 duration 대신 사용
+        private List<Stage> stages = new ArrayList<>();
 
         public String getName() {
             return name;
@@ -74,5 +205,450 @@ public class LoadScenarioProperties {
         public void setIoOpsPerSecond(int ioOpsPerSecond) {
             this.ioOpsPerSecond = ioOpsPerSecond;
         }
+
+        public String getCpuKernel() {
+            return cpuKernel;
+        }
+
+        public void setCpuKernel(String cpuKernel) {
+            this.cpuKernel = cpuKernel;
+        }
+
+        public int getCpuParallelism() {
+            return cpuParallelism;
+        }
+
+        public void setCpuParallelism(int cpuParallelism) {
+            this.cpuParallelism = cpuParallelism;
+        }
+
+        public double getArrivalRate() {
+            return arrivalRate;
+        }
+
+        public void setArrivalRate(double arrivalRate) {
+            this.arrivalRate = arrivalRate;
+        }
+
+        public boolean isOpenLoop() {
+            return arrivalRate > 0;
+        }
+
+        public ArrivalDistribution getArrivalDistribution() {
+            return arrivalDistribution;
+        }
+
+        public void setArrivalDistribution(ArrivalDistribution arrivalDistribution) {
+            this.arrivalDistribution = arrivalDistribution;
+        }
+
+        public int getUnitDurationMs() {
+            return unitDurationMs;
+        }
+
+        public void setUnitDurationMs(int unitDurationMs) {
+            this.unitDurationMs = unitDurationMs;
+        }
+
+        public boolean isCorrectCoordinatedOmission() {
+            return correctCoordinatedOmission;
+        }
+
+        public void setCorrectCoordinatedOmission(boolean correctCoordinatedOmission) {
+            this.correctCoordinatedOmission = correctCoordinatedOmission;
+        }
+
+        public int getMaxInflight() {
+            return maxInflight;
+        }
+
+        public void setMaxInflight(int maxInflight) {
+            this.maxInflight = maxInflight;
+        }
+
+        public GcProfile getGc() {
+            return gc;
+        }
+
+        public void setGc(GcProfile gc) {
+            this.gc = gc;
+        }
+
+        public DiskProfile getDisk() {
+            return disk;
+        }
+
+        public void setDisk(DiskProfile disk) {
+            this.disk = disk;
+        }
+
+        public NetworkProfile getNetwork() {
+            return network;
+        }
+
+        public void setNetwork(NetworkProfile network) {
+            this.network = network;
+        }
+
+        public WriteProfile getWrite() {
+            return write;
+        }
+
+        public void setWrite(WriteProfile write) {
+            this.write = write;
+        }
+
+        public List<Stage> getStages() {
+            return stages;
+        }
+
+        public void setStages(List<Stage> stages) {
+            this.stages = stages;
+        }
+    }
+
+    /**
+     * closed-loop 워커 수 단계. duration 동안 직전 단계의 target(첫 단계는 0)에서 이번 target 까지 선형으로 바꾼다.
+     * 직전과 target 이 같으면 유지 구간이고, duration 이 0 이면 즉시 바꾼다.
+     */
+    public static class Stage {
+        private Duration duration = Duration.ofMinutes(1);
+        private int target;
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public void setDuration(Duration duration) {
+            this.duration = duration;
+        }
+
+        public int getTarget() {
+            return target;
+        }
+
+        public void setTarget(int target) {
+            this.target = target;
+        }
+    }
+
+    public enum DiskPattern {
+        SEQUENTIAL, RANDOM
+    }
+
+    /**
+     * 디스크 I/O 부하 프로파일.
+     * queueDepth 는 동시에 진행 중인 I/O 수(= 동기 positional I/O 를 수행하는 워커 수)이고,
+     * readPercent 100 은 읽기 전용, 0 은 쓰기 전용이다. targetIops 가 0 이면 속도 제한 없이 수행한다.
+     */
+    public static class DiskProfile {
+        private boolean enabled = false;
+        private DiskPattern pattern = DiskPattern.RANDOM;
+        private int readPercent = 70;
+        private int blockSize = 4096;
+        private int queueDepth = 4;
+        private boolean fsync = false; // 쓰기마다 force()
+        private boolean mmap = false; // FileChannel 대신 MappedByteBuffer 로 접근
+        private boolean direct = false; // O_DIRECT 로 페이지 캐시 우회 (blockSize 는 파일시스템 블록 크기의 배수)
+        private int targetIops = 0;
+        private int fileSizeMb = 256;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public DiskPattern getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(DiskPattern pattern) {
+            this.pattern = pattern;
+        }
+
+        public int getReadPercent() {
+            return readPercent;
+        }
+
+        public void setReadPercent(int readPercent) {
+            this.readPercent = readPercent;
+        }
+
+        public int getBlockSize() {
+            return blockSize;
+        }
+
+        public void setBlockSize(int blockSize) {
+            this.blockSize = blockSize;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public void setQueueDepth(int queueDepth) {
+            this.queueDepth = queueDepth;
+        }
+
+        public boolean isFsync() {
+            return fsync;
+        }
+
+        public void setFsync(boolean fsync) {
+            this.fsync = fsync;
+        }
+
+        public boolean isMmap() {
+            return mmap;
+        }
+
+        public void setMmap(boolean mmap) {
+            this.mmap = mmap;
+        }
+
+        public boolean isDirect() {
+            return direct;
+        }
+
+        public void setDirect(boolean direct) {
+            this.direct = direct;
+        }
+
+        public int getTargetIops() {
+            return targetIops;
+        }
+
+        public void setTargetIops(int targetIops) {
+            this.targetIops = targetIops;
+        }
+
+        public int getFileSizeMb() {
+            return fileSizeMb;
+        }
+
+        public void setFileSizeMb(int fileSizeMb) {
+            this.fileSizeMb = fileSizeMb;
+        }
+    }
+
+    public enum NetworkServerMode {
+        NIO, VIRTUAL
+    }
+
+    /**
+     * loopback 네트워크 부하 프로파일.
+     * 서버는 NIO Selector 이벤트 루프(NIO) 또는 연결당 가상 스레드(VIRTUAL) 로 동작하는 echo 서버이고,
+     * 클라이언트는 connections 개의 연결에서 messageBytes 크기 요청을 보내고 같은 크기의 응답을 기다린다.
+     * requestRate 는 전체 연결 합계 초당 요청 수이며 0 이면 응답을 받는 즉시 다음 요청을 보낸다.
+     */
+    public static class NetworkProfile {
+        private boolean enabled = false;
+        private NetworkServerMode server = NetworkServerMode.NIO;
+        private int messageBytes = 1024;
+        private int connections = 8;
+        private int requestRate = 0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public NetworkServerMode getServer() {
+            return server;
+        }
+
+        public void setServer(NetworkServerMode server) {
+            this.server = server;
+        }
+
+        public int getMessageBytes() {
+            return messageBytes;
+        }
+
+        public void setMessageBytes(int messageBytes) {
+            this.messageBytes = messageBytes;
+        }
+
+        public int getConnections() {
+            return connections;
+        }
+
+        public void setConnections(int connections) {
+            this.connections = connections;
+        }
+
+        public int getRequestRate() {
+            return requestRate;
+        }
+
+        public void setRequestRate(int requestRate) {
+            this.requestRate = requestRate;
+        }
+    }
+
+    public enum WriteMode {
+        INSERT, TRANSITION, ARCHIVE, HOT_ROW;
+
+        public static WriteMode from(String value) {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    /**
+     * ORDERS 쓰기 부하 프로파일. workers 개의 워커가 각자 커넥션을 하나씩 잡고 트랜잭션을 반복한다.
+     * INSERT: batchSize 행 배치 삽입, TRANSITION: 무작위 주문 batchSize 건의 상태 순환 (배치 UPDATE),
+     * ARCHIVE: 완료/취소 주문 batchSize 건을 ORDERS_ARCHIVE 로 옮기고 삭제,
+     * HOT_ROW: batchSize 건을 한 행씩 UPDATE 하되 hotFraction 비율은 hotKeys 개의 고정 키에 몰아 행 잠금 경합과 deadlock 을 만든다.
+     * targetTps 는 전체 워커 합계 초당 트랜잭션 수이며 0 이면 커밋 즉시 다음 트랜잭션을 시작한다.
+     */
+    public static class WriteProfile {
+        private boolean enabled = false;
+        private WriteMode mode = WriteMode.TRANSITION;
+        private int workers = 4;
+        private int batchSize = 20;
+        private double hotFraction = 0.9;
+        private int hotKeys = 10;
+        private int targetTps = 0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public WriteMode getMode() {
+            return mode;
+        }
+
+        public void setMode(WriteMode mode) {
+            this.mode = mode;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public double getHotFraction() {
+            return hotFraction;
+        }
+
+        public void setHotFraction(double hotFraction) {
+            this.hotFraction = hotFraction;
+        }
+
+        public int getHotKeys() {
+            return hotKeys;
+        }
+
+        public void setHotKeys(int hotKeys) {
+            this.hotKeys = hotKeys;
+        }
+
+        public int getTargetTps() {
+            return targetTps;
+        }
+
+        public void setTargetTps(int targetTps) {
+            this.targetTps = targetTps;
+        }
+    }
+
+    /**
+     * GC 부하 프로파일: 할당 속도, 객체 크기 분포(log-uniform), 수명 분포.
+     * 수명은 즉시 버려지는 객체, young GC 를 survivorGcs 회 버틴 뒤 버려지는 객체,
+     * old 영역까지 살아남아 maxTenuredMb 한도 안에서 FIFO 로 교체되는 객체로 나눈다.
+     */
+    public static class GcProfile {
+        private double allocationRateMbPerSec = 0;
+        private int minObjectBytes = 64;
+        private int maxObjectBytes = 8192;
+        private int shortLivedPercent = 95;
+        private int survivorPercent = 4; // 나머지(100 - short - survivor)는 tenured
+        private int survivorGcs = 2;
+        private int maxTenuredMb = 256;
+
+        public boolean isEnabled() {
+            return allocationRateMbPerSec > 0;
+        }
+
+        public int getTenuredPercent() {
+            return Math.max(0, 100 - shortLivedPercent - survivorPercent);
+        }
+
+        public double getAllocationRateMbPerSec() {
+            return allocationRateMbPerSec;
+        }
+
+        public void setAllocationRateMbPerSec(double allocationRateMbPerSec) {
+            this.allocationRateMbPerSec = allocationRateMbPerSec;
+        }
+
+        public int getMinObjectBytes() {
+            return minObjectBytes;
+        }
+
+        public void setMinObjectBytes(int minObjectBytes) {
+            this.minObjectBytes = minObjectBytes;
+        }
+
+        public int getMaxObjectBytes() {
+            return maxObjectBytes;
+        }
+
+        public void setMaxObjectBytes(int maxObjectBytes) {
+            this.maxObjectBytes = maxObjectBytes;
+        }
+
+        public int getShortLivedPercent() {
+            return shortLivedPercent;
+        }
+
+        public void setShortLivedPercent(int shortLivedPercent) {
+            this.shortLivedPercent = shortLivedPercent;
+        }
+
+        public int getSurvivorPercent() {
+            return survivorPercent;
+        }
+
+        public void setSurvivorPercent(int survivorPercent) {
+            this.survivorPercent = survivorPercent;
+        }
+
+        public int getSurvivorGcs() {
+            return survivorGcs;
+        }
+
+        public void setSurvivorGcs(int survivorGcs) {
+            this.survivorGcs = survivorGcs;
+        }
+
+        public int getMaxTenuredMb() {
+            return maxTenuredMb;
+        }
+
+        public void setMaxTenuredMb(int maxTenuredMb) {
+            this.maxTenuredMb = maxTenuredMb;
+        }
     }
 }
@@ -0,0 +1,86 @@
+package com.dw.idstrust.loadtesttoy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 주문 처리(process-order) 의 동시성 제어 방식과 충돌 시 재시도 정책 기본값.
+ * 요청마다 locking / retry 파라미터로 바꿀 수 있다.
+ */
+@Component
+@ConfigurationProperties(prefix = "load.locking")
+public class LockingProperties {
+
+    /**
+     * NONE: 읽고 덮어쓰기 (마지막 쓰기가 이김), OPTIMISTIC: 버전 조건부 UPDATE, 0 행이면 충돌,
+     * PESSIMISTIC: SELECT ... FOR UPDATE 로 대상 행을 잠근 뒤 갱신 (다른 트랜잭션은 대기),
+     * SKIP_LOCKED: FOR UPDATE SKIP LOCKED 로 잠기지 않은 다음 주문을 처리 (대기 없음, 처리 순서는 달라짐).
+     */
+    public enum Strategy {
+        NONE, OPTIMISTIC, PESSIMISTIC, SKIP_LOCKED;
+
+        public static Strategy from(String value) {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    /**
+     * 충돌한 시도를 다시 할 때의 대기. NONE: 재시도 없음, IMMEDIATE: 바로 재시도,
+     * BACKOFF: 지수 백오프 + full jitter (0 ~ min(backoffMax, backoffBase * 2^(n-1)) 사이 무작위).
+     */
+    public enum Retry {
+        NONE, IMMEDIATE, BACKOFF;
+
+        public static Retry from(String value) {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    private Strategy strategy = Strategy.NONE;
+    private Retry retry = Retry.BACKOFF;
+    private int maxAttempts = 5; // 첫 시도 포함
+    private Duration backoffBase = Duration.ofMillis(5);
+    private Duration backoffMax = Duration.ofMillis(200);
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public void setRetry(Retry retry) {
+        this.retry = retry;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getBackoffBase() {
+        return backoffBase;
+    }
+
+    public void setBackoffBase(Duration backoffBase) {
+        this.backoffBase = backoffBase;
+    }
+
+    public Duration getBackoffMax() {
+        return backoffMax;
+    }
+
+    public void setBackoffMax(Duration backoffMax) {
+        this.backoffMax = backoffMax;
+    }
+}
@@ -0,0 +1,102 @@
+package com.dw.idstrust.loadtesttoy.controller;
+
+import com.dw.idstrust.loadtesttoy.service.AsyncWorkloadService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * /api/workload 의 cpu, io, mixed, realistic 부하를 비동기로 처리하는 버전.
+ * 핸들러는 CompletableFuture 를 반환하고 요청 스레드는 즉시 반납된다.
+ * 같은 요청 본문과 부하 모양을 사용하므로 같은 지연 SLO 에서 블로킹 경로와 최대 처리량을 비교할 수 있다.
+ */
+@RestController
+@RequestMapping("/api/workload/async")
+public class AsyncWorkloadController {
+
+    private final AsyncWorkloadService asyncService;
+
+    public AsyncWorkloadController(AsyncWorkloadService asyncService) {
+        this.asyncService = asyncService;
+    }
+
+    @PostMapping("/cpu")
+    public CompletableFuture<ResponseEntity<?>> cpuLoad(@RequestBody Map<String, Object> request) {
+        int durationMs = (int) request.getOrDefault("durationMs", 1000);
+        int cpuPercent = (int) request.getOrDefault("cpuPercent", 50);
+        String kernel = (String) request.getOrDefault("kernel", "spin");
+        int parallelism = (int) request.getOrDefault("parallelism", 1);
+
+        return asyncService.executeWorkload(durationMs, cpuPercent, 0, kernel, parallelism)
+                .<ResponseEntity<?>>thenApply(v -> ResponseEntity.ok(Map.of(
+                        "status", "completed",
+                        "durationMs", durationMs,
+                        "cpuPercent", cpuPercent,
+                        "kernel", kernel,
+                        "parallelism", parallelism
+                )));
+    }
+
+    @PostMapping("/io")
+    public CompletableFuture<ResponseEntity<?>> ioLoad(@RequestBody Map<String, Object> request) {
+        int durationMs = (int) request.getOrDefault("durationMs", 1000);
+        int ioOps = (int) request.getOrDefault("ioOps", 10);
+
+        return asyncService.executeWorkload(durationMs, 0, ioOps)
+                .<ResponseEntity<?>>thenApply(v -> ResponseEntity.ok(Map.of(
+                        "status", "completed",
+                        "durationMs", durationMs,
+                        "ioOps", ioOps
+                )));
+    }
+
+    @PostMapping("/mixed")
+    public CompletableFuture<ResponseEntity<?>> mixedLoad(@RequestBody Map<String, Object> request) {
+        int durationMs = (int) request.getOrDefault("durationMs", 1000);
+        int cpuPercent = (int) request.getOrDefault("cpuPercent", 50);
+        int ioOps = (int) request.getOrDefault("ioOps", 5);
+
+        return asyncService.executeWorkload(durationMs, cpuPercent, ioOps)
+                .<ResponseEntity<?>>thenApply(v -> ResponseEntity.ok(Map.of(
+                        "status", "completed",
+                        "durationMs", durationMs,
+                        "cpuPercent", cpuPercent,
+                        "ioOps", ioOps
+                )));
+    }
+
+    @PostMapping("/realistic")
+    public CompletableFuture<ResponseEntity<?>> realisticWorkload(@RequestBody Map<String, Object> request) {
+        int durationMs = (int) request.getOrDefault("durationMs", 500);
+        int cpuPercent = (int) request.getOrDefault("cpuPercent", 30);
+
+        return asyncService.executeRealistic(durationMs, cpuPercent)
+                .<ResponseEntity<?>>thenApply(v -> ResponseEntity.ok(Map.of(
+                        "status", "completed",
+                        "type", "realistic",
+                        "durationMs", durationMs,
+                        "cpuPercent", cpuPercent
+                )));
+    }
+
+    // 진행 중인 비동기 요청 수, 풀 사용량과 큐 길이, 타이머 휠 상태
+    @GetMapping("/stats")
+    public ResponseEntity<?> stats() {
+        return ResponseEntity.ok(asyncService.snapshot());
+    }
+
+    // CPU 풀 또는 블로킹 풀의 큐가 가득 찬 경우
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<?> handleRejected(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", "async executor saturated"));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+    }
+}
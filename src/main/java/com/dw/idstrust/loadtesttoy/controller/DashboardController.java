@@ -1,12 +1,15 @@
 package com.dw.idstrust.loadtesttoy.controller;
 
+import com.dw.idstrust.loadtesttoy.service.DashboardTelemetryService;
 import com.dw.idstrust.loadtesttoy.service.DatabaseService;
 import com.dw.idstrust.loadtesttoy.service.K6ControlService;
 import com.dw.idstrust.loadtesttoy.service.LoadGeneratorService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
 
@@ -15,13 +18,16 @@ public class DashboardController {
     private final LoadGeneratorService loadService;
     private final DatabaseService databaseService;
     private final K6ControlService k6Service;
+    private final DashboardTelemetryService telemetryService;
 
     public DashboardController(LoadGeneratorService loadService,
                                DatabaseService databaseService,
-                               K6ControlService k6Service) {
+                               K6ControlService k6Service,
+                               DashboardTelemetryService telemetryService) {
         this.loadService = loadService;
         this.databaseService = databaseService;
         this.k6Service = k6Service;
+        this.telemetryService = telemetryService;
     }
 
     @GetMapping({"/", "/dashboard"})
@@ -32,6 +38,13 @@ public class DashboardController {
         return "dashboard";
     }
 
+    // 대시보드 상태 스트림 (SSE: 연결 시 snapshot, 이후 delta)
+    @GetMapping(path = "/api/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter stream() {
+        return telemetryService.subscribe();
+    }
+
     // K6 Control API
     @PostMapping("/api/dashboard/k6/start")
     @ResponseBody
@@ -72,6 +85,16 @@ public class DashboardController {
         return ResponseEntity.ok(k6Service.getStatus());
     }
 
+    @GetMapping("/api/dashboard/k6/metrics/{testId}")
+    @ResponseBody
+    public ResponseEntity<?> k6Metrics(@PathVariable String testId) {
+        Map<String, Object> metrics = k6Service.getMetrics(testId);
+        if (metrics == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(metrics);
+    }
+
     // Database Status API
     @GetMapping("/api/dashboard/db/status")
     @ResponseBody
@@ -1,7 +1,11 @@
 package com.dw.idstrust.loadtesttoy.controller;
 
 import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import com.dw.idstrust.loadtesttoy.service.CpuLoadEngine;
 import com.dw.idstrust.loadtesttoy.service.LoadGeneratorService;
+import com.dw.idstrust.loadtesttoy.service.ScenarioRun;
+import com.dw.idstrust.loadtesttoy.service.ScenarioScheduler;
+import com.dw.idstrust.loadtesttoy.service.ThreadStatsService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,10 +17,17 @@ import java.util.stream.Collectors;
 public class LoadController {
     private final LoadGeneratorService service;
     private final LoadScenarioProperties props;
+    private final ThreadStatsService threadStats;
+    private final CpuLoadEngine cpuEngine;
+    private final ScenarioScheduler scheduler;
 
-    public LoadController(LoadGeneratorService service, LoadScenarioProperties props) {
+    public LoadController(LoadGeneratorService service, LoadScenarioProperties props, ThreadStatsService threadStats,
+                          CpuLoadEngine cpuEngine, ScenarioScheduler scheduler) {
         this.service = service;
         this.props = props;
+        this.threadStats = threadStats;
+        this.cpuEngine = cpuEngine;
+        this.scheduler = scheduler;
     }
 
     @GetMapping("/status")
@@ -24,6 +35,18 @@ public class LoadController {
         return ResponseEntity.ok().body(java.util.Map.of("running", service.isRunning()));
     }
 
+    // 실행 모드(platform/virtual)별 스레드 생성 수 및 pinning 이벤트
+    @GetMapping("/execution")
+    public ResponseEntity<?> execution() {
+        return ResponseEntity.ok().body(threadStats.snapshot());
+    }
+
+    // CPU 부하 제어기 상태: 목표/측정 사용률, duty cycle, 활성 세션별 요청 대비 달성치
+    @GetMapping("/cpu")
+    public ResponseEntity<?> cpu() {
+        return ResponseEntity.ok().body(cpuEngine.snapshot());
+    }
+
     @GetMapping("/scenarios")
     public ResponseEntity<?> scenarios() {
         List<?> list = props.getDefinitions() == null ? List.of() : props.getDefinitions().stream().map(s -> java.util.Map.of(
@@ -31,27 +54,66 @@ public class LoadController {
                 "durationSeconds", s.getDuration().getSeconds(),
                 "concurrency", s.getConcurrency(),
                 "cpuLoadPercent", s.getCpuLoadPercent(),
-                "ioOpsPerSecond", s.getIoOpsPerSecond()
+                "ioOpsPerSecond", s.getIoOpsPerSecond(),
+                "cpuKernel", s.getCpuKernel(),
+                "cpuParallelism", s.getCpuParallelism(),
+                "arrivalRate", s.getArrivalRate(),
+                "arrivalDistribution", s.getArrivalDistribution().name().toLowerCase(),
+                "unitDurationMs", s.getUnitDurationMs()
         )).collect(Collectors.toList());
         return ResponseEntity.ok().body(list);
     }
 
+    // 시나리오별 마지막 실행 통계 (queueing delay / service time 분리)
+    @GetMapping("/runs")
+    public ResponseEntity<?> runs() {
+        return ResponseEntity.ok().body(service.getScenarioRuns());
+    }
+
     @PostMapping("/trigger/{name}")
     public ResponseEntity<?> trigger(@PathVariable String name) {
         if (props.getDefinitions() == null) return ResponseEntity.notFound().build();
         for (LoadScenarioProperties.Scenario s : props.getDefinitions()) {
             if (s.getName() != null && s.getName().equals(name)) {
-                service.triggerScenario(s);
-                return ResponseEntity.accepted().body(java.util.Map.of("triggered", name));
+                ScenarioRun run = service.triggerScenario(s);
+                if (run == null) {
+                    return ResponseEntity.accepted().body(java.util.Map.of("triggered", name, "alreadyRunning", true));
+                }
+                return ResponseEntity.accepted().body(java.util.Map.of("triggered", name, "runId", run.getId()));
             }
         }
         return ResponseEntity.notFound().build();
     }
 
+    // 시간표별 다음 시작 시각, 진행 중인 회차와 단계
+    @GetMapping("/schedules")
+    public ResponseEntity<?> schedules() {
+        return ResponseEntity.ok().body(java.util.Map.of(
+                "enabled", scheduler.isEnabled(),
+                "schedules", scheduler.getSchedules()));
+    }
+
+    // 단계별 예정/실제 시작 시각, dispatch lag, 종료 상태 (발생 순)
+    @GetMapping("/schedules/history")
+    public ResponseEntity<?> scheduleHistory() {
+        return ResponseEntity.ok().body(scheduler.getHistory());
+    }
+
+    @PostMapping("/schedules/{name}/trigger")
+    public ResponseEntity<?> triggerSchedule(@PathVariable String name) {
+        if (!scheduler.triggerNow(name)) return ResponseEntity.notFound().build();
+        return ResponseEntity.accepted().body(java.util.Map.of("triggered", name));
+    }
+
     @PostMapping("/stop")
     public ResponseEntity<?> stop() {
         service.stopAll();
         return ResponseEntity.ok().body(java.util.Map.of("stopped", true));
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(java.util.Map.of("error", String.valueOf(e.getMessage())));
+    }
 }
 
@@ -0,0 +1,39 @@
+package com.dw.idstrust.loadtesttoy.controller;
+
+import com.dw.idstrust.loadtesttoy.service.AdaptiveConcurrencyLimiter;
+import com.dw.idstrust.loadtesttoy.service.LatencyMetricsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final LatencyMetricsService latencyMetrics;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public MetricsController(LatencyMetricsService latencyMetrics, AdaptiveConcurrencyLimiter limiter) {
+        this.latencyMetrics = latencyMetrics;
+        this.limiter = limiter;
+    }
+
+    // 엔드포인트별 지연 시간 분포 (마지막 구간 + 누적)
+    @GetMapping("/latency")
+    public ResponseEntity<?> latency() {
+        return ResponseEntity.ok(latencyMetrics.snapshot());
+    }
+
+    @PostMapping("/latency/reset")
+    public ResponseEntity<?> resetLatency() {
+        latencyMetrics.reset();
+        return ResponseEntity.ok(Map.of("status", "reset"));
+    }
+
+    // admission control: 현재 한도, 처리 중인 요청 수, 우선순위별 수락/거절 수, 한도 변화 이력
+    @GetMapping("/admission")
+    public ResponseEntity<?> admission() {
+        return ResponseEntity.ok(limiter.snapshot());
+    }
+}
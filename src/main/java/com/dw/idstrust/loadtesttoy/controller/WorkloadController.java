@@ -1,15 +1,45 @@
 package com.dw.idstrust.loadtesttoy.controller;
 
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import com.dw.idstrust.loadtesttoy.config.LockingProperties;
 import com.dw.idstrust.loadtesttoy.entity.Order;
+import com.dw.idstrust.loadtesttoy.service.BulkLoadJob;
+import com.dw.idstrust.loadtesttoy.service.BulkLoadService;
+import com.dw.idstrust.loadtesttoy.service.ComplexQueryMode;
+import com.dw.idstrust.loadtesttoy.service.ComplexQueryResult;
 import com.dw.idstrust.loadtesttoy.service.DatabaseService;
+import com.dw.idstrust.loadtesttoy.service.DiskIoEngine;
+import com.dw.idstrust.loadtesttoy.service.DiskIoRun;
+import com.dw.idstrust.loadtesttoy.service.FetchMode;
+import com.dw.idstrust.loadtesttoy.service.FetchResult;
+import com.dw.idstrust.loadtesttoy.service.GcStressEngine;
+import com.dw.idstrust.loadtesttoy.service.GcStressRun;
+import com.dw.idstrust.loadtesttoy.service.IndexProfile;
+import com.dw.idstrust.loadtesttoy.service.IndexProfileService;
+import com.dw.idstrust.loadtesttoy.service.IndexProfileSwitch;
 import com.dw.idstrust.loadtesttoy.service.LoadGeneratorService;
+import com.dw.idstrust.loadtesttoy.service.MemoryPressureEngine;
+import com.dw.idstrust.loadtesttoy.service.MemoryPressureJob;
+import com.dw.idstrust.loadtesttoy.service.NetworkLoadEngine;
+import com.dw.idstrust.loadtesttoy.service.NetworkLoadRun;
+import com.dw.idstrust.loadtesttoy.service.OrderLockingService;
+import com.dw.idstrust.loadtesttoy.service.OrderSampler;
+import com.dw.idstrust.loadtesttoy.service.QueryCacheService;
+import com.dw.idstrust.loadtesttoy.service.QueryResult;
+import com.dw.idstrust.loadtesttoy.service.QueryStrategy;
+import com.dw.idstrust.loadtesttoy.service.WriteLoadEngine;
+import com.dw.idstrust.loadtesttoy.service.WriteLoadRun;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/workload")
@@ -17,10 +47,33 @@ public class WorkloadController {
 
     private final LoadGeneratorService loadService;
     private final DatabaseService databaseService;
-
-    public WorkloadController(LoadGeneratorService loadService, DatabaseService databaseService) {
+    private final BulkLoadService bulkLoadService;
+    private final QueryCacheService queryCache;
+    private final MemoryPressureEngine memoryEngine;
+    private final GcStressEngine gcEngine;
+    private final DiskIoEngine diskEngine;
+    private final NetworkLoadEngine networkEngine;
+    private final IndexProfileService indexProfiles;
+    private final WriteLoadEngine writeEngine;
+    private final OrderLockingService orderLocking;
+
+    public WorkloadController(LoadGeneratorService loadService, DatabaseService databaseService,
+                              BulkLoadService bulkLoadService, QueryCacheService queryCache,
+                              MemoryPressureEngine memoryEngine, GcStressEngine gcEngine,
+                              DiskIoEngine diskEngine, NetworkLoadEngine networkEngine,
+                              IndexProfileService indexProfiles, WriteLoadEngine writeEngine,
+                              OrderLockingService orderLocking) {
         this.loadService = loadService;
         this.databaseService = databaseService;
+        this.bulkLoadService = bulkLoadService;
+        this.queryCache = queryCache;
+        this.memoryEngine = memoryEngine;
+        this.gcEngine = gcEngine;
+        this.diskEngine = diskEngine;
+        this.networkEngine = networkEngine;
+        this.indexProfiles = indexProfiles;
+        this.writeEngine = writeEngine;
+        this.orderLocking = orderLocking;
     }
 
     // CPU 부하 생성
@@ -28,13 +81,17 @@ public class WorkloadController {
     public ResponseEntity<?> cpuLoad(@RequestBody Map<String, Object> request) {
         int durationMs = (int) request.getOrDefault("durationMs", 1000);
         int cpuPercent = (int) request.getOrDefault("cpuPercent", 50);
+        String kernel = (String) request.getOrDefault("kernel", "spin");
+        int parallelism = (int) request.getOrDefault("parallelism", 1);
 
-        loadService.executeWorkload(durationMs, cpuPercent, 0);
+        loadService.executeWorkload(durationMs, cpuPercent, 0, kernel, parallelism);
 
         return ResponseEntity.ok(Map.of(
                 "status", "completed",
                 "durationMs", durationMs,
-                "cpuPercent", cpuPercent
+                "cpuPercent", cpuPercent,
+                "kernel", kernel,
+                "parallelism", parallelism
         ));
     }
 
@@ -71,58 +128,91 @@ public class WorkloadController {
     }
 
     // DB 조회 부하 (단순 조회)
+    // distribution: uniform | zipf (skew 는 zipf 지수, 클수록 소수 키에 집중)
     @GetMapping("/db/query")
-    public ResponseEntity<?> dbQuery(@RequestParam(defaultValue = "10") int limit) {
-        List<Order> orders = databaseService.findRandomOrders(limit);
+    public ResponseEntity<?> dbQuery(@RequestParam(defaultValue = "10") int limit,
+                                     @RequestParam(defaultValue = "uniform") String distribution,
+                                     @RequestParam(defaultValue = "1.1") double skew) {
+        OrderSampler.Distribution dist = OrderSampler.Distribution.from(distribution);
+        List<Order> orders = databaseService.findRandomOrders(limit, dist, skew);
         return ResponseEntity.ok(Map.of(
                 "status", "completed",
+                "distribution", dist.name().toLowerCase(),
                 "resultCount", orders.size()
         ));
     }
 
     // DB 조회 부하 (복합 쿼리)
+    // mode: serial(트랜잭션 하나에서 차례로) | fanout(하위 쿼리별 커넥션으로 동시 실행, deadline 초과 시 504)
     @PostMapping("/db/complex")
-    public ResponseEntity<?> dbComplexQuery() {
-        databaseService.executeComplexQuery();
-        return ResponseEntity.ok(Map.of(
-                "status", "completed",
-                "queryType", "complex"
-        ));
+    public ResponseEntity<?> dbComplexQuery(@RequestParam(defaultValue = "serial") String mode,
+                                            @RequestParam(defaultValue = "0") int parallelism,
+                                            @RequestParam(defaultValue = "0") long deadlineMs) {
+        ComplexQueryResult result = databaseService.executeComplexQuery(ComplexQueryMode.from(mode), parallelism,
+                deadlineMs > 0 ? Duration.ofMillis(deadlineMs) : null);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", result.timedOut() ? "deadline_exceeded" : "completed");
+        body.put("queryType", "complex");
+        body.putAll(result.toMap());
+        return ResponseEntity.status(result.timedOut() ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.OK).body(body);
     }
 
     // DB 조회 부하 (상태별 조회)
+    // strategy: list(전체 적재) | page(keyset 커서) | stream(fetchSize 단위 점진 처리)
+    // fetch: entity | read_only | projection | aggregate 지정 시 캐시 없이 해당 방식으로 조회하고
+    //        받은 행 수, 데이터 크기, 힙 할당량을 함께 반환 (strategy=list 에만 적용)
     @GetMapping("/db/status/{status}")
-    public ResponseEntity<?> dbQueryByStatus(@PathVariable String status) {
-        List<Order> orders = databaseService.findByStatus(status);
-        return ResponseEntity.ok(Map.of(
-                "status", "completed",
-                "queryStatus", status,
-                "resultCount", orders.size()
-        ));
+    public ResponseEntity<?> dbQueryByStatus(@PathVariable String status,
+                                             @RequestParam(defaultValue = "list") String strategy,
+                                             @RequestParam(defaultValue = "100") int pageSize,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "500") int fetchSize,
+                                             @RequestParam(required = false) String fetch) {
+        if (fetch != null) {
+            requireListStrategy(strategy);
+            return ResponseEntity.ok(fetchResponse("queryStatus", status,
+                    databaseService.fetchByStatus(status, FetchMode.from(fetch))));
+        }
+        QueryResult result = databaseService.queryByStatus(status, QueryStrategy.from(strategy), pageSize, cursor, fetchSize);
+        return ResponseEntity.ok(queryResponse("queryStatus", status, result));
     }
 
     // DB 조회 부하 (고액 주문)
     @GetMapping("/db/high-value")
-    public ResponseEntity<?> dbHighValueOrders(@RequestParam(defaultValue = "500000") long minPrice) {
-        List<Order> orders = databaseService.findHighValueOrders(BigDecimal.valueOf(minPrice));
-        return ResponseEntity.ok(Map.of(
-                "status", "completed",
-                "minPrice", minPrice,
-                "resultCount", orders.size()
-        ));
+    public ResponseEntity<?> dbHighValueOrders(@RequestParam(defaultValue = "500000") long minPrice,
+                                               @RequestParam(defaultValue = "list") String strategy,
+                                               @RequestParam(defaultValue = "100") int pageSize,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "500") int fetchSize,
+                                               @RequestParam(required = false) String fetch) {
+        if (fetch != null) {
+            requireListStrategy(strategy);
+            return ResponseEntity.ok(fetchResponse("minPrice", minPrice,
+                    databaseService.fetchHighValueOrders(BigDecimal.valueOf(minPrice), FetchMode.from(fetch))));
+        }
+        QueryResult result = databaseService.queryHighValueOrders(BigDecimal.valueOf(minPrice),
+                QueryStrategy.from(strategy), pageSize, cursor, fetchSize);
+        return ResponseEntity.ok(queryResponse("minPrice", minPrice, result));
     }
 
     // DB 조회 부하 (기간별 조회)
     @GetMapping("/db/date-range")
-    public ResponseEntity<?> dbDateRangeQuery(@RequestParam(defaultValue = "30") int daysAgo) {
+    public ResponseEntity<?> dbDateRangeQuery(@RequestParam(defaultValue = "30") int daysAgo,
+                                              @RequestParam(defaultValue = "list") String strategy,
+                                              @RequestParam(defaultValue = "100") int pageSize,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "500") int fetchSize,
+                                              @RequestParam(required = false) String fetch) {
         LocalDateTime start = LocalDateTime.now().minusDays(daysAgo);
         LocalDateTime end = LocalDateTime.now();
-        List<Order> orders = databaseService.findOrdersByDateRange(start, end);
-        return ResponseEntity.ok(Map.of(
-                "status", "completed",
-                "daysAgo", daysAgo,
-                "resultCount", orders.size()
-        ));
+        if (fetch != null) {
+            requireListStrategy(strategy);
+            return ResponseEntity.ok(fetchResponse("daysAgo", daysAgo,
+                    databaseService.fetchOrdersByDateRange(start, end, FetchMode.from(fetch))));
+        }
+        QueryResult result = databaseService.queryOrdersByDateRange(start, end,
+                QueryStrategy.from(strategy), pageSize, cursor, fetchSize);
+        return ResponseEntity.ok(queryResponse("daysAgo", daysAgo, result));
     }
 
     // DB + CPU 혼합 부하 (현실적인 시나리오)
@@ -130,9 +220,13 @@ public class WorkloadController {
     public ResponseEntity<?> realisticWorkload(@RequestBody Map<String, Object> request) {
         int durationMs = (int) request.getOrDefault("durationMs", 500);
         int cpuPercent = (int) request.getOrDefault("cpuPercent", 30);
+        ComplexQueryMode mode = ComplexQueryMode.from((String) request.get("mode"));
+        int parallelism = (int) request.getOrDefault("parallelism", 0);
+        int deadlineMs = (int) request.getOrDefault("deadlineMs", 0);
 
         // DB 조회 먼저
-        databaseService.executeComplexQuery();
+        ComplexQueryResult query = databaseService.executeComplexQuery(mode, parallelism,
+                deadlineMs > 0 ? Duration.ofMillis(deadlineMs) : null);
 
         // CPU 작업 수행
         loadService.executeWorkload(durationMs, cpuPercent, 0);
@@ -141,7 +235,10 @@ public class WorkloadController {
                 "status", "completed",
                 "type", "realistic",
                 "durationMs", durationMs,
-                "cpuPercent", cpuPercent
+                "cpuPercent", cpuPercent,
+                "queryMode", mode.name().toLowerCase(),
+                "queryMs", query.elapsedNanos() / 1_000_000.0,
+                "queryTimedOut", query.timedOut()
         ));
     }
 
@@ -155,15 +252,103 @@ public class WorkloadController {
         ));
     }
 
-    // 더미 데이터 추가 생성
+    // 더미 데이터 추가 생성 (비동기 대량 적재 작업, 진행 상황은 jobs API 로 조회)
     @PostMapping("/db/generate")
-    public ResponseEntity<?> generateData(@RequestParam(defaultValue = "100") int count) {
-        databaseService.createDummyOrders(count);
-        return ResponseEntity.ok(Map.of(
-                "status", "completed",
-                "generated", count,
-                "totalCount", databaseService.getOrderCount()
-        ));
+    public ResponseEntity<?> generateData(@RequestParam(defaultValue = "100") int count,
+                                          @RequestParam(defaultValue = "1000") int chunkSize,
+                                          @RequestParam(defaultValue = "1") int parallelism) {
+        if (count < 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid count"));
+        }
+        BulkLoadJob job = bulkLoadService.start(count, chunkSize, parallelism);
+        return ResponseEntity.accepted().body(job.toMap());
+    }
+
+    @GetMapping("/db/generate/jobs")
+    public ResponseEntity<?> generateJobs() {
+        return ResponseEntity.ok(bulkLoadService.getJobs());
+    }
+
+    @GetMapping("/db/generate/jobs/{jobId}")
+    public ResponseEntity<?> generateJob(@PathVariable String jobId) {
+        BulkLoadJob job = bulkLoadService.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job.toMap());
+    }
+
+    // --- Write Workloads ---
+    // 트랜잭션 1회 (k6 용). mode: insert | transition | archive | hot-row, deadlock 이면 409
+    @PostMapping("/db/write/{mode}")
+    public ResponseEntity<?> dbWrite(@PathVariable String mode, @RequestBody(required = false) Map<String, Object> request) {
+        LoadScenarioProperties.WriteProfile profile = writeProfile(request == null ? Map.of() : request);
+        profile.setMode(LoadScenarioProperties.WriteMode.from(mode));
+        profile.setWorkers(1);
+
+        WriteLoadEngine.TransactionResult result = writeEngine.executeOnce(profile);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("mode", profile.getMode().name().toLowerCase());
+        body.putAll(result.toMap());
+        return switch (result.outcome()) {
+            case "committed" -> ResponseEntity.ok(body);
+            case "deadlock" -> ResponseEntity.status(409).body(body);
+            default -> ResponseEntity.status(500).body(body);
+        };
+    }
+
+    // 지속 쓰기 부하 (워커별 전용 커넥션, 세션 통계 포함)
+    @PostMapping("/db/write-load")
+    public ResponseEntity<?> writeLoad(@RequestBody Map<String, Object> request) {
+        LoadScenarioProperties.WriteProfile profile = writeProfile(request);
+        int durationMs = (int) request.getOrDefault("durationMs", 60000);
+
+        WriteLoadRun run = writeEngine.start("workload", profile, durationMs, () -> true);
+        return ResponseEntity.accepted().body(run.toMap());
+    }
+
+    @GetMapping("/db/write-load")
+    public ResponseEntity<?> writeLoadStatus() {
+        return ResponseEntity.ok(writeEngine.snapshot());
+    }
+
+    @GetMapping("/db/write-load/{runId}")
+    public ResponseEntity<?> writeLoadRun(@PathVariable String runId) {
+        WriteLoadRun run = writeEngine.getRun(runId);
+        if (run == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(run.toMap());
+    }
+
+    // --- Index Profile Control ---
+    @GetMapping("/db/index-profiles")
+    public ResponseEntity<?> indexProfiles() {
+        return ResponseEntity.ok(indexProfiles.getProfiles());
+    }
+
+    // profile: none | single | composite (인덱스를 ONLINE 으로 만들고 지우는 비동기 작업)
+    @PostMapping("/db/index-profiles/{profile}")
+    public ResponseEntity<?> switchIndexProfile(@PathVariable String profile) {
+        IndexProfileSwitch job = indexProfiles.switchTo(IndexProfile.from(profile));
+        if (job == null) {
+            return ResponseEntity.status(409).body(Map.of("status", "conflict", "message", "An index profile switch is already running."));
+        }
+        return ResponseEntity.accepted().body(job.toMap());
+    }
+
+    @GetMapping("/db/index-profiles/jobs/{jobId}")
+    public ResponseEntity<?> indexProfileJob(@PathVariable String jobId) {
+        IndexProfileSwitch job = indexProfiles.getSwitch(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job.toMap());
+    }
+
+    @GetMapping("/db/index-profiles/history")
+    public ResponseEntity<?> indexProfileHistory(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(indexProfiles.getHistory(Math.max(1, limit)));
     }
 
     // --- DB Pool Control ---
@@ -187,21 +372,63 @@ public class WorkloadController {
         return ResponseEntity.ok(Map.of("status", "updated", "maxPoolSize", newSize));
     }
 
+    // --- Query Cache Control ---
+    @GetMapping("/cache")
+    public ResponseEntity<?> cacheStats() {
+        return ResponseEntity.ok(queryCache.getStats());
+    }
+
+    // queryType: high-value | status | date-range | count
+    @PostMapping("/cache/{queryType}")
+    public ResponseEntity<?> setCacheEnabled(@PathVariable String queryType, @RequestBody Map<String, Boolean> request) {
+        Boolean enabled = request.get("enabled");
+        if (enabled == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "enabled is required"));
+        }
+        QueryCacheService.QueryType type = QueryCacheService.QueryType.from(queryType);
+        queryCache.setEnabled(type, enabled);
+        return ResponseEntity.ok(Map.of("status", "updated", "queryType", queryType, "enabled", enabled));
+    }
+
+    @PostMapping("/cache/invalidate")
+    public ResponseEntity<?> invalidateCache() {
+        queryCache.invalidateAll();
+        return ResponseEntity.ok(Map.of("status", "invalidated"));
+    }
+
     // '주문 처리' 현실적인 시나리오
+    // locking: none | optimistic | pessimistic | skip-locked, retry: none | immediate | backoff (생략 시 load.locking.*)
     @PostMapping("/process-order")
     public ResponseEntity<?> processOrder(@RequestBody Map<String, String> request) {
         String customerName = request.get("customerName");
         if (customerName == null || customerName.isBlank()) {
             return ResponseEntity.badRequest().body(Map.of("error", "customerName is required"));
         }
+        String locking = request.get("locking");
+        String retry = request.get("retry");
+
+        OrderLockingService.Result result = orderLocking.processRecentOrder(customerName,
+                locking != null ? LockingProperties.Strategy.from(locking) : null,
+                retry != null ? LockingProperties.Retry.from(retry) : null);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "completed");
+        body.put("customerName", customerName);
+        body.put("processed", result.processed());
+        body.putAll(result.toMap());
+        return ResponseEntity.ok(body);
+    }
 
-        boolean processed = databaseService.processRecentOrder(customerName);
+    // 전략별 충돌률, 성공당 재시도 수, 버려진 시도 시간, 잠금 대기 시간
+    @GetMapping("/db/locking")
+    public ResponseEntity<?> lockingStats() {
+        return ResponseEntity.ok(orderLocking.getStats());
+    }
 
-        return ResponseEntity.ok(Map.of(
-                "status", "completed",
-                "customerName", customerName,
-                "processed", processed
-        ));
+    @PostMapping("/db/locking/reset")
+    public ResponseEntity<?> resetLockingStats() {
+        orderLocking.reset();
+        return ResponseEntity.ok(Map.of("status", "reset"));
     }
 
     // CPU + Memory 테스트
@@ -211,13 +438,182 @@ public class WorkloadController {
         int sizeMb = (int) request.getOrDefault("sizeMb", 768);
         int durationMs = (int) request.getOrDefault("durationMs", 60000);
 
-        loadService.executeCpuAndMemoryWorkload(cpuPercent, sizeMb, durationMs);
+        MemoryPressureJob job = loadService.executeCpuAndMemoryWorkload(cpuPercent, sizeMb, durationMs);
 
         return ResponseEntity.ok(Map.of(
                 "status", "started",
+                "jobId", job.getId(),
                 "cpuPercent", cpuPercent,
                 "sizeMb", sizeMb,
                 "durationMs", durationMs
         ));
     }
+
+    // 메모리 부하 (mode: heap | direct | mapped, touchRateMbPerSec: 0 이면 최대 속도로 할당/터치)
+    @PostMapping("/memory")
+    public ResponseEntity<?> memoryTest(@RequestBody Map<String, Object> request) {
+        MemoryPressureEngine.Mode mode = MemoryPressureEngine.Mode.from((String) request.get("mode"));
+        int sizeMb = (int) request.getOrDefault("sizeMb", 256);
+        int durationMs = (int) request.getOrDefault("durationMs", 15000);
+        int touchRateMbPerSec = (int) request.getOrDefault("touchRateMbPerSec", 0);
+
+        MemoryPressureJob job = loadService.executeMemoryWorkload(mode, sizeMb, durationMs, touchRateMbPerSec);
+
+        return ResponseEntity.ok(job.toMap());
+    }
+
+    // 프로세스 RSS, 힙, 다이렉트/맵 버퍼 풀 현황과 최근 메모리 작업
+    @GetMapping("/memory")
+    public ResponseEntity<?> memoryStatus() {
+        return ResponseEntity.ok(memoryEngine.snapshot());
+    }
+
+    @GetMapping("/memory/jobs/{jobId}")
+    public ResponseEntity<?> memoryJob(@PathVariable String jobId) {
+        MemoryPressureJob job = memoryEngine.getJob(jobId);
+        if (job == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(job.toMap());
+    }
+
+    // GC 부하: 할당 속도, 객체 크기 분포, 수명 분포 (예: 95% 즉시 소멸 / 4% survivorGcs 회 생존 / 1% tenured)
+    @PostMapping("/gc")
+    public ResponseEntity<?> gcStress(@RequestBody Map<String, Object> request) {
+        LoadScenarioProperties.GcProfile profile = new LoadScenarioProperties.GcProfile();
+        profile.setAllocationRateMbPerSec(((Number) request.getOrDefault("allocationRateMbPerSec", 200)).doubleValue());
+        profile.setMinObjectBytes((int) request.getOrDefault("minObjectBytes", profile.getMinObjectBytes()));
+        profile.setMaxObjectBytes((int) request.getOrDefault("maxObjectBytes", profile.getMaxObjectBytes()));
+        profile.setShortLivedPercent((int) request.getOrDefault("shortLivedPercent", profile.getShortLivedPercent()));
+        profile.setSurvivorPercent((int) request.getOrDefault("survivorPercent", profile.getSurvivorPercent()));
+        profile.setSurvivorGcs((int) request.getOrDefault("survivorGcs", profile.getSurvivorGcs()));
+        profile.setMaxTenuredMb((int) request.getOrDefault("maxTenuredMb", profile.getMaxTenuredMb()));
+        int durationMs = (int) request.getOrDefault("durationMs", 60000);
+
+        GcStressRun run = gcEngine.start("workload", profile, durationMs, () -> true);
+        return ResponseEntity.accepted().body(run.toMap());
+    }
+
+    // JVM GC 누적치와 최근 GC 부하 실행 결과
+    @GetMapping("/gc")
+    public ResponseEntity<?> gcStatus() {
+        return ResponseEntity.ok(gcEngine.snapshot());
+    }
+
+    @GetMapping("/gc/{runId}")
+    public ResponseEntity<?> gcRun(@PathVariable String runId) {
+        GcStressRun run = gcEngine.getRun(runId);
+        if (run == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(run.toMap());
+    }
+
+    // 디스크 I/O 부하: 순차/랜덤 패턴, 읽기 비율, 블록 크기, 큐 깊이, fsync/mmap/O_DIRECT, 목표 IOPS (0 = 무제한)
+    @PostMapping("/disk")
+    public ResponseEntity<?> diskLoad(@RequestBody Map<String, Object> request) {
+        LoadScenarioProperties.DiskProfile profile = new LoadScenarioProperties.DiskProfile();
+        profile.setPattern(LoadScenarioProperties.DiskPattern.valueOf(
+                String.valueOf(request.getOrDefault("pattern", profile.getPattern().name())).toUpperCase()));
+        profile.setReadPercent((int) request.getOrDefault("readPercent", profile.getReadPercent()));
+        profile.setBlockSize((int) request.getOrDefault("blockSize", profile.getBlockSize()));
+        profile.setQueueDepth((int) request.getOrDefault("queueDepth", profile.getQueueDepth()));
+        profile.setFsync((boolean) request.getOrDefault("fsync", profile.isFsync()));
+        profile.setMmap((boolean) request.getOrDefault("mmap", profile.isMmap()));
+        profile.setDirect((boolean) request.getOrDefault("direct", profile.isDirect()));
+        profile.setTargetIops((int) request.getOrDefault("targetIops", profile.getTargetIops()));
+        profile.setFileSizeMb((int) request.getOrDefault("fileSizeMb", profile.getFileSizeMb()));
+        int durationMs = (int) request.getOrDefault("durationMs", 60000);
+
+        DiskIoRun run = diskEngine.start("workload", profile, durationMs, () -> true);
+        return ResponseEntity.accepted().body(run.toMap());
+    }
+
+    @GetMapping("/disk")
+    public ResponseEntity<?> diskStatus() {
+        return ResponseEntity.ok(diskEngine.snapshot());
+    }
+
+    @GetMapping("/disk/{runId}")
+    public ResponseEntity<?> diskRun(@PathVariable String runId) {
+        DiskIoRun run = diskEngine.getRun(runId);
+        if (run == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(run.toMap());
+    }
+
+    // loopback 네트워크 부하: server=nio|virtual, 메시지 크기, 연결 수, 전체 초당 요청 수 (0 = 응답 즉시 다음 요청)
+    @PostMapping("/network")
+    public ResponseEntity<?> networkLoad(@RequestBody Map<String, Object> request) {
+        LoadScenarioProperties.NetworkProfile profile = new LoadScenarioProperties.NetworkProfile();
+        profile.setServer(LoadScenarioProperties.NetworkServerMode.valueOf(
+                String.valueOf(request.getOrDefault("server", profile.getServer().name())).toUpperCase()));
+        profile.setMessageBytes((int) request.getOrDefault("messageBytes", profile.getMessageBytes()));
+        profile.setConnections((int) request.getOrDefault("connections", profile.getConnections()));
+        profile.setRequestRate((int) request.getOrDefault("requestRate", profile.getRequestRate()));
+        int durationMs = (int) request.getOrDefault("durationMs", 60000);
+
+        NetworkLoadRun run = networkEngine.start("workload", profile, durationMs, () -> true);
+        return ResponseEntity.accepted().body(run.toMap());
+    }
+
+    @GetMapping("/network")
+    public ResponseEntity<?> networkStatus() {
+        return ResponseEntity.ok(networkEngine.snapshot());
+    }
+
+    @GetMapping("/network/{runId}")
+    public ResponseEntity<?> networkRun(@PathVariable String runId) {
+        NetworkLoadRun run = networkEngine.getRun(runId);
+        if (run == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(run.toMap());
+    }
+
+    // 조회 워크로드 응답: status, 요청 파라미터 하나, 결과 요약 순서 (JMH ResponseMapBenchmark 대상)
+    static Map<String, Object> queryResponse(String key, Object value, QueryResult result) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "completed");
+        body.put(key, value);
+        body.putAll(result.toMap());
+        return body;
+    }
+
+    private static void requireListStrategy(String strategy) {
+        if (QueryStrategy.from(strategy) != QueryStrategy.LIST) {
+            throw new IllegalArgumentException("fetch mode applies to strategy=list only");
+        }
+    }
+
+    private static LoadScenarioProperties.WriteProfile writeProfile(Map<String, Object> request) {
+        LoadScenarioProperties.WriteProfile profile = new LoadScenarioProperties.WriteProfile();
+        profile.setMode(LoadScenarioProperties.WriteMode.from(
+                String.valueOf(request.getOrDefault("mode", profile.getMode().name()))));
+        profile.setWorkers((int) request.getOrDefault("workers", profile.getWorkers()));
+        profile.setBatchSize((int) request.getOrDefault("batchSize", profile.getBatchSize()));
+        profile.setHotFraction(((Number) request.getOrDefault("hotFraction", profile.getHotFraction())).doubleValue());
+        profile.setHotKeys((int) request.getOrDefault("hotKeys", profile.getHotKeys()));
+        profile.setTargetTps((int) request.getOrDefault("targetTps", profile.getTargetTps()));
+        return profile;
+    }
+
+    private static Map<String, Object> fetchResponse(String key, Object value, FetchResult fetch) {
+        Map<String, Object> body = queryResponse(key, value, new QueryResult(QueryStrategy.LIST, fetch.resultCount(), null));
+        body.putAll(fetch.toMap());
+        return body;
+    }
+
+    // 복합 조회 fan-out 실행기 큐가 가득 찬 경우
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<?> handleRejected(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", "db fan-out executor saturated"));
+    }
+
+    // 잘못된 strategy 등 요청 파라미터 오류
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<?> handleBadRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(e.getMessage())));
+    }
 }
@@ -42,6 +42,11 @@ public class Order {
     @Column(name = "CREATED_AT", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // @Version 을 쓰지 않는다: 기본 처리 경로는 기존처럼 마지막 쓰기가 이기고(버전만 올림),
+    // 낙관적 잠금 모드에서만 조건부 UPDATE 로 버전을 검사한다 (OrderLockingService)
+    @Column(name = "VERSION", nullable = false)
+    private long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -153,4 +158,12 @@ public class Order {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
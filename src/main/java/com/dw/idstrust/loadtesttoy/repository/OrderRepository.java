@@ -1,19 +1,22 @@
 package com.dw.idstrust.loadtesttoy.repository;
 
 import com.dw.idstrust.loadtesttoy.entity.Order;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
 
     Page<Order> findAll(Pageable pageable);
 
@@ -26,10 +29,83 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
                                       @Param("endDate") LocalDateTime endDate);
 
     @Query("SELECT o FROM Order o WHERE o.totalPrice > :minPrice ORDER BY o.totalPrice DESC")
-    List<Order> findHighValueOrders(@Param("minPrice") java.math.BigDecimal minPrice);
+    List<Order> findHighValueOrders(@Param("minPrice") BigDecimal minPrice);
 
-    @Query(value = "SELECT * FROM ORDERS WHERE ROWNUM <= :limit ORDER BY DBMS_RANDOM.VALUE", nativeQuery = true)
-    List<Order> findRandomOrders(@Param("limit") int limit);
+    // Keyset (seek) pagination: 커서 (afterDate, afterId) 이후의 다음 페이지를 (orderDate, id) 내림차순으로 조회
+    @Query("SELECT o FROM Order o WHERE o.status = :status " +
+            "AND (o.orderDate < :afterDate OR (o.orderDate = :afterDate AND o.id < :afterId)) " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findByStatusAfter(@Param("status") String status,
+                                  @Param("afterDate") LocalDateTime afterDate,
+                                  @Param("afterId") long afterId,
+                                  Limit limit);
+
+    @Query("SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate " +
+            "AND (o.orderDate < :afterDate OR (o.orderDate = :afterDate AND o.id < :afterId)) " +
+            "ORDER BY o.orderDate DESC, o.id DESC")
+    List<Order> findOrdersByDateRangeAfter(@Param("startDate") LocalDateTime startDate,
+                                           @Param("endDate") LocalDateTime endDate,
+                                           @Param("afterDate") LocalDateTime afterDate,
+                                           @Param("afterId") long afterId,
+                                           Limit limit);
+
+    // Keyset pagination: (totalPrice, id) 내림차순
+    @Query("SELECT o FROM Order o WHERE o.totalPrice > :minPrice " +
+            "AND (o.totalPrice < :afterPrice OR (o.totalPrice = :afterPrice AND o.id < :afterId)) " +
+            "ORDER BY o.totalPrice DESC, o.id DESC")
+    List<Order> findHighValueOrdersAfter(@Param("minPrice") BigDecimal minPrice,
+                                         @Param("afterPrice") BigDecimal afterPrice,
+                                         @Param("afterId") long afterId,
+                                         Limit limit);
+
+    // --- fetch mode 비교용: projection / 집계 pushdown (엔티티 조회와 같은 조건) ---
+    @Query("SELECT new com.dw.idstrust.loadtesttoy.repository.OrderSummary(o.id, o.orderNumber, o.status, o.totalPrice, o.orderDate) " +
+            "FROM Order o WHERE o.status = :status")
+    List<OrderSummary> findSummariesByStatus(@Param("status") String status);
+
+    @Query("SELECT new com.dw.idstrust.loadtesttoy.repository.OrderSummary(o.id, o.orderNumber, o.status, o.totalPrice, o.orderDate) " +
+            "FROM Order o WHERE o.totalPrice > :minPrice ORDER BY o.totalPrice DESC")
+    List<OrderSummary> findHighValueSummaries(@Param("minPrice") BigDecimal minPrice);
+
+    @Query("SELECT new com.dw.idstrust.loadtesttoy.repository.OrderSummary(o.id, o.orderNumber, o.status, o.totalPrice, o.orderDate) " +
+            "FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate")
+    List<OrderSummary> findSummariesByDateRange(@Param("startDate") LocalDateTime startDate,
+                                                @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT COUNT(o) AS rowCount, SUM(o.totalPrice) AS totalAmount FROM Order o WHERE o.status = :status")
+    OrderAggregate aggregateByStatus(@Param("status") String status);
+
+    @Query("SELECT COUNT(o) AS rowCount, SUM(o.totalPrice) AS totalAmount FROM Order o WHERE o.totalPrice > :minPrice")
+    OrderAggregate aggregateHighValue(@Param("minPrice") BigDecimal minPrice);
+
+    @Query("SELECT COUNT(o) AS rowCount, SUM(o.totalPrice) AS totalAmount FROM Order o " +
+            "WHERE o.orderDate BETWEEN :startDate AND :endDate")
+    OrderAggregate aggregateByDateRange(@Param("startDate") LocalDateTime startDate,
+                                        @Param("endDate") LocalDateTime endDate);
+
+    interface OrderAggregate {
+        long getRowCount();
+
+        BigDecimal getTotalAmount(); // 대상 행이 없으면 null
+    }
+
+    // 무작위 샘플링용 ID 범위 (OrderSampler 가 주기적으로 갱신)
+    @Query("SELECT MIN(o.id) AS minId, MAX(o.id) AS maxId, COUNT(o) AS rowCount FROM Order o")
+    IdRange findIdRange();
+
+    interface IdRange {
+        Long getMinId();
+
+        Long getMaxId();
+
+        long getRowCount();
+    }
 
     Optional<Order> findTopByCustomerNameAndStatusOrderByOrderDateDesc(String customerName, String status);
+
+    // 낙관적 잠금: 읽은 뒤 다른 트랜잭션이 버전을 올렸거나 이미 PENDING 이 아니면 0 행
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.version = o.version + 1 "
+            + "WHERE o.id = :id AND o.version = :version AND o.status = 'PENDING'")
+    int updateStatusIfVersion(@Param("id") long id, @Param("version") long version, @Param("status") String status);
 }
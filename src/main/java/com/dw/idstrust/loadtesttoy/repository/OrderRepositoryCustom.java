@@ -0,0 +1,28 @@
+package com.dw.idstrust.loadtesttoy.repository;
+
+import com.dw.idstrust.loadtesttoy.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * JDBC fetch size 를 요청마다 지정하는 스트리밍 조회와 Oracle 행 잠금 조회.
+ * 반환된 Stream 은 트랜잭션 안에서 소비하고 반드시 닫아야 한다.
+ */
+public interface OrderRepositoryCustom {
+
+    Stream<Order> streamByStatus(String status, int fetchSize);
+
+    Stream<Order> streamHighValueOrders(BigDecimal minPrice, int fetchSize);
+
+    Stream<Order> streamOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate, int fetchSize);
+
+    /**
+     * 고객의 가장 최근 PENDING 주문을 잠가서 반환한다 (트랜잭션 안에서 호출).
+     * skipLocked=false 면 다른 트랜잭션이 잡은 행의 잠금을 기다리고, 그 사이 처리되어 PENDING 이 아니게 되면 empty.
+     * skipLocked=true 면 잠긴 주문은 건너뛰고 잠기지 않은 가장 최근 PENDING 주문을 잠근다.
+     */
+    Optional<Order> lockRecentPending(String customerName, boolean skipLocked);
+}
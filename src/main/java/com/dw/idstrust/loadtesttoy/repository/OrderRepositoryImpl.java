@@ -0,0 +1,73 @@
+package com.dw.idstrust.loadtesttoy.repository;
+
+import com.dw.idstrust.loadtesttoy.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    // 잠금 대기 후 Oracle 이 문장을 다시 실행하므로(write consistency) 서브쿼리도 최신 값으로 재평가된다
+    private static final String LOCK_RECENT_PENDING_SQL = "SELECT * FROM ORDERS WHERE ID = ("
+            + "SELECT MAX(ID) KEEP (DENSE_RANK LAST ORDER BY ORDER_DATE) FROM ORDERS "
+            + "WHERE CUSTOMER_NAME = :customerName AND STATUS = 'PENDING') "
+            + "AND STATUS = 'PENDING' FOR UPDATE";
+    // SKIP LOCKED 는 fetch 한 행만 잠그므로 fetch size 1 로 첫 행만 읽는다 (FETCH FIRST 와 FOR UPDATE 는 함께 쓸 수 없음)
+    private static final String LOCK_RECENT_PENDING_SKIP_SQL = "SELECT * FROM ORDERS "
+            + "WHERE CUSTOMER_NAME = :customerName AND STATUS = 'PENDING' "
+            + "ORDER BY ORDER_DATE DESC FOR UPDATE SKIP LOCKED";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Order> streamByStatus(String status, int fetchSize) {
+        return stream(entityManager.createQuery(
+                "SELECT o FROM Order o WHERE o.status = :status", Order.class)
+                .setParameter("status", status), fetchSize);
+    }
+
+    @Override
+    public Stream<Order> streamHighValueOrders(BigDecimal minPrice, int fetchSize) {
+        return stream(entityManager.createQuery(
+                "SELECT o FROM Order o WHERE o.totalPrice > :minPrice ORDER BY o.totalPrice DESC", Order.class)
+                .setParameter("minPrice", minPrice), fetchSize);
+    }
+
+    @Override
+    public Stream<Order> streamOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate, int fetchSize) {
+        return stream(entityManager.createQuery(
+                "SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate", Order.class)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate), fetchSize);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<Order> lockRecentPending(String customerName, boolean skipLocked) {
+        Query query = entityManager
+                .createNativeQuery(skipLocked ? LOCK_RECENT_PENDING_SKIP_SQL : LOCK_RECENT_PENDING_SQL, Order.class)
+                .setParameter("customerName", customerName)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 1);
+        try (Stream<Order> orders = query.getResultStream()) {
+            return orders.findFirst();
+        }
+    }
+
+    // 읽은 엔티티는 바로 detach 하여 영속성 컨텍스트가 결과 크기만큼 커지지 않도록 한다.
+    private Stream<Order> stream(TypedQuery<Order> query, int fetchSize) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, Math.max(1, fetchSize))
+                .getResultStream()
+                .map(order -> {
+                    entityManager.detach(order);
+                    return order;
+                });
+    }
+}
@@ -0,0 +1,10 @@
+package com.dw.idstrust.loadtesttoy.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 목록용 좁은 projection. 주소·고객명 등 큰 컬럼을 읽지 않고, 영속성 컨텍스트에 등록되지 않는다.
+ */
+public record OrderSummary(Long id, String orderNumber, String status, BigDecimal totalPrice, LocalDateTime orderDate) {
+}
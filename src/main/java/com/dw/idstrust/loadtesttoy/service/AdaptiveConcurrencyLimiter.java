@@ -0,0 +1,292 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.AdmissionControlProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 측정 지연에 따라 동시 처리 한도를 조정하는 동시성 제한기.
+ * 요청 완료마다 왕복 시간을 경로(route)별로 창(window)에 모으고, 창이 끝나면 경로마다 창 평균 지연을 그 경로의
+ * 기준 지연과 비교한 비율(지연 비율)을 표본 수로 가중 평균해 한도를 다시 계산한다.
+ * 경로마다 기준을 따로 두므로 빠른 상태 조회와 느린 부하 요청이 섞여도 빠른 경로가 기준을 끌어내리지 않는다.
+ * 기준 지연은 창 최소 지연으로 추정한 무부하 지연이다. 과부하가 계속되면 최소 지연도 대기 시간을 포함하므로,
+ * 기준은 항상 더 낮은 값으로는 내려가되 올라가는 것은 한도를 채우지 않은(포화되지 않은) 창에서만 허용한다.
+ * <ul>
+ *   <li>GRADIENT: gradient = clamp(tolerance / 지연 비율, 0.5, 1.0), 새 한도 = 한도 × gradient + √한도 (여유 큐)</li>
+ *   <li>AIMD: 지연 비율 &gt; tolerance 이거나 5xx 가 있으면 × backoffRatio, 아니면 +1</li>
+ * </ul>
+ * 창 동안 동시 처리 수가 한도의 절반에도 못 미쳤으면(부하가 한도를 채우지 않음) 한도를 늘리지 않는다.
+ * 우선순위가 낮은 요청은 한도의 일부까지만 사용할 수 있어 과부하 시 먼저 거절된다.
+ */
+@Service
+public class AdaptiveConcurrencyLimiter {
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private static final double BASELINE_ALPHA = 0.05;
+    private static final int HISTORY_SIZE = 120;
+    // 경로 기준 지연을 따로 두는 최대 경로 수. 넘치는 경로는 OTHER_ROUTE 하나로 묶는다
+    static final int MAX_ROUTES = 64;
+    static final String OTHER_ROUTE = "other";
+
+    public enum Priority {
+        CRITICAL, NORMAL, BATCH;
+
+        /**
+         * @return 이름이 없거나 알 수 없으면 null
+         */
+        public static Priority from(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    public enum Outcome {
+        SUCCESS, DROPPED, IGNORED
+    }
+
+    // 경로 하나의 창 집계와 기준 지연
+    private static final class Route {
+        long samples;
+        long rttSum;
+        long minRtt = Long.MAX_VALUE;
+        double baselineRttNanos;
+    }
+
+    private final AdmissionControlProperties props;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger windowMaxInflight = new AtomicInteger();
+    private final Map<Priority, LongAdder> accepted = new EnumMap<>(Priority.class);
+    private final Map<Priority, LongAdder> rejected = new EnumMap<>(Priority.class);
+    private final LongAdder dropped = new LongAdder();
+    private volatile double limit;
+
+    // 창 집계와 경로별 기준 지연 (lock 보호)
+    private final Object lock = new Object();
+    private long windowStartNanos = System.nanoTime();
+    private long windowSamples;
+    private long windowRttSum;
+    private boolean windowDropped;
+    private final Map<String, Route> routes = new LinkedHashMap<>();
+    private volatile double lastRttNanos;
+    private volatile double lastLatencyRatio = 1.0;
+    private volatile double lastGradient = 1.0;
+    private final ArrayDeque<Map<String, Object>> history = new ArrayDeque<>(HISTORY_SIZE);
+
+    public AdaptiveConcurrencyLimiter(AdmissionControlProperties props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.limit = clamp(props.getInitialLimit());
+        for (Priority p : Priority.values()) {
+            accepted.put(p, new LongAdder());
+            rejected.put(p, new LongAdder());
+            String tag = p.name().toLowerCase();
+            FunctionCounter.builder("load.admission.accepted", accepted.get(p), LongAdder::sum).tag("priority", tag).register(meterRegistry);
+            FunctionCounter.builder("load.admission.rejected", rejected.get(p), LongAdder::sum).tag("priority", tag).register(meterRegistry);
+        }
+        FunctionCounter.builder("load.admission.dropped", dropped, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("load.admission.limit", this, l -> l.limit).register(meterRegistry);
+        Gauge.builder("load.admission.inflight", inflight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 우선순위 몫의 한도 안이면 자리를 하나 점유한다. true 를 받은 호출자는 반드시 {@link #release} 를 호출해야 한다.
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = allowed(priority);
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                accepted.get(priority).increment();
+                windowMaxInflight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param route 지연 기준을 나눌 경로 (보통 매칭된 핸들러 패턴)
+     */
+    public void release(String route, long rttNanos, Outcome outcome) {
+        inflight.decrementAndGet();
+        if (outcome == Outcome.IGNORED) {
+            return;
+        }
+        if (outcome == Outcome.DROPPED) {
+            dropped.increment();
+        }
+        synchronized (lock) {
+            windowSamples++;
+            windowRttSum += rttNanos;
+            windowDropped |= outcome == Outcome.DROPPED;
+            Route r = route(route);
+            r.samples++;
+            r.rttSum += rttNanos;
+            r.minRtt = Math.min(r.minRtt, rttNanos);
+            long now = System.nanoTime();
+            if (now - windowStartNanos >= props.getWindow().toNanos() && windowSamples >= props.getMinWindowSamples()) {
+                updateLimit(now);
+            }
+        }
+    }
+
+    // lock 안에서 호출
+    private Route route(String name) {
+        String key = name == null ? OTHER_ROUTE : name;
+        Route r = routes.get(key);
+        if (r == null) {
+            if (routes.size() >= MAX_ROUTES) {
+                key = OTHER_ROUTE;
+                r = routes.get(key);
+            }
+            if (r == null) {
+                r = new Route();
+                routes.put(key, r);
+            }
+        }
+        return r;
+    }
+
+    // lock 안에서 호출
+    private void updateLimit(long now) {
+        double shortRtt = (double) windowRttSum / windowSamples;
+        double current = limit;
+        boolean appLimited = windowMaxInflight.get() < current / 2;
+        // 경로마다 기준을 갱신하고 (창 평균 / 기준) 을 표본 수로 가중 평균
+        double ratioSum = 0;
+        for (Route r : routes.values()) {
+            if (r.samples == 0) {
+                continue;
+            }
+            if (r.baselineRttNanos == 0 || r.minRtt < r.baselineRttNanos) {
+                r.baselineRttNanos = r.minRtt;
+            } else if (appLimited) {
+                // 여유가 있는 구간에서는 실제 처리 시간 증가(예: 데이터 증가)를 기준에 반영
+                r.baselineRttNanos = r.baselineRttNanos * (1 - BASELINE_ALPHA) + r.minRtt * BASELINE_ALPHA;
+            }
+            double average = (double) r.rttSum / r.samples;
+            ratioSum += r.samples * (average / Math.max(1.0, r.baselineRttNanos));
+        }
+        double ratio = ratioSum / windowSamples;
+        double next;
+        if (props.getAlgorithm() == AdmissionControlProperties.Algorithm.AIMD) {
+            if (windowDropped || ratio > props.getTolerance()) {
+                next = current * props.getBackoffRatio();
+            } else {
+                next = appLimited ? current : current + 1;
+            }
+            lastGradient = next / current;
+        } else {
+            double gradient = windowDropped ? 0.5
+                    : Math.max(0.5, Math.min(1.0, props.getTolerance() / ratio));
+            double target = current * gradient + Math.sqrt(current);
+            if (appLimited) {
+                target = Math.min(target, current);
+            }
+            next = current * (1 - props.getSmoothing()) + target * props.getSmoothing();
+            lastGradient = gradient;
+        }
+        limit = clamp(next);
+        lastRttNanos = shortRtt;
+        lastLatencyRatio = ratio;
+        if ((int) limit != (int) current) {
+            log.debug("Admission limit {} -> {} (rtt={}ms latencyRatio={})", (int) current, (int) limit,
+                    shortRtt / 1_000_000, ratio);
+        }
+
+        if (history.size() == HISTORY_SIZE) {
+            history.removeFirst();
+        }
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("time", System.currentTimeMillis());
+        point.put("limit", (int) limit);
+        point.put("rttMs", shortRtt / 1_000_000.0);
+        point.put("latencyRatio", ratio);
+        point.put("samples", windowSamples);
+        point.put("maxInflight", windowMaxInflight.get());
+        history.addLast(point);
+
+        windowStartNanos = now;
+        windowSamples = 0;
+        windowRttSum = 0;
+        windowDropped = false;
+        for (Route r : routes.values()) {
+            r.samples = 0;
+            r.rttSum = 0;
+            r.minRtt = Long.MAX_VALUE;
+        }
+        windowMaxInflight.set(inflight.get());
+    }
+
+    private double clamp(double value) {
+        return Math.max(props.getMinLimit(), Math.min(props.getMaxLimit(), value));
+    }
+
+    private int allowed(Priority priority) {
+        double share = switch (priority) {
+            case CRITICAL -> 1.0;
+            case NORMAL -> props.getNormalShare();
+            case BATCH -> props.getBatchShare();
+        };
+        return Math.max(1, (int) (limit * share));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", props.isEnabled());
+        result.put("algorithm", props.getAlgorithm().name().toLowerCase());
+        result.put("limit", (int) limit);
+        result.put("inflight", inflight.get());
+        result.put("lastRttMs", lastRttNanos / 1_000_000.0);
+        result.put("lastLatencyRatio", lastLatencyRatio);
+        result.put("lastGradient", lastGradient);
+        Map<String, Object> byPriority = new LinkedHashMap<>();
+        for (Priority p : Priority.values()) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("allowed", allowed(p));
+            stats.put("accepted", accepted.get(p).sum());
+            stats.put("rejected", rejected.get(p).sum());
+            byPriority.put(p.name().toLowerCase(), stats);
+        }
+        result.put("priorities", byPriority);
+        result.put("dropped", dropped.sum());
+        List<Map<String, Object>> points;
+        synchronized (lock) {
+            Map<String, Object> baselines = new LinkedHashMap<>();
+            routes.forEach((name, r) -> baselines.put(name, r.baselineRttNanos / 1_000_000.0));
+            result.put("baselineRttMs", baselines);
+            points = new ArrayList<>(history);
+        }
+        result.put("history", points);
+        return result;
+    }
+}
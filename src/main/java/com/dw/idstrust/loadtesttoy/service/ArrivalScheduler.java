@@ -0,0 +1,116 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop 도착률 스케줄러.
+ * 작업 단위를 미리 계산된 의도 시각(constant 또는 Poisson 간격)에 맞춰 워커 풀로 디스패치하며,
+ * 이전 단위의 완료 여부와 무관하게 다음 단위를 보낸다. 디스패처가 늦어진 경우에도 놓친 단위를 즉시 따라잡는다.
+ */
+class ArrivalScheduler implements Runnable {
+    private static final Logger log = LoggerFactory.getLogger(ArrivalScheduler.class);
+
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final LoadScenarioProperties.Scenario scenario;
+    private final ScenarioRun run;
+    private final ExecutorService workerPool;
+    private final AtomicBoolean running;
+    private final LatencyRecorder latency;
+    private final UnitTask unit;
+
+    @FunctionalInterface
+    interface UnitTask {
+        void execute(long intendedStartNanos);
+    }
+
+    ArrivalScheduler(LoadScenarioProperties.Scenario scenario, ScenarioRun run, ExecutorService workerPool,
+                     AtomicBoolean running, LatencyRecorder latency, UnitTask unit) {
+        this.scenario = scenario;
+        this.run = run;
+        this.workerPool = workerPool;
+        this.running = running;
+        this.latency = latency;
+        this.unit = unit;
+    }
+
+    @Override
+    public void run() {
+        double meanIntervalNanos = 1_000_000_000.0 / scenario.getArrivalRate();
+        boolean poisson = scenario.getArrivalDistribution() == LoadScenarioProperties.ArrivalDistribution.POISSON;
+        long start = System.nanoTime();
+        long end = start + scenario.getDuration().toNanos();
+        double next = start;
+
+        try {
+            while (running.get()) {
+                long intended = (long) next;
+                if (intended - end >= 0) {
+                    break;
+                }
+                if (!awaitUntil(intended)) {
+                    break;
+                }
+                dispatch(intended);
+                next += poisson ? nextExponential(meanIntervalNanos) : meanIntervalNanos;
+            }
+            drain();
+        } finally {
+            run.finish(running.get() ? "completed" : "stopped");
+        }
+    }
+
+    private void dispatch(long intended) {
+        if (!run.tryDispatch(scenario.getMaxInflight())) {
+            return;
+        }
+        boolean correctOmission = scenario.isCorrectCoordinatedOmission();
+        try {
+            workerPool.execute(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    unit.execute(intended);
+                } finally {
+                    long finishedAt = System.nanoTime();
+                    run.unitCompleted(startedAt - intended, finishedAt - startedAt);
+                    // 보정 모드에서는 의도된 시작 시각부터의 응답 시간을 기록 (대기 시간 포함)
+                    latency.recordNanos(finishedAt - (correctOmission ? intended : startedAt));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            run.unitRejected();
+            log.warn("Worker pool rejected open-loop unit for scenario {}", run.getName());
+        }
+    }
+
+    private boolean awaitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (run.getInflight() > 0 && deadline - System.nanoTime() > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private static double nextExponential(double mean) {
+        return -Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * mean;
+    }
+}
@@ -0,0 +1,162 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.service.kernel.CpuKernelRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WorkloadController 부하의 비동기 버전. 요청 스레드를 바로 반납하고 작업을 단계별로 나누어 실행한다.
+ * <ul>
+ *   <li>CPU 창의 busy 구간: asyncCpuPool</li>
+ *   <li>DB 호출, 파일 I/O 1회: asyncBlockingPool</li>
+ *   <li>CPU 창의 idle 구간, ioOps 간격의 남은 시간: TimerWheel (스레드 점유 없음)</li>
+ * </ul>
+ * 동기 경로(LoadGeneratorService.runWorkload)와 같은 순서와 간격으로 실행하므로 두 경로의 처리량을 같은 조건에서 비교할 수 있다.
+ * 단계 사이의 연결(다음 바퀴 예약, CPU 창 마감)은 짧은 작업이라 앞 단계를 완료한 스레드(타이머 스레드 포함)에서 동기로 실행한다.
+ * 요청이 spring.mvc.async.request-timeout 을 넘기면 future 를 TimeoutException 으로 마감하고 남은 단계를 예약하지 않는다.
+ */
+@Service
+public class AsyncWorkloadService {
+
+    private static final long IDLE_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final CpuLoadEngine cpuEngine;
+    private final DiskIoEngine diskEngine;
+    private final DatabaseService databaseService;
+    private final ThreadPoolExecutor cpuPool;
+    private final ThreadPoolExecutor blockingPool;
+    private final TimerWheel timer;
+    private final Duration requestTimeout;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder timedOut = new LongAdder();
+
+    public AsyncWorkloadService(CpuLoadEngine cpuEngine, DiskIoEngine diskEngine, DatabaseService databaseService,
+                                @Qualifier("asyncCpuPool") ThreadPoolExecutor cpuPool,
+                                @Qualifier("asyncBlockingPool") ThreadPoolExecutor blockingPool,
+                                TimerWheel timer,
+                                @Value("${spring.mvc.async.request-timeout:30s}") Duration requestTimeout) {
+        this.cpuEngine = cpuEngine;
+        this.diskEngine = diskEngine;
+        this.databaseService = databaseService;
+        this.cpuPool = cpuPool;
+        this.blockingPool = blockingPool;
+        this.timer = timer;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public CompletableFuture<Void> executeWorkload(int durationMs, int cpuPercent, int ioOps) {
+        return executeWorkload(durationMs, cpuPercent, ioOps, CpuKernelRegistry.DEFAULT_KERNEL, 1);
+    }
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 커널 이름 (호출 스레드에서 바로 발생)
+     */
+    public CompletableFuture<Void> executeWorkload(int durationMs, int cpuPercent, int ioOps, String kernel, int parallelism) {
+        return startWorkload(durationMs, cpuPercent, ioOps, kernel, parallelism, System.nanoTime() + requestTimeout.toNanos());
+    }
+
+    // timeoutAt: 요청 타임아웃 시각 (System.nanoTime 기준)
+    private CompletableFuture<Void> startWorkload(int durationMs, int cpuPercent, int ioOps, String kernel, int parallelism,
+                                                  long timeoutAt) {
+        CpuLoadSession cpu = cpuPercent > 0 ? cpuEngine.open("async-workload", cpuPercent, kernel, parallelism) : null;
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        inflight.incrementAndGet();
+        done.whenComplete((v, t) -> {
+            inflight.decrementAndGet();
+            if (t instanceof TimeoutException) {
+                timedOut.increment();
+            }
+            if (cpu != null) {
+                cpu.close();
+            }
+        });
+        // 응답이 이미 타임아웃으로 나간 요청의 작업을 계속 돌리지 않는다
+        done.orTimeout(Math.max(0, timeoutAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+        iterate(cpu, ioOps, end, done);
+        return done;
+    }
+
+    // DB 복합 쿼리 후 CPU 부하 (/realistic). 요청 타임아웃은 쿼리 시간을 포함해 센다
+    public CompletableFuture<Void> executeRealistic(int durationMs, int cpuPercent) {
+        long timeoutAt = System.nanoTime() + requestTimeout.toNanos();
+        return CompletableFuture.runAsync(databaseService::executeComplexQuery, blockingPool)
+                .thenCompose(v -> startWorkload(durationMs, cpuPercent, 0, CpuKernelRegistry.DEFAULT_KERNEL, 1, timeoutAt));
+    }
+
+    // 동기 경로의 while 루프 한 바퀴를 단계로 나눈 것. 각 단계 완료 시 다음 바퀴를 예약한다.
+    // done 이 이미 끝났으면(타임아웃, 취소) 다음 바퀴를 예약하지 않는다
+    private void iterate(CpuLoadSession cpu, int ioOps, long end, CompletableFuture<Void> done) {
+        if (done.isDone()) {
+            return;
+        }
+        if (System.nanoTime() - end >= 0) {
+            done.complete(null);
+            return;
+        }
+        try {
+            CompletableFuture<Void> step = CompletableFuture.completedFuture(null);
+            if (cpu != null) {
+                step = step.thenComposeAsync(v -> cpuWindow(cpu), cpuPool);
+            }
+            if (ioOps > 0) {
+                long intervalNanos = 1_000_000_000L / ioOps;
+                step = step.thenComposeAsync(v -> {
+                    long opStart = System.nanoTime();
+                    diskEngine.workloadOp();
+                    return timer.delay(intervalNanos - (System.nanoTime() - opStart), TimeUnit.NANOSECONDS);
+                }, blockingPool);
+            } else if (cpu == null) {
+                step = timer.delay(IDLE_TICK_NANOS, TimeUnit.NANOSECONDS);
+            }
+            step.whenComplete((v, t) -> {
+                if (t != null) {
+                    done.completeExceptionally(t);
+                } else {
+                    iterate(cpu, ioOps, end, done);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 타이머 스레드에서 다음 바퀴를 예약하다 풀이 거절한 경우 포함
+            done.completeExceptionally(e);
+        }
+    }
+
+    // busy 구간은 CPU 풀에서, idle 구간은 타이머로 기다린 뒤 창을 마감
+    private CompletableFuture<Void> cpuWindow(CpuLoadSession cpu) {
+        long windowStart = cpuEngine.burnBusy(cpu);
+        return timer.delay(cpuEngine.idleRemainingNanos(windowStart), TimeUnit.NANOSECONDS)
+                .thenRun(() -> cpuEngine.windowCompleted(cpu, windowStart));
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("inflight", inflight.get());
+        result.put("timedOut", timedOut.sum());
+        result.put("cpuPool", poolStats(cpuPool));
+        result.put("blockingPool", poolStats(blockingPool));
+        result.put("timer", timer.stats());
+        return result;
+    }
+
+    private static Map<String, Object> poolStats(ThreadPoolExecutor pool) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("poolSize", pool.getPoolSize());
+        result.put("active", pool.getActiveCount());
+        result.put("queued", pool.getQueue().size());
+        result.put("queueRemaining", pool.getQueue().remainingCapacity());
+        result.put("completed", pool.getCompletedTaskCount());
+        return result;
+    }
+}
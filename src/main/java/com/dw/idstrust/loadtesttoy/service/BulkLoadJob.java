@@ -0,0 +1,78 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 대량 적재 작업의 진행 상태.
+ */
+public class BulkLoadJob {
+
+    private final String id = "bulk-" + UUID.randomUUID().toString().substring(0, 8);
+    private final int requested;
+    private final int chunkSize;
+    private final int parallelism;
+    private final long startedAtMillis = System.currentTimeMillis();
+    private final long startedAtNanos = System.nanoTime();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    private volatile long endedAtNanos;
+    private volatile String status = "running";
+    private volatile String error;
+
+    BulkLoadJob(int requested, int chunkSize, int parallelism) {
+        this.requested = requested;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    void chunkCommitted(int rows) {
+        inserted.addAndGet(rows);
+        commits.incrementAndGet();
+    }
+
+    void complete() {
+        endedAtNanos = System.nanoTime();
+        status = "completed";
+    }
+
+    void fail(Throwable t) {
+        endedAtNanos = System.nanoTime();
+        status = "failed";
+        error = t.getMessage();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public Map<String, Object> toMap() {
+        long elapsedNanos = (endedAtNanos != 0 ? endedAtNanos : System.nanoTime()) - startedAtNanos;
+        long rows = inserted.get();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("jobId", id);
+        result.put("status", status);
+        result.put("requested", requested);
+        result.put("inserted", rows);
+        result.put("progressPercent", requested == 0 ? 100.0 : rows * 100.0 / requested);
+        result.put("chunkSize", chunkSize);
+        result.put("parallelism", parallelism);
+        result.put("commits", commits.get());
+        result.put("elapsedMs", elapsedNanos / 1_000_000);
+        result.put("rowsPerSec", elapsedNanos > 0 ? rows * 1_000_000_000.0 / elapsedNanos : 0.0);
+        if (error != null) {
+            result.put("error", error);
+        }
+        return result;
+    }
+}
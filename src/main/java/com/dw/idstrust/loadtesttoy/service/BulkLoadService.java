@@ -0,0 +1,173 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.entity.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * JPA 를 거치지 않는 대량 주문 적재 경로.
+ * ID 는 시퀀스에서 청크 단위 블록으로 한 번에 할당하고, JDBC 배치(Oracle 배열 바인딩)로 삽입하며,
+ * 청크마다 커밋하여 하나의 거대한 트랜잭션을 만들지 않는다. parallelism 만큼 파티션을 나누어 각자 커넥션을 사용한다.
+ */
+@Service
+public class BulkLoadService {
+    private static final Logger log = LoggerFactory.getLogger(BulkLoadService.class);
+
+    // 쓰기 부하(WriteLoadEngine INSERT 모드)와 공유
+    static final String ALLOCATE_IDS_SQL = "SELECT ORDER_SEQ.NEXTVAL FROM DUAL CONNECT BY LEVEL <= ?";
+    static final String INSERT_SQL = "INSERT INTO ORDERS (ID, ORDER_NUMBER, CUSTOMER_NAME, PRODUCT_NAME, QUANTITY, "
+            + "UNIT_PRICE, TOTAL_PRICE, ORDER_DATE, STATUS, SHIPPING_ADDRESS, CREATED_AT) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    private final DataSource dataSource;
+    private final OrderGenerator orderGenerator;
+    private final DatabaseService databaseService;
+    private final ExecutorService workerPool;
+    private final QueryCacheService queryCache;
+    private final Map<String, BulkLoadJob> jobs = new ConcurrentHashMap<>();
+
+    public BulkLoadService(DataSource dataSource, OrderGenerator orderGenerator, DatabaseService databaseService,
+                           @Qualifier("loadWorkerPool") ExecutorService workerPool, QueryCacheService queryCache) {
+        this.dataSource = dataSource;
+        this.orderGenerator = orderGenerator;
+        this.databaseService = databaseService;
+        this.workerPool = workerPool;
+        this.queryCache = queryCache;
+    }
+
+    public BulkLoadJob start(int count, int chunkSize, int parallelism) {
+        int chunk = Math.max(1, chunkSize);
+        int partitions = Math.max(1, Math.min(parallelism, maxPartitions()));
+        BulkLoadJob job = new BulkLoadJob(count, chunk, partitions);
+        retain(job);
+        log.info("Starting bulk load job {}: {} rows, chunk={}, parallelism={}", job.getId(), count, chunk, partitions);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        int base = count / partitions;
+        int remainder = count % partitions;
+        for (int p = 0; p < partitions; p++) {
+            int rows = base + (p < remainder ? 1 : 0);
+            futures.add(CompletableFuture.runAsync(() -> loadPartition(job, rows, chunk), workerPool));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).whenComplete((v, t) -> {
+            if (t != null) {
+                job.fail(t.getCause() != null ? t.getCause() : t);
+                log.error("Bulk load job {} failed", job.getId(), t);
+            } else {
+                job.complete();
+                log.info("Bulk load job {} completed: {}", job.getId(), job.toMap());
+            }
+        });
+        return job;
+    }
+
+    public BulkLoadJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    public List<Map<String, Object>> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparingLong(BulkLoadJob::getStartedAtMillis).reversed())
+                .map(BulkLoadJob::toMap)
+                .collect(Collectors.toList());
+    }
+
+    private void loadPartition(BulkLoadJob job, int rows, int chunkSize) {
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement idStmt = conn.prepareStatement(ALLOCATE_IDS_SQL);
+                 PreparedStatement insert = conn.prepareStatement(INSERT_SQL)) {
+                idStmt.setFetchSize(chunkSize);
+                int remaining = rows;
+                while (remaining > 0) {
+                    int size = Math.min(chunkSize, remaining);
+                    long[] ids = allocateIds(idStmt, size);
+                    Timestamp now = new Timestamp(System.currentTimeMillis());
+                    for (long id : ids) {
+                        bind(insert, id, orderGenerator.next("ORD-B" + id), now);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                    conn.commit();
+                    queryCache.invalidateAll();
+                    job.chunkCommitted(size);
+                    remaining -= size;
+                }
+            } catch (SQLException e) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackFailure) {
+                    // 롤백 실패가 원래의 배치/커밋 오류를 가리지 않도록 붙여서 던진다
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Bulk load partition failed: " + e.getMessage(), e);
+        }
+    }
+
+    // 시퀀스 값 블록을 한 번의 라운드트립으로 할당
+    static long[] allocateIds(PreparedStatement idStmt, int size) throws SQLException {
+        long[] ids = new long[size];
+        idStmt.setInt(1, size);
+        try (ResultSet rs = idStmt.executeQuery()) {
+            int i = 0;
+            while (rs.next() && i < size) {
+                ids[i++] = rs.getLong(1);
+            }
+            if (i < size) {
+                throw new SQLException("Sequence block allocation returned " + i + " of " + size + " ids");
+            }
+        }
+        return ids;
+    }
+
+    static void bind(PreparedStatement ps, long id, Order order, Timestamp createdAt) throws SQLException {
+        ps.setLong(1, id);
+        ps.setString(2, order.getOrderNumber());
+        ps.setString(3, order.getCustomerName());
+        ps.setString(4, order.getProductName());
+        ps.setInt(5, order.getQuantity());
+        ps.setBigDecimal(6, order.getUnitPrice());
+        ps.setBigDecimal(7, order.getTotalPrice());
+        ps.setTimestamp(8, Timestamp.valueOf(order.getOrderDate()));
+        ps.setString(9, order.getStatus());
+        ps.setString(10, order.getShippingAddress());
+        ps.setTimestamp(11, createdAt);
+    }
+
+    // 파티션마다 커넥션을 하나씩 점유하므로 풀의 절반까지만 사용하여 다른 요청의 여유를 남긴다.
+    private int maxPartitions() {
+        int maxPool = databaseService.getMaxPoolSize();
+        return maxPool > 0 ? Math.max(1, maxPool / 2) : 1;
+    }
+
+    private void retain(BulkLoadJob job) {
+        jobs.put(job.getId(), job);
+        if (jobs.size() > MAX_RETAINED_JOBS) {
+            jobs.values().stream()
+                    .filter(j -> !"running".equals(j.getStatus()))
+                    .min(Comparator.comparingLong(BulkLoadJob::getStartedAtMillis))
+                    .ifPresent(oldest -> jobs.remove(oldest.getId()));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+/**
+ * 복합 조회 실행 방식.
+ * SERIAL: 읽기 전용 트랜잭션 하나(커넥션 1개)에서 하위 쿼리를 차례로 실행, FANOUT: 하위 쿼리별 커넥션으로 동시 실행 (scatter-gather).
+ */
+public enum ComplexQueryMode {
+    SERIAL, FANOUT;
+
+    public static ComplexQueryMode from(String value) {
+        return value == null || value.isBlank() ? SERIAL : valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,25 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 복합 조회 결과. 하위 쿼리별 행 수와 소요 시간, 병합 결과(중복 제거한 주문 수와 금액 합계)를 담는다.
+ * deadline 을 넘긴 fan-out 은 끝난 하위 쿼리만 병합하고 timedOut 을 표시한다.
+ */
+public record ComplexQueryResult(ComplexQueryMode mode, int parallelism, boolean timedOut, long elapsedNanos,
+                                 Map<String, Map<String, Object>> queries, long distinctOrders, BigDecimal totalAmount) {
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", mode.name().toLowerCase());
+        result.put("parallelism", parallelism);
+        result.put("timedOut", timedOut);
+        result.put("elapsedMs", elapsedNanos / 1_000_000.0);
+        result.put("queries", queries);
+        result.put("distinctOrders", distinctOrders);
+        result.put("totalAmount", totalAmount);
+        return result;
+    }
+}
@@ -0,0 +1,226 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.service.kernel.CpuKernel;
+import com.dw.idstrust.loadtesttoy.service.kernel.CpuKernelRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * 프로세스 전체 CPU 사용률을 목표치에 맞추는 폐루프 CPU 부하 엔진.
+ * 워커는 고정 길이 창(window) 중 duty cycle 만큼 스핀하고 나머지는 park 하며,
+ * 제어기는 주기마다 프로세스 CPU 시간(OperatingSystemMXBean)으로 실제 사용률을 측정해
+ * PI 제어로 공유 duty cycle 을 조정한다. 동시에 여러 세션이 열려 있으면 가장 높은 목표치를 따른다.
+ * 워커 수에 따라 duty cycle 대비 사용률 이득이 달라지므로, 직전 주기에 워커가 점유한 창 시간으로 오차를 정규화한다.
+ * busy 구간에서 실행할 연산은 세션별 {@link CpuKernel} 이 정하며, parallelism 이 2 이상이면
+ * 코어 수 크기의 ForkJoinPool 로 같은 마감 시각까지 커널을 병렬 실행한다.
+ */
+@Service
+public class CpuLoadEngine {
+    private static final Logger log = LoggerFactory.getLogger(CpuLoadEngine.class);
+
+    private static final double KP = 0.4;
+    private static final double KI = 0.3;
+    private static final double MIN_GAIN = 0.05;
+
+    private final com.sun.management.OperatingSystemMXBean osBean;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final int processors = Runtime.getRuntime().availableProcessors();
+    private final long windowNanos;
+    private final CpuKernelRegistry kernels;
+    private final ForkJoinPool kernelPool;
+
+    private final Set<CpuLoadSession> sessions = ConcurrentHashMap.newKeySet();
+    private final LongAdder windowNanosSinceTick = new LongAdder();
+
+    private volatile double dutyCycle = 0.5;
+    private volatile double lastUtilization;
+    private double lastError;
+    private long lastCpuNanos = -1;
+    private long lastTickNanos;
+
+    // 커널 결과를 버리지 않도록 (JIT dead-code 제거 방지)
+    private static volatile long sink;
+
+    public CpuLoadEngine(@Value("${load.cpu.window-ms:100}") long windowMs, CpuKernelRegistry kernels) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+        this.kernels = kernels;
+        this.kernelPool = new ForkJoinPool(processors);
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        this.osBean = os instanceof com.sun.management.OperatingSystemMXBean sun ? sun : null;
+        if (osBean == null) {
+            log.warn("Process CPU time is not available, CPU load runs open-loop at the requested duty cycle");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        kernelPool.shutdownNow();
+    }
+
+    public CpuLoadSession open(String owner, int cpuPercent) {
+        return open(owner, cpuPercent, CpuKernelRegistry.DEFAULT_KERNEL, 1);
+    }
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 커널 이름
+     */
+    public CpuLoadSession open(String owner, int cpuPercent, String kernel, int parallelism) {
+        CpuLoadSession session = new CpuLoadSession(owner, Math.max(0, Math.min(100, cpuPercent)),
+                kernels.get(kernel), Math.max(1, Math.min(processors, parallelism)), this);
+        if (sessions.isEmpty() && osBean == null) {
+            dutyCycle = session.getRequestedPercent() / 100.0;
+        }
+        sessions.add(session);
+        return session;
+    }
+
+    void release(CpuLoadSession session) {
+        sessions.remove(session);
+    }
+
+    /**
+     * 창 하나 동안 현재 duty cycle 만큼 커널을 실행하고 나머지 시간은 park 한다.
+     * 워커 스레드가 실제로 소비한 CPU 시간을 세션에 누적한다.
+     */
+    public void burn(CpuLoadSession session) {
+        long windowStart = burnBusy(session);
+        long remaining;
+        while ((remaining = idleRemainingNanos(windowStart)) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+        windowCompleted(session, windowStart);
+    }
+
+    /**
+     * 창의 busy 구간만 실행하고 창 시작 시각을 반환한다. idle 구간은 호출자가 스레드를 점유하지 않고 기다린 뒤
+     * {@link #windowCompleted} 를 호출한다 (비동기 경로).
+     */
+    public long burnBusy(CpuLoadSession session) {
+        long windowStart = System.nanoTime();
+        long busyDeadline = windowStart + (long) (windowNanos * dutyCycle);
+        int parallelism = session.getParallelism();
+        if (parallelism > 1 && busyDeadline - windowStart > 0) {
+            List<ForkJoinTask<?>> forks = new ArrayList<>(parallelism - 1);
+            for (int i = 1; i < parallelism; i++) {
+                forks.add(kernelPool.submit(() -> runKernel(session, busyDeadline)));
+            }
+            runKernel(session, busyDeadline);
+            forks.forEach(ForkJoinTask::join);
+        } else {
+            runKernel(session, busyDeadline);
+        }
+        return windowStart;
+    }
+
+    public long idleRemainingNanos(long windowStart) {
+        return windowStart + windowNanos - System.nanoTime();
+    }
+
+    public void windowCompleted(CpuLoadSession session, long windowStart) {
+        session.windowCompleted();
+        windowNanosSinceTick.add((System.nanoTime() - windowStart) * session.getParallelism());
+    }
+
+    // 마감 시각까지 커널 반복. 풀이 밀려 늦게 시작한 병렬 조각은 즉시 끝난다.
+    private void runKernel(CpuLoadSession session, long deadline) {
+        CpuKernel kernel = session.getKernel();
+        long threadCpuStart = threadBean.getCurrentThreadCpuTime();
+        long acc = 0;
+        long ops = 0;
+        while (System.nanoTime() - deadline < 0) {
+            acc += kernel.execute();
+            ops++;
+        }
+        sink = acc;
+        long threadCpuEnd = threadBean.getCurrentThreadCpuTime();
+        if (threadCpuStart >= 0 && threadCpuEnd >= 0) {
+            session.addWorkerCpu(threadCpuEnd - threadCpuStart);
+        }
+        session.addKernelOps(ops);
+    }
+
+    @Scheduled(fixedRateString = "${load.cpu.window-ms:100}")
+    public void control() {
+        if (osBean == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long cpuNanos = osBean.getProcessCpuTime();
+        long windowSum = windowNanosSinceTick.sumThenReset();
+        if (lastCpuNanos < 0 || cpuNanos < 0 || sessions.isEmpty()) {
+            lastCpuNanos = cpuNanos;
+            lastTickNanos = now;
+            lastError = 0;
+            return;
+        }
+        long elapsed = now - lastTickNanos;
+        double utilization = elapsed > 0 ? (double) (cpuNanos - lastCpuNanos) / elapsed / processors : 0.0;
+        lastCpuNanos = cpuNanos;
+        lastTickNanos = now;
+        lastUtilization = utilization;
+
+        double target = sessions.stream().mapToInt(CpuLoadSession::getRequestedPercent).max().orElse(0) / 100.0;
+        // duty 1.0 일 때 워커가 만들 수 있는 최대 사용률 (플랜트 이득)
+        double gain = Math.max(MIN_GAIN, elapsed > 0 ? (double) windowSum / elapsed / processors : MIN_GAIN);
+        double error = target - utilization;
+        dutyCycle = nextDutyCycle(dutyCycle, error, lastError, gain);
+        lastError = error;
+
+        for (CpuLoadSession session : sessions) {
+            session.addProcessSample(utilization);
+        }
+    }
+
+    // 속도형 PI: duty 변화량 = (KP × 오차 변화 + KI × 오차) / 플랜트 이득, 결과는 0 ~ 1
+    static double nextDutyCycle(double dutyCycle, double error, double lastError, double gain) {
+        double next = dutyCycle + (KP * (error - lastError) + KI * error) / gain;
+        return Math.max(0.0, Math.min(1.0, next));
+    }
+
+    /**
+     * 프로세스 전체 누적 CPU 시간(ns). 측정할 수 없으면 -1
+     */
+    public long processCpuNanos() {
+        return osBean == null ? -1 : osBean.getProcessCpuTime();
+    }
+
+    public int getProcessors() {
+        return processors;
+    }
+
+    public Map<String, Object> snapshot() {
+        List<Map<String, Object>> active = sessions.stream()
+                .map(CpuLoadSession::toMap)
+                .collect(Collectors.toList());
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("closedLoop", osBean != null);
+        result.put("processors", processors);
+        result.put("windowMs", TimeUnit.NANOSECONDS.toMillis(windowNanos));
+        result.put("kernels", kernels.names());
+        result.put("targetCpuPercent", sessions.stream().mapToInt(CpuLoadSession::getRequestedPercent).max().orElse(0));
+        result.put("measuredCpuPercent", lastUtilization * 100.0);
+        result.put("dutyCycle", dutyCycle);
+        result.put("sessions", active);
+        return result;
+    }
+}
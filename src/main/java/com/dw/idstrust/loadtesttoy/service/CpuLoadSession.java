@@ -0,0 +1,106 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.service.kernel.CpuKernel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 하나의 CPU 부하 요청(시나리오 실행 또는 단건 워크로드)에 대한 목표치와 달성치.
+ * 달성치는 세션이 열려 있는 동안 제어기가 측정한 프로세스 CPU 사용률의 평균과,
+ * 워커 스레드가 실제로 소비한 CPU 시간(ThreadMXBean)으로 나누어 보고한다.
+ */
+public class CpuLoadSession implements AutoCloseable {
+
+    private final String owner;
+    private final int requestedPercent;
+    private final CpuKernel kernel;
+    private final int parallelism;
+    private final CpuLoadEngine engine;
+    private final long openedAtNanos = System.nanoTime();
+    private volatile long closedAtNanos;
+
+    private final LongAdder workerCpuNanos = new LongAdder();
+    private final LongAdder burnWindows = new LongAdder();
+    private final LongAdder kernelOps = new LongAdder();
+    // 제어기 스레드만 기록
+    private volatile double processUtilizationSum;
+    private volatile long processSamples;
+
+    CpuLoadSession(String owner, int requestedPercent, CpuKernel kernel, int parallelism, CpuLoadEngine engine) {
+        this.owner = owner;
+        this.requestedPercent = requestedPercent;
+        this.kernel = kernel;
+        this.parallelism = parallelism;
+        this.engine = engine;
+    }
+
+    void addWorkerCpu(long nanos) {
+        workerCpuNanos.add(nanos);
+    }
+
+    void addKernelOps(long ops) {
+        kernelOps.add(ops);
+    }
+
+    void windowCompleted() {
+        burnWindows.increment();
+    }
+
+    void addProcessSample(double utilization) {
+        processUtilizationSum += utilization;
+        processSamples++;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public int getRequestedPercent() {
+        return requestedPercent;
+    }
+
+    public CpuKernel getKernel() {
+        return kernel;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isClosed() {
+        return closedAtNanos != 0;
+    }
+
+    @Override
+    public void close() {
+        if (closedAtNanos == 0) {
+            closedAtNanos = System.nanoTime();
+            engine.release(this);
+        }
+    }
+
+    public Map<String, Object> toMap() {
+        long samples = processSamples;
+        long elapsedNanos = (isClosed() ? closedAtNanos : System.nanoTime()) - openedAtNanos;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("owner", owner);
+        result.put("kernel", kernel.name());
+        result.put("parallelism", parallelism);
+        result.put("requestedCpuPercent", requestedPercent);
+        result.put("achievedCpuPercent", samples > 0 ? processUtilizationSum / samples * 100.0 : 0.0);
+        result.put("workerCpuMs", workerCpuNanos.sum() / 1_000_000.0);
+        // 워커 CPU 시간을 경과 시간 x 코어 수로 나눈, 이 세션의 워커가 직접 만든 사용률
+        result.put("workerCpuPercent", elapsedNanos > 0
+                ? workerCpuNanos.sum() * 100.0 / elapsedNanos / Runtime.getRuntime().availableProcessors() : 0.0);
+        result.put("burnWindows", burnWindows.sum());
+        // 커널 실행 횟수와 CPU ms 당 처리량 (JIT 워밍업, 벡터화, 캐시 효과 비교용)
+        long ops = kernelOps.sum();
+        long cpuNanos = workerCpuNanos.sum();
+        result.put("kernelOps", ops);
+        result.put("kernelOpsPerCpuMs", cpuNanos > 0 ? ops * 1_000_000.0 / cpuNanos : 0.0);
+        result.put("closed", isClosed());
+        return result;
+    }
+}
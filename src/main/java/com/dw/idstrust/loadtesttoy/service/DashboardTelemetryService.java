@@ -0,0 +1,182 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대시보드 상태를 백그라운드에서 한 번만 수집하여 모든 브라우저에 SSE 로 전달한다.
+ * 연결 시 전체 스냅샷("snapshot")을, 이후에는 바뀐 항목만("delta") 보내므로
+ * 열린 대시보드 수와 무관하게 DB / k6 조회 비용이 일정하다. 구독자가 없으면 수집하지 않는다.
+ * 전송은 구독자별 큐를 가상 스레드가 비우는 방식이라, 느린 브라우저가 수집 주기나 다른 구독자를 막지 않는다.
+ */
+@Service
+public class DashboardTelemetryService {
+    private static final Logger log = LoggerFactory.getLogger(DashboardTelemetryService.class);
+    // 이만큼 밀린 구독자는 연결을 끊는다 (기본 주기 2초 기준 약 1분)
+    private static final int MAX_PENDING_EVENTS = 30;
+
+    private final LoadGeneratorService loadService;
+    private final DatabaseService databaseService;
+    private final K6ControlService k6Service;
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("sse-send-", 0).factory());
+
+    private Map<String, Object> current;
+
+    public DashboardTelemetryService(LoadGeneratorService loadService,
+                                     DatabaseService databaseService,
+                                     K6ControlService k6Service) {
+        this.loadService = loadService;
+        this.databaseService = databaseService;
+        this.k6Service = k6Service;
+    }
+
+    public synchronized SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        if (current == null) {
+            current = sampleSnapshot();
+        }
+        subscribers.add(subscriber);
+        subscriber.enqueue("snapshot", current);
+        return emitter;
+    }
+
+    // 큐에 넣기만 하므로 잠금 안에서도 전송을 기다리지 않는다 (구독 시 snapshot 이 delta 보다 먼저 들어가도록 같은 잠금 사용)
+    @Scheduled(fixedRateString = "${dashboard.telemetry.interval-ms:2000}")
+    public synchronized void publish() {
+        if (subscribers.isEmpty()) {
+            current = null;
+            return;
+        }
+        Map<String, Object> next = sampleSnapshot();
+        Map<String, Object> delta = diff(current, next);
+        current = next;
+        if (!delta.isEmpty()) {
+            subscribers.forEach(subscriber -> subscriber.enqueue("delta", delta));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private Map<String, Object> sampleSnapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("appRunning", loadService.isRunning());
+        snapshot.put("k6", k6Service.getStatus());
+        try {
+            snapshot.put("orderCount", databaseService.getOrderCount());
+            snapshot.put("maxPoolSize", databaseService.getMaxPoolSize());
+            snapshot.put("pool", databaseService.getPoolStatus());
+        } catch (Exception e) {
+            log.warn("Failed to sample database telemetry: {}", e.getMessage());
+        }
+        snapshot.put("sampledAt", System.currentTimeMillis());
+        return Map.copyOf(snapshot);
+    }
+
+    // 값이 바뀐 최상위 항목만 포함
+    private static Map<String, Object> diff(Map<String, Object> previous, Map<String, Object> next) {
+        if (previous == null) {
+            return next;
+        }
+        Map<String, Object> delta = new LinkedHashMap<>();
+        next.forEach((key, value) -> {
+            if (!"sampledAt".equals(key) && !Objects.equals(previous.get(key), value)) {
+                delta.put(key, value);
+            }
+        });
+        if (!delta.isEmpty()) {
+            delta.put("sampledAt", next.get("sampledAt"));
+        }
+        return delta;
+    }
+
+    /**
+     * 구독자별 전송 큐. 한 번에 한 스레드만 큐를 비우므로 이벤트 순서가 유지된다.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(String event, Map<String, Object> data) {
+            if (closed) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > MAX_PENDING_EVENTS) {
+                close(new IOException("SSE subscriber is too slow (" + MAX_PENDING_EVENTS + " events pending)"));
+                return;
+            }
+            pending.add(SseEmitter.event().name(event).data(data));
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder next;
+                while (!closed && (next = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    try {
+                        emitter.send(next);
+                    } catch (IOException | IllegalStateException e) {
+                        close(e);
+                        return;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // 비우는 사이에 들어온 이벤트
+            if (!closed && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close(Exception e) {
+            closed = true;
+            subscribers.remove(this);
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -1,27 +1,49 @@
 package com.dw.idstrust.loadtesttoy.service;
 
+import com.dw.idstrust.loadtesttoy.config.ExecutionProperties;
 import com.dw.idstrust.loadtesttoy.entity.Order;
 import com.dw.idstrust.loadtesttoy.repository.OrderRepository;
+import com.dw.idstrust.loadtesttoy.repository.OrderSummary;
 import com.zaxxer.hikari.HikariDataSource;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
-import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 public class DatabaseService {
@@ -30,36 +52,38 @@ public class DatabaseService {
     private final OrderRepository orderRepository;
     private final DataSource dataSource;
     private final MeterRegistry meterRegistry;
-    private final Random random = new Random();
-
-    private static final String[] CUSTOMER_NAMES = {
-            "김철수", "이영희", "박민수", "최지원", "정현우",
-            "강서연", "윤태영", "임수진", "한지훈", "오민지",
-            "서준호", "권나영", "송재현", "안혜진", "장동민"
-    };
-
-    private static final String[] PRODUCT_NAMES = {
-            "노트북", "스마트폰", "태블릿", "모니터", "키보드",
-            "마우스", "헤드셋", "웹캠", "SSD", "RAM",
-            "그래픽카드", "파워서플라이", "케이스", "쿨러", "메인보드"
-    };
-
-    private static final String[] STATUSES = {
-            "PENDING", "CONFIRMED", "SHIPPED", "DELIVERED", "CANCELLED"
-    };
-
-    private static final String[] ADDRESSES = {
-            "서울특별시 강남구 테헤란로 123",
-            "서울특별시 송파구 올림픽로 456",
-            "경기도 성남시 분당구 정자일로 789",
-            "서울특별시 마포구 월드컵북로 321",
-            "인천광역시 연수구 센트럴로 654"
-    };
-
-    public DatabaseService(OrderRepository orderRepository, DataSource dataSource, MeterRegistry meterRegistry) {
+    private final OrderGenerator orderGenerator;
+    private final OrderSampler orderSampler;
+    private final QueryCacheService queryCache;
+    // 캐시 적중 시 커넥션을 잡지 않도록, 캐시 대상 조회는 로더 안에서만 트랜잭션을 연다.
+    private final TransactionTemplate readOnlyTx;
+    // FetchMode.ENTITY: 읽기 전용 최적화 없이 커밋 시 flush(dirty checking) 까지 수행
+    private final TransactionTemplate readWriteTx;
+    private final PlatformTransactionManager transactionManager;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final ThreadPoolExecutor fanoutPool;
+    private final ExecutionProperties.Fanout fanout;
+
+    public DatabaseService(OrderRepository orderRepository, DataSource dataSource, MeterRegistry meterRegistry,
+                           OrderGenerator orderGenerator, OrderSampler orderSampler, QueryCacheService queryCache,
+                           PlatformTransactionManager transactionManager,
+                           @Qualifier("dbFanoutPool") ThreadPoolExecutor fanoutPool, ExecutionProperties executionProps) {
         this.orderRepository = orderRepository;
         this.dataSource = dataSource;
         this.meterRegistry = meterRegistry;
+        this.orderGenerator = orderGenerator;
+        this.orderSampler = orderSampler;
+        this.queryCache = queryCache;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setTimeout(10);
+        this.readWriteTx = new TransactionTemplate(transactionManager);
+        this.readWriteTx.setTimeout(10);
+        this.transactionManager = transactionManager;
+        this.threadBean = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sun
+                && sun.isThreadAllocatedMemorySupported() ? sun : null;
+        this.fanoutPool = fanoutPool;
+        this.fanout = executionProps.getFanout();
     }
 
     // @PostConstruct
@@ -79,7 +103,7 @@ public class DatabaseService {
     public void createDummyOrders(int count) {
         List<Order> orders = new ArrayList<>();
         for (int i = 0; i < count; i++) {
-            orders.add(generateRandomOrder());
+            orders.add(orderGenerator.next());
             if (orders.size() >= 100) {
                 orderRepository.saveAll(orders);
                 orders.clear();
@@ -88,27 +112,14 @@ public class DatabaseService {
         if (!orders.isEmpty()) {
             orderRepository.saveAll(orders);
         }
-    }
-
-    private Order generateRandomOrder() {
-        String orderNumber = "ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        String customerName = CUSTOMER_NAMES[random.nextInt(CUSTOMER_NAMES.length)];
-        String productName = PRODUCT_NAMES[random.nextInt(PRODUCT_NAMES.length)];
-        Integer quantity = random.nextInt(10) + 1;
-        BigDecimal unitPrice = BigDecimal.valueOf(10000 + random.nextInt(990000));
-        BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
-        LocalDateTime orderDate = LocalDateTime.now().minusDays(random.nextInt(365));
-        String status = STATUSES[random.nextInt(STATUSES.length)];
-        String address = ADDRESSES[random.nextInt(ADDRESSES.length)];
-
-        return new Order(orderNumber, customerName, productName, quantity,
-                unitPrice, totalPrice, orderDate, status, address);
+        queryCache.invalidateAfterCommit(List.of(QueryCacheService.QueryType.values()));
     }
 
     // 다양한 조회 쿼리 (부하 생성용)
+    // 기본키 무작위 조회 (uniform 또는 zipf 로 핫 키 편중 재현)
     @Transactional(readOnly = true, timeout = 10)
-    public List<Order> findRandomOrders(int limit) {
-        return orderRepository.findRandomOrders(limit);
+    public List<Order> findRandomOrders(int limit, OrderSampler.Distribution distribution, double skew) {
+        return orderSampler.sample(limit, distribution, skew);
     }
 
     @Transactional(readOnly = true, timeout = 10)
@@ -116,33 +127,349 @@ public class DatabaseService {
         return orderRepository.findAll(PageRequest.of(page, size, Sort.by("orderDate").descending()));
     }
 
-    @Transactional(readOnly = true, timeout = 10)
     public List<Order> findByStatus(String status) {
-        return orderRepository.findByStatus(status);
+        return queryCache.get(QueryCacheService.QueryType.STATUS, status,
+                () -> readOnly(() -> orderRepository.findByStatus(status)));
     }
 
-    @Transactional(readOnly = true, timeout = 10)
     public List<Order> findHighValueOrders(BigDecimal minPrice) {
-        return orderRepository.findHighValueOrders(minPrice);
+        return queryCache.get(QueryCacheService.QueryType.HIGH_VALUE, minPrice,
+                () -> readOnly(() -> orderRepository.findHighValueOrders(minPrice)));
     }
 
-    @Transactional(readOnly = true, timeout = 10)
+    // 캐시가 켜져 있을 때만 기간 경계를 분 단위로 맞춰 같은 분 안의 요청이 캐시 항목을 공유하도록 한다.
+    // 시작은 내림, 끝은 올림하여 요청한 기간이 항상 포함되게 한다. 캐시가 꺼져 있으면 요청한 경계 그대로 조회.
     public List<Order> findOrdersByDateRange(LocalDateTime start, LocalDateTime end) {
-        return orderRepository.findOrdersByDateRange(start, end);
+        if (!queryCache.isEnabled(QueryCacheService.QueryType.DATE_RANGE)) {
+            return readOnly(() -> orderRepository.findOrdersByDateRange(start, end));
+        }
+        LocalDateTime from = start.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime truncatedEnd = end.truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime to = truncatedEnd.equals(end) ? end : truncatedEnd.plusMinutes(1);
+        return queryCache.get(QueryCacheService.QueryType.DATE_RANGE, List.of(from, to),
+                () -> readOnly(() -> orderRepository.findOrdersByDateRange(from, to)));
     }
 
-    // 복합 쿼리 부하 생성
-    @Transactional(readOnly = true, timeout = 10)
-    public void executeComplexQuery() {
-        // 여러 쿼리를 조합하여 DB 부하 생성
-        findOrdersWithPagination(0, 50);
-        findByStatus("CONFIRMED");
-        findHighValueOrders(BigDecimal.valueOf(500000));
-        findOrdersByDateRange(LocalDateTime.now().minusMonths(1), LocalDateTime.now());
+    private <T> T readOnly(Supplier<T> query) {
+        return readOnlyTx.execute(status -> query.get());
+    }
+
+    // --- 조회 전략별 (list / keyset page / stream) 워크로드 ---
+    // 첫 페이지 커서: 모든 실제 값보다 큰 값 (Oracle TIMESTAMP / NUMBER(12,2) 범위 내)
+    private static final LocalDateTime FIRST_PAGE_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final BigDecimal FIRST_PAGE_PRICE = new BigDecimal("9999999999999");
+
+    public QueryResult queryByStatus(String status, QueryStrategy strategy, int pageSize, String cursor, int fetchSize) {
+        return switch (strategy) {
+            case LIST -> new QueryResult(strategy, findByStatus(status).size(), null);
+            case PAGE -> {
+                PageCursor.checkPageSize(pageSize);
+                PageCursor after = PageCursor.parse(cursor);
+                LocalDateTime afterDate = after.date(FIRST_PAGE_DATE);
+                yield datePage(readOnly(() -> orderRepository.findByStatusAfter(status, afterDate, after.id(),
+                        Limit.of(pageSize))), pageSize);
+            }
+            case STREAM -> readOnly(() -> {
+                try (Stream<Order> orders = orderRepository.streamByStatus(status, fetchSize)) {
+                    return new QueryResult(strategy, consume(orders), null);
+                }
+            });
+        };
+    }
+
+    public QueryResult queryHighValueOrders(BigDecimal minPrice, QueryStrategy strategy, int pageSize, String cursor, int fetchSize) {
+        return switch (strategy) {
+            case LIST -> new QueryResult(strategy, findHighValueOrders(minPrice).size(), null);
+            case PAGE -> {
+                PageCursor.checkPageSize(pageSize);
+                PageCursor after = PageCursor.parse(cursor);
+                BigDecimal afterPrice = after.price(FIRST_PAGE_PRICE);
+                List<Order> page = readOnly(() -> orderRepository.findHighValueOrdersAfter(minPrice, afterPrice,
+                        after.id(), Limit.of(pageSize)));
+                String next = page.size() < pageSize ? null
+                        : PageCursor.of(page.get(page.size() - 1).getTotalPrice().toPlainString(), page.get(page.size() - 1).getId());
+                yield new QueryResult(strategy, page.size(), next);
+            }
+            case STREAM -> readOnly(() -> {
+                try (Stream<Order> orders = orderRepository.streamHighValueOrders(minPrice, fetchSize)) {
+                    return new QueryResult(strategy, consume(orders), null);
+                }
+            });
+        };
+    }
+
+    public QueryResult queryOrdersByDateRange(LocalDateTime start, LocalDateTime end, QueryStrategy strategy,
+                                              int pageSize, String cursor, int fetchSize) {
+        return switch (strategy) {
+            case LIST -> new QueryResult(strategy, findOrdersByDateRange(start, end).size(), null);
+            case PAGE -> {
+                PageCursor.checkPageSize(pageSize);
+                PageCursor after = PageCursor.parse(cursor);
+                LocalDateTime afterDate = after.date(FIRST_PAGE_DATE);
+                yield datePage(readOnly(() -> orderRepository.findOrdersByDateRangeAfter(start, end, afterDate,
+                        after.id(), Limit.of(pageSize))), pageSize);
+            }
+            case STREAM -> readOnly(() -> {
+                try (Stream<Order> orders = orderRepository.streamOrdersByDateRange(start, end, fetchSize)) {
+                    return new QueryResult(strategy, consume(orders), null);
+                }
+            });
+        };
+    }
+
+    // --- fetch mode 별 목록 조회 (캐시를 거치지 않고 매번 DB 조회) ---
+    public FetchResult fetchByStatus(String status, FetchMode mode) {
+        return fetch(mode,
+                () -> orderRepository.findByStatus(status),
+                () -> orderRepository.findSummariesByStatus(status),
+                () -> orderRepository.aggregateByStatus(status));
+    }
+
+    public FetchResult fetchHighValueOrders(BigDecimal minPrice, FetchMode mode) {
+        return fetch(mode,
+                () -> orderRepository.findHighValueOrders(minPrice),
+                () -> orderRepository.findHighValueSummaries(minPrice),
+                () -> orderRepository.aggregateHighValue(minPrice));
+    }
+
+    public FetchResult fetchOrdersByDateRange(LocalDateTime start, LocalDateTime end, FetchMode mode) {
+        return fetch(mode,
+                () -> orderRepository.findOrdersByDateRange(start, end),
+                () -> orderRepository.findSummariesByDateRange(start, end),
+                () -> orderRepository.aggregateByDateRange(start, end));
+    }
+
+    // 같은 조건의 조회를 mode 에 맞는 형태로 실행하고, 조회 스레드의 할당량과 받은 데이터 크기를 함께 잰다
+    private FetchResult fetch(FetchMode mode, Supplier<List<Order>> entities, Supplier<List<OrderSummary>> projection,
+                              Supplier<OrderRepository.OrderAggregate> aggregate) {
+        long allocatedStart = allocatedBytes();
+        long start = System.nanoTime();
+        FetchResult result = switch (mode) {
+            case ENTITY -> entityFetch(mode, readWriteTx.execute(status -> entities.get()));
+            case READ_ONLY -> entityFetch(mode, readOnly(entities));
+            case PROJECTION -> {
+                List<OrderSummary> rows = readOnly(projection);
+                long bytes = 0;
+                BigDecimal total = BigDecimal.ZERO;
+                for (OrderSummary row : rows) {
+                    bytes += numberBytes(row.id()) + varcharBytes(row.orderNumber()) + varcharBytes(row.status())
+                            + numberBytes(row.totalPrice()) + TIMESTAMP_BYTES;
+                    total = total.add(row.totalPrice());
+                }
+                yield new FetchResult(mode, rows.size(), rows.size(), bytes, 0, 0, total);
+            }
+            case AGGREGATE -> {
+                OrderRepository.OrderAggregate row = readOnly(aggregate);
+                BigDecimal total = row.getTotalAmount() == null ? BigDecimal.ZERO : row.getTotalAmount();
+                yield new FetchResult(mode, row.getRowCount(), 1,
+                        numberBytes(row.getRowCount()) + numberBytes(total), 0, 0, total);
+            }
+        };
+        long elapsed = System.nanoTime() - start;
+        long allocatedEnd = allocatedBytes();
+        long allocated = allocatedStart >= 0 && allocatedEnd >= 0 ? allocatedEnd - allocatedStart : -1;
+        meterRegistry.counter("load.db.fetch.rows", "mode", mode.name().toLowerCase()).increment(result.rowsTransferred());
+        return new FetchResult(mode, result.resultCount(), result.rowsTransferred(), result.payloadBytes(),
+                allocated, elapsed, result.totalAmount());
+    }
+
+    private static FetchResult entityFetch(FetchMode mode, List<Order> rows) {
+        long bytes = 0;
+        BigDecimal total = BigDecimal.ZERO;
+        for (Order order : rows) {
+            bytes += numberBytes(order.getId()) + varcharBytes(order.getOrderNumber()) + varcharBytes(order.getCustomerName())
+                    + varcharBytes(order.getProductName()) + numberBytes(order.getQuantity())
+                    + numberBytes(order.getUnitPrice()) + numberBytes(order.getTotalPrice())
+                    + TIMESTAMP_BYTES + varcharBytes(order.getStatus()) + varcharBytes(order.getShippingAddress())
+                    + TIMESTAMP_BYTES;
+            total = total.add(order.getTotalPrice());
+        }
+        return new FetchResult(mode, rows.size(), rows.size(), bytes, 0, 0, total);
+    }
+
+    private long allocatedBytes() {
+        return threadBean != null ? threadBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    // Oracle 내부 표현 크기 추정: VARCHAR2 는 UTF-8 바이트 수, NUMBER 는 지수 1바이트 + 유효숫자 2자리당 1바이트, TIMESTAMP 는 11바이트
+    private static final int TIMESTAMP_BYTES = 11;
+
+    private static int varcharBytes(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static int numberBytes(Number value) {
+        if (value == null) {
+            return 0;
+        }
+        BigDecimal decimal = value instanceof BigDecimal d ? d : BigDecimal.valueOf(value.longValue());
+        return 1 + (decimal.stripTrailingZeros().precision() + 1) / 2;
+    }
+
+    private QueryResult datePage(List<Order> page, int pageSize) {
+        String next = page.size() < pageSize ? null
+                : PageCursor.of(page.get(page.size() - 1).getOrderDate().toString(), page.get(page.size() - 1).getId());
+        return new QueryResult(QueryStrategy.PAGE, page.size(), next);
+    }
+
+    // 행 단위로 처리 (건수 + 금액 합계) 하여 결과 전체를 메모리에 올리지 않는다.
+    private long consume(Stream<Order> orders) {
+        long rows = 0;
+        BigDecimal total = BigDecimal.ZERO;
+        for (Iterator<Order> it = orders.iterator(); it.hasNext(); ) {
+            total = total.add(it.next().getTotalPrice());
+            rows++;
+        }
+        log.debug("Streamed {} orders, total amount {}", rows, total);
+        return rows;
+    }
+
+    // 복합 쿼리 부하 생성 (serial)
+    public ComplexQueryResult executeComplexQuery() {
+        return executeComplexQuery(ComplexQueryMode.SERIAL, 1, null);
+    }
+
+    /**
+     * 독립적인 하위 쿼리 4개(페이지, 상태별, 고액, 기간별)를 조합한 조회 부하.
+     * SERIAL 은 기존처럼 읽기 전용 트랜잭션 하나에서 차례로 실행하므로 지연이 하위 쿼리 합이고,
+     * FANOUT 은 하위 쿼리를 최대 parallelism 개까지 각자의 트랜잭션(커넥션)으로 동시에 실행하여 지연이 가장 느린 것에 가깝다.
+     * 대신 요청 하나가 커넥션을 여러 개 잡으므로 동시 요청이 많으면 커넥션 풀이 먼저 고갈된다.
+     *
+     * @param parallelism FANOUT 의 요청당 동시 하위 쿼리 수 (0 이하이면 설정 기본값)
+     * @param deadline    FANOUT 전체 제한 시간 (null 이면 설정 기본값). 넘기면 남은 하위 쿼리를 취소하고 끝난 것만 병합한다
+     */
+    public ComplexQueryResult executeComplexQuery(ComplexQueryMode mode, int parallelism, Duration deadline) {
+        List<ComplexSubQuery> queries = complexQueries();
+        int n = queries.size();
+        AtomicReferenceArray<List<Order>> results = new AtomicReferenceArray<>(n);
+        AtomicLongArray queryNanos = new AtomicLongArray(n);
+        long start = System.nanoTime();
+        boolean timedOut = false;
+        int width = 1;
+
+        if (mode == ComplexQueryMode.SERIAL) {
+            readOnly(() -> {
+                for (int i = 0; i < n; i++) {
+                    runSubQuery(queries, i, results, queryNanos);
+                }
+                return null;
+            });
+        } else {
+            width = Math.max(1, Math.min(parallelism > 0 ? parallelism : fanout.getParallelism(), n));
+            timedOut = !fanOut(queries, width, deadline == null ? fanout.getDeadline() : deadline, results, queryNanos);
+        }
+
+        long elapsed = System.nanoTime() - start;
+        meterRegistry.timer("load.db.complex", "mode", mode.name().toLowerCase(), "outcome", timedOut ? "timeout" : "success")
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        return merge(mode, width, timedOut, elapsed, queries, results, queryNanos);
+    }
+
+    private record ComplexSubQuery(String name, Supplier<List<Order>> query) {
+    }
+
+    // 캐시 대상 조회는 로더 안에서 트랜잭션을 열고, 페이지 조회는 직접 연다. SERIAL 에서는 바깥 트랜잭션에 참여한다.
+    private List<ComplexSubQuery> complexQueries() {
+        LocalDateTime now = LocalDateTime.now();
+        return List.of(
+                new ComplexSubQuery("pagination", () -> readOnly(() -> findOrdersWithPagination(0, 50).getContent())),
+                new ComplexSubQuery("status", () -> findByStatus("CONFIRMED")),
+                new ComplexSubQuery("highValue", () -> findHighValueOrders(BigDecimal.valueOf(500000))),
+                new ComplexSubQuery("dateRange", () -> findOrdersByDateRange(now.minusMonths(1), now))
+        );
+    }
+
+    private static void runSubQuery(List<ComplexSubQuery> queries, int index, AtomicReferenceArray<List<Order>> results,
+                                    AtomicLongArray queryNanos) {
+        long queryStart = System.nanoTime();
+        results.set(index, queries.get(index).query().get());
+        queryNanos.set(index, System.nanoTime() - queryStart);
+    }
+
+    /**
+     * width 개의 실행기가 남은 하위 쿼리를 하나씩 가져가 실행한다 (요청당 동시 실행 수 상한).
+     * 하위 쿼리마다 남은 시간을 timeout 으로 둔 읽기 전용 트랜잭션을 열어 JDBC statement 에 query timeout 이 걸리게 한다.
+     * deadline 이 지나면 실행기를 인터럽트하지 않고(JDBC 호출 중 인터럽트는 커넥션을 망가뜨릴 수 있다) 시작 전인 것만 취소하며,
+     * 실행 중인 쿼리는 query timeout 으로 DB 에서 끊긴다.
+     *
+     * @return deadline 안에 모두 끝났으면 true
+     */
+    private boolean fanOut(List<ComplexSubQuery> queries, int width, Duration deadline,
+                           AtomicReferenceArray<List<Order>> results, AtomicLongArray queryNanos) {
+        long deadlineAt = System.nanoTime() + deadline.toNanos();
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> runners = new ArrayList<>(width);
+        try {
+            for (int i = 0; i < width; i++) {
+                runners.add(fanoutPool.submit(() -> {
+                    int index;
+                    while (System.nanoTime() - deadlineAt < 0 && (index = next.getAndIncrement()) < queries.size()) {
+                        int i = index;
+                        deadlineTx(deadlineAt).executeWithoutResult(status -> runSubQuery(queries, i, results, queryNanos));
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            runners.forEach(f -> f.cancel(false));
+            throw e;
+        }
+
+        try {
+            for (Future<?> runner : runners) {
+                runner.get(Math.max(0, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+            return true;
+        } catch (TimeoutException e) {
+            // 실행 중인 하위 쿼리는 query timeout (초 단위 올림) 까지 커넥션을 잡고 있을 수 있다 (풀 고갈 관찰 대상)
+            log.debug("Complex query fan-out exceeded deadline {}ms", deadline.toMillis());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Complex sub-query failed", e.getCause());
+        } finally {
+            runners.forEach(f -> f.cancel(false));
+        }
+    }
+
+    // 트랜잭션 timeout 은 초 단위라 남은 시간을 올림한다 (최소 1초)
+    private TransactionTemplate deadlineTx(long deadlineAt) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadlineAt - System.nanoTime()));
+        tx.setTimeout((int) Math.max(1, (remainingMs + 999) / 1000));
+        return tx;
+    }
+
+    // 병합: 하위 쿼리 결과를 주문 ID 로 중복 제거하여 주문 수와 금액 합계를 구한다
+    private static ComplexQueryResult merge(ComplexQueryMode mode, int width, boolean timedOut, long elapsed,
+                                            List<ComplexSubQuery> queries, AtomicReferenceArray<List<Order>> results,
+                                            AtomicLongArray queryNanos) {
+        Map<String, Map<String, Object>> perQuery = new LinkedHashMap<>();
+        Map<Long, BigDecimal> distinct = new HashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            List<Order> rows = results.get(i);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("completed", rows != null);
+            summary.put("rows", rows == null ? 0 : rows.size());
+            summary.put("elapsedMs", rows == null ? null : queryNanos.get(i) / 1_000_000.0);
+            perQuery.put(queries.get(i).name(), summary);
+            if (rows != null) {
+                for (Order order : rows) {
+                    distinct.putIfAbsent(order.getId(), order.getTotalPrice());
+                }
+            }
+        }
+        BigDecimal total = distinct.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new ComplexQueryResult(mode, width, timedOut, elapsed, perQuery, distinct.size(), total);
     }
 
     public long getOrderCount() {
-        return orderRepository.count();
+        return queryCache.get(QueryCacheService.QueryType.COUNT, "all", orderRepository::count);
     }
 
     // --- Hikari Pool Control ---
@@ -178,13 +505,17 @@ public class DatabaseService {
         );
     }
 
+    // 잠금 없이 읽고 덮어쓴다 (동시 처리 시 마지막 쓰기가 이김, LockingProperties.Strategy.NONE).
+    // 버전은 올려 두어 낙관적 잠금으로 처리하는 트랜잭션이 이 변경을 충돌로 감지하게 한다.
     @Transactional(timeout = 10)
     public boolean processRecentOrder(String customerName) {
         Optional<Order> recentOrder = orderRepository.findTopByCustomerNameAndStatusOrderByOrderDateDesc(customerName, "PENDING");
         if (recentOrder.isPresent()) {
             Order order = recentOrder.get();
             order.setStatus("CONFIRMED");
+            order.setVersion(order.getVersion() + 1);
             orderRepository.save(order);
+            queryCache.invalidateAfterCommit(QueryCacheService.ORDER_LISTS);
             return true;
         }
         return false;
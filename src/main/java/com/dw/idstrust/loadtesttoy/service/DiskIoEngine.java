@@ -0,0 +1,336 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import com.sun.nio.file.ExtendedOpenOption;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * FileChannel 기반 디스크 I/O 부하 엔진.
+ * 실행마다 전용 테스트 파일을 만들어 실제 데이터로 채운 뒤(prefill), queueDepth 개의 워커가
+ * 순차/랜덤 위치에 blockSize 단위 positional read/write 를 수행한다. 쓰기마다 force() 를 선택할 수 있고,
+ * MappedByteBuffer 접근(mmap)과 O_DIRECT(페이지 캐시 우회)를 지원한다.
+ * executeWorkload 의 ioOps 는 공유 작업 파일에 대한 4KB 랜덤 읽기/쓰기 1회로 수행된다.
+ * 공유 작업 파일은 기동 후 워커 풀에서 만들어 채우며, 준비되기 전의 ioOps 는 I/O 없이 건너뛰고 집계만 한다.
+ */
+@Service
+public class DiskIoEngine {
+    private static final Logger log = LoggerFactory.getLogger(DiskIoEngine.class);
+
+    private static final long MB = 1024L * 1024L;
+    private static final int PREFILL_CHUNK = (int) MB;
+    private static final int WORKLOAD_BLOCK = 4096;
+    private static final int WORKLOAD_READ_PERCENT = 70;
+
+    private final Path dir;
+    private final long workloadFileBytes;
+    private final ExecutorService workerPool;
+    private final LatencyRecorder workloadLatency;
+    private final RunRegistry<DiskIoRun> runs = new RunRegistry<>("Disk I/O", log);
+    private final LongAdder workloadErrors = new LongAdder();
+    private final LongAdder workloadSkipped = new LongAdder();
+
+    private volatile FileChannel workloadChannel;
+    private boolean closed;
+
+    public DiskIoEngine(@Value("${load.disk.dir:${java.io.tmpdir}/load-disk}") String dir,
+                        @Value("${load.disk.workload-file-mb:64}") int workloadFileMb,
+                        @Qualifier("loadWorkerPool") ExecutorService workerPool,
+                        LatencyMetricsService latencyMetrics) {
+        this.dir = Paths.get(dir);
+        this.workloadFileBytes = Math.max(1, workloadFileMb) * MB;
+        this.workerPool = workerPool;
+        this.workloadLatency = latencyMetrics.recorder("disk:workload-io");
+    }
+
+    // 첫 요청이 prefill 을 기다리지 않도록 기동 직후 워커 풀에서 공유 작업 파일을 준비한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareWorkloadFile() {
+        workerPool.submit(() -> {
+            try {
+                Files.createDirectories(dir);
+                Path file = Files.createTempFile(dir, "load-io-workload-", ".dat");
+                FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+                try {
+                    prefill(channel, workloadFileBytes, 1);
+                } catch (IOException e) {
+                    channel.close();
+                    throw e;
+                }
+                synchronized (this) {
+                    if (closed) {
+                        channel.close();
+                        return;
+                    }
+                    workloadChannel = channel;
+                }
+                log.info("Workload I/O file created: {} ({} MB)", file, workloadFileBytes / MB);
+            } catch (IOException e) {
+                log.warn("Workload I/O file unavailable, ioOps will be skipped: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runs.stopAll();
+        FileChannel channel;
+        synchronized (this) {
+            closed = true;
+            channel = workloadChannel;
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close workload I/O file: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 전용 테스트 파일을 만들고 채운 뒤 queueDepth 개의 I/O 워커를 띄운다. prefill 시간은 측정 구간에 들어가지 않는다.
+     *
+     * @throws IllegalArgumentException 잘못된 프로파일 (O_DIRECT 정렬 불일치 포함)
+     */
+    public DiskIoRun start(String owner, LoadScenarioProperties.DiskProfile profile, long durationMs, BooleanSupplier keepRunning) {
+        int alignment = validate(profile);
+        DiskIoRun run = runs.register(new DiskIoRun(owner, profile));
+        log.info("Starting disk I/O {} for {}: {} read={}% block={} qd={} fsync={} mmap={} direct={} targetIops={}",
+                run.getId(), owner, profile.getPattern(), profile.getReadPercent(), profile.getBlockSize(), profile.getQueueDepth(),
+                profile.isFsync(), profile.isMmap(), profile.isDirect(), profile.getTargetIops());
+        workerPool.submit(() -> runs.execute(run, keepRunning, () -> execute(run, alignment, durationMs, keepRunning)));
+        return run;
+    }
+
+    private int validate(LoadScenarioProperties.DiskProfile profile) {
+        if (profile.getBlockSize() < 512 || profile.getQueueDepth() < 1 || profile.getFileSizeMb() < 1) {
+            throw new IllegalArgumentException("blockSize >= 512, queueDepth >= 1 and fileSizeMb >= 1 are required");
+        }
+        // 블록 하나도 들어가지 않으면 fileBytes 가 0 이 되어 워커가 0 으로 나눈다
+        if (profile.getBlockSize() > profile.getFileSizeMb() * MB) {
+            throw new IllegalArgumentException("blockSize must not exceed fileSizeMb (" + profile.getFileSizeMb() + " MB)");
+        }
+        if (profile.getReadPercent() < 0 || profile.getReadPercent() > 100) {
+            throw new IllegalArgumentException("readPercent must be within 0-100");
+        }
+        if (profile.isMmap() && profile.isDirect()) {
+            throw new IllegalArgumentException("mmap and direct cannot be combined");
+        }
+        if (profile.isMmap() && profile.getFileSizeMb() * MB > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("mmap mode supports files up to 2047 MB");
+        }
+        if (!profile.isDirect()) {
+            return 1;
+        }
+        try {
+            Files.createDirectories(dir);
+            int alignment = (int) Files.getFileStore(dir).getBlockSize();
+            if (profile.getBlockSize() % alignment != 0) {
+                throw new IllegalArgumentException("direct I/O requires blockSize to be a multiple of " + alignment);
+            }
+            return alignment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void execute(DiskIoRun run, int alignment, long durationMs, BooleanSupplier keepRunning) throws IOException {
+        LoadScenarioProperties.DiskProfile profile = run.getProfile();
+        long fileBytes = profile.getFileSizeMb() * MB / profile.getBlockSize() * profile.getBlockSize();
+        Files.createDirectories(dir);
+        Path file = Files.createTempFile(dir, "load-io-", ".dat");
+        Set<OpenOption> options = new HashSet<>(List.of(StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE));
+        if (profile.isDirect()) {
+            options.add(ExtendedOpenOption.DIRECT);
+        }
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            prefill(channel, fileBytes, alignment);
+            MappedByteBuffer mapped = profile.isMmap() ? channel.map(FileChannel.MapMode.READ_WRITE, 0, fileBytes) : null;
+
+            run.started();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int q = 0; q < profile.getQueueDepth(); q++) {
+                int worker = q;
+                workers.add(CompletableFuture.runAsync(
+                        () -> work(run, channel, mapped, fileBytes, alignment, worker, deadline, keepRunning), workerPool));
+            }
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+        }
+    }
+
+    // 읽기가 파일 구멍(sparse)이 아닌 실제 블록을 읽도록 전체를 채운다
+    private static void prefill(FileChannel channel, long fileBytes, int alignment) throws IOException {
+        ByteBuffer chunk = alignedBuffer(PREFILL_CHUNK, alignment);
+        fillRandom(chunk);
+        long position = 0;
+        while (position < fileBytes) {
+            chunk.clear();
+            chunk.limit((int) Math.min(PREFILL_CHUNK, fileBytes - position));
+            while (chunk.hasRemaining()) {
+                position += channel.write(chunk, position);
+            }
+        }
+        channel.force(true);
+    }
+
+    private static void work(DiskIoRun run, FileChannel channel, MappedByteBuffer mapped, long fileBytes, int alignment,
+                             int worker, long deadline, BooleanSupplier keepRunning) {
+        LoadScenarioProperties.DiskProfile profile = run.getProfile();
+        int blockSize = profile.getBlockSize();
+        long blocks = fileBytes / blockSize;
+        boolean sequential = profile.getPattern() == LoadScenarioProperties.DiskPattern.SEQUENTIAL;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ByteBuffer buffer = alignedBuffer(blockSize, alignment);
+        fillRandom(buffer);
+        byte[] heapBlock = new byte[blockSize];
+        random.nextBytes(heapBlock);
+
+        // 순차 패턴은 워커마다 파일의 다른 구간부터 시작
+        long nextBlock = blocks * worker / profile.getQueueDepth();
+        long intervalNanos = profile.getTargetIops() > 0 ? 1_000_000_000L * profile.getQueueDepth() / profile.getTargetIops() : 0;
+        long nextDue = System.nanoTime();
+
+        try {
+            while (System.nanoTime() - deadline < 0 && keepRunning.getAsBoolean()
+                    && !run.isStopRequested() && !Thread.currentThread().isInterrupted()) {
+                if (intervalNanos > 0) {
+                    long wait;
+                    while ((wait = nextDue - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    nextDue += intervalNanos;
+                }
+                long block = sequential ? nextBlock++ % blocks : random.nextLong(blocks);
+                long position = block * blockSize;
+                boolean read = random.nextInt(100) < profile.getReadPercent();
+
+                long startedAt = System.nanoTime();
+                if (mapped != null) {
+                    if (read) {
+                        mapped.get((int) position, heapBlock);
+                    } else {
+                        mapped.put((int) position, heapBlock);
+                        if (profile.isFsync()) {
+                            mapped.force((int) position, blockSize);
+                        }
+                    }
+                } else {
+                    buffer.clear();
+                    if (read) {
+                        while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+                            // 요청한 블록을 모두 읽을 때까지 반복
+                        }
+                    } else {
+                        while (buffer.hasRemaining()) {
+                            channel.write(buffer, position + buffer.position());
+                        }
+                        if (profile.isFsync()) {
+                            channel.force(false);
+                        }
+                    }
+                }
+                run.record(read, blockSize, System.nanoTime() - startedAt);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer alignedBuffer(int size, int alignment) {
+        if (alignment <= 1) {
+            return ByteBuffer.allocateDirect(size);
+        }
+        return ByteBuffer.allocateDirect(size + alignment).alignedSlice(alignment).slice(0, size);
+    }
+
+    private static void fillRandom(ByteBuffer buffer) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i + 8 <= buffer.capacity(); i += 8) {
+            buffer.putLong(i, random.nextLong());
+        }
+    }
+
+    /**
+     * 공유 작업 파일에 4KB 랜덤 읽기(70%) 또는 쓰기(30%) 1회. 지연은 disk:workload-io 히스토그램에 기록된다.
+     * 파일이 아직 준비되지 않았으면 건너뛰고 workloadSkipped 만 늘린다.
+     */
+    public void workloadOp() {
+        FileChannel channel = workloadChannel;
+        if (channel == null) {
+            workloadSkipped.increment();
+            return;
+        }
+        try {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long position = random.nextLong(workloadFileBytes / WORKLOAD_BLOCK) * WORKLOAD_BLOCK;
+            ByteBuffer buffer = ByteBuffer.allocate(WORKLOAD_BLOCK);
+            long startedAt = System.nanoTime();
+            if (random.nextInt(100) < WORKLOAD_READ_PERCENT) {
+                while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+                    // 요청한 블록을 모두 읽을 때까지 반복
+                }
+            } else {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer, position + buffer.position());
+                }
+            }
+            workloadLatency.recordNanos(System.nanoTime() - startedAt);
+        } catch (IOException e) {
+            workloadErrors.increment();
+            log.debug("Workload I/O failed: {}", e.getMessage());
+        }
+    }
+
+    public DiskIoRun getRun(String id) {
+        return runs.get(id);
+    }
+
+    public void stopAll() {
+        runs.stopAll();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("dir", dir.toString());
+        result.put("workloadFileMb", workloadFileBytes / MB);
+        result.put("workloadFileReady", workloadChannel != null);
+        result.put("workloadErrors", workloadErrors.sum());
+        result.put("workloadSkipped", workloadSkipped.sum());
+        result.put("runs", runs.toMaps());
+        return result;
+    }
+}
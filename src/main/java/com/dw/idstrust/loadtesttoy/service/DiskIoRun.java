@@ -0,0 +1,90 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 디스크 I/O 부하 1회의 설정과 결과. 읽기/쓰기를 나누어 IOPS, MB/s, 지연 백분위수를 보고한다.
+ * 측정 구간은 테스트 파일 준비(prefill)가 끝난 뒤부터다.
+ */
+public class DiskIoRun extends LoadRun {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadScenarioProperties.DiskProfile profile;
+
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final Histogram readLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Histogram writeLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+    DiskIoRun(String owner, LoadScenarioProperties.DiskProfile profile) {
+        super("disk", owner, "preparing");
+        this.profile = profile;
+    }
+
+    void record(boolean read, int bytes, long nanos) {
+        long micros = Math.min(MAX_LATENCY_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        if (read) {
+            reads.increment();
+            bytesRead.add(bytes);
+            readLatency.recordValue(micros);
+        } else {
+            writes.increment();
+            bytesWritten.add(bytes);
+            writeLatency.recordValue(micros);
+        }
+    }
+
+    public LoadScenarioProperties.DiskProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        double elapsedSec = elapsedSeconds();
+        double mb = 1024.0 * 1024.0;
+        long readCount = reads.sum();
+        long writeCount = writes.sum();
+        Map<String, Object> result = baseMap();
+        result.put("pattern", profile.getPattern().name().toLowerCase());
+        result.put("readPercent", profile.getReadPercent());
+        result.put("blockSize", profile.getBlockSize());
+        result.put("queueDepth", profile.getQueueDepth());
+        result.put("fsync", profile.isFsync());
+        result.put("mmap", profile.isMmap());
+        result.put("direct", profile.isDirect());
+        result.put("targetIops", profile.getTargetIops());
+        result.put("elapsedSec", elapsedSec);
+        result.put("reads", readCount);
+        result.put("writes", writeCount);
+        result.put("iops", elapsedSec > 0 ? (readCount + writeCount) / elapsedSec : 0.0);
+        result.put("readMBps", elapsedSec > 0 ? bytesRead.sum() / mb / elapsedSec : 0.0);
+        result.put("writeMBps", elapsedSec > 0 ? bytesWritten.sum() / mb / elapsedSec : 0.0);
+        result.put("readLatency", summary(readLatency));
+        result.put("writeLatency", summary(writeLatency));
+        if (getError() != null) {
+            result.put("error", getError());
+        }
+        return result;
+    }
+
+    private static Map<String, Object> summary(Histogram histogram) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", histogram.getTotalCount());
+        result.put("p50Ms", histogram.getValueAtPercentile(50.0) / 1000.0);
+        result.put("p90Ms", histogram.getValueAtPercentile(90.0) / 1000.0);
+        result.put("p99Ms", histogram.getValueAtPercentile(99.0) / 1000.0);
+        result.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+        result.put("maxMs", histogram.getMaxValue() / 1000.0);
+        return result;
+    }
+}
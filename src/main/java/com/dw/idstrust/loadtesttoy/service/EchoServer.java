@@ -0,0 +1,17 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+
+/**
+ * 네트워크 부하용 loopback echo 서버. 받은 바이트를 그대로 돌려보낸다.
+ */
+interface EchoServer extends AutoCloseable {
+
+    InetSocketAddress address();
+
+    Map<String, Object> stats();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,14 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+/**
+ * 목록 조회 결과를 가져오는 방식 (ORM 오버헤드 비교용).
+ * ENTITY: 읽기/쓰기 트랜잭션의 관리 엔티티 (커밋 시 dirty checking), READ_ONLY: 읽기 전용 엔티티 (스냅샷 없음),
+ * PROJECTION: 필요한 컬럼만 담은 record, AGGREGATE: COUNT/SUM 을 DB 에서 계산하여 한 행만 전송.
+ */
+public enum FetchMode {
+    ENTITY, READ_ONLY, PROJECTION, AGGREGATE;
+
+    public static FetchMode from(String value) {
+        return value == null || value.isBlank() ? ENTITY : valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,26 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * fetch mode 별 조회 비용.
+ * resultCount 는 조건에 맞는 주문 수, rowsTransferred 는 DB 에서 실제로 받은 행 수이다 (AGGREGATE 는 1).
+ * payloadBytes 는 받은 컬럼 값의 Oracle 내부 표현 크기 추정치, allocatedBytes 는 조회 스레드의 힙 할당량이다.
+ */
+public record FetchResult(FetchMode mode, long resultCount, long rowsTransferred, long payloadBytes,
+                          long allocatedBytes, long elapsedNanos, BigDecimal totalAmount) {
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("fetchMode", mode.name().toLowerCase());
+        result.put("rowsTransferred", rowsTransferred);
+        result.put("payloadBytes", payloadBytes);
+        result.put("allocatedBytes", allocatedBytes >= 0 ? allocatedBytes : null);
+        result.put("allocatedBytesPerRow", allocatedBytes >= 0 && rowsTransferred > 0 ? allocatedBytes / rowsTransferred : null);
+        result.put("queryMs", elapsedNanos / 1_000_000.0);
+        result.put("totalAmount", totalAmount);
+        return result;
+    }
+}
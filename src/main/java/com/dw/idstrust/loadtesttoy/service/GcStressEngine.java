@@ -0,0 +1,236 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 할당 속도, 객체 크기 분포, 수명 분포를 지정해 실제 서비스와 비슷한 GC 부하를 만든다.
+ * 1ms 마다 목표 누적 할당량까지 byte[] 를 만들어 수명 등급별로 보관/폐기하며,
+ * survivor 객체는 할당 시점의 young GC 횟수를 기준으로 지정한 횟수만큼 GC 를 버틴 뒤 놓아준다.
+ * GC 알림을 구독하여 실행 중인 모든 부하에 pause, 승격량을 기록한다.
+ */
+@Service
+public class GcStressEngine {
+    private static final Logger log = LoggerFactory.getLogger(GcStressEngine.class);
+
+    private static final int YOUNG_SLOTS = 256;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ExecutorService workerPool;
+    private final RunRegistry<GcStressRun> runs = new RunRegistry<>("GC stress", log);
+    private final AtomicLong youngCollections = new AtomicLong();
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener listener = this::onGcNotification;
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    public GcStressEngine(@Qualifier("loadWorkerPool") ExecutorService workerPool) {
+        this.workerPool = workerPool;
+        this.threadBean = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean sun ? sun : null;
+    }
+
+    @PostConstruct
+    public void registerGcListeners() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener,
+                        n -> GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(n.getType()), null);
+                emitters.add(emitter);
+            }
+        }
+        log.info("GC notification listeners registered on {} collectors", emitters.size());
+    }
+
+    @PreDestroy
+    public void unregisterGcListeners() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(listener);
+            } catch (ListenerNotFoundException e) {
+                // already removed
+            }
+        }
+        runs.stopAll();
+    }
+
+    private void onGcNotification(Notification notification, Object handback) {
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        String action = info.getGcAction().toLowerCase();
+        String name = info.getGcName();
+        // G1 Concurrent GC, ZGC Cycles 등은 애플리케이션을 멈추지 않는 동시 사이클
+        boolean concurrent = name.contains("Concurrent") || name.contains("Cycles") || action.contains("concurrent");
+        boolean minor = action.contains("minor");
+        if (minor && !concurrent) {
+            youngCollections.incrementAndGet();
+        }
+        long promoted = minor ? oldGenerationGrowth(info) : 0;
+        long durationMs = info.getGcInfo().getDuration();
+        for (GcStressRun run : runs.active()) {
+            run.gcObserved(minor, concurrent, durationMs, promoted);
+        }
+    }
+
+    private static long oldGenerationGrowth(GarbageCollectionNotificationInfo info) {
+        Map<String, MemoryUsage> before = info.getGcInfo().getMemoryUsageBeforeGc();
+        Map<String, MemoryUsage> after = info.getGcInfo().getMemoryUsageAfterGc();
+        long growth = 0;
+        for (Map.Entry<String, MemoryUsage> entry : after.entrySet()) {
+            String pool = entry.getKey();
+            if (pool.contains("Old") || pool.contains("Tenured")) {
+                MemoryUsage previous = before.get(pool);
+                growth += entry.getValue().getUsed() - (previous != null ? previous.getUsed() : 0);
+            }
+        }
+        return growth;
+    }
+
+    /**
+     * 할당 스레드 하나를 워커 풀에서 시작한다. 실행 중에는 GC 알림마다 pause / 승격량이 이 실행에 기록된다.
+     *
+     * @throws IllegalArgumentException 할당 속도가 0 이거나 객체 크기 범위, 수명 비율이 잘못된 경우
+     */
+    public GcStressRun start(String owner, LoadScenarioProperties.GcProfile profile, long durationMs, BooleanSupplier keepRunning) {
+        validate(profile);
+        GcStressRun run = runs.register(new GcStressRun(owner, profile));
+        log.info("Starting GC stress {} for {}: {} MB/s, objects {}-{} bytes, lifetime {}%/{}%/{}% (survive {} GCs)",
+                run.getId(), owner, profile.getAllocationRateMbPerSec(), profile.getMinObjectBytes(), profile.getMaxObjectBytes(),
+                profile.getShortLivedPercent(), profile.getSurvivorPercent(), profile.getTenuredPercent(), profile.getSurvivorGcs());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        workerPool.submit(() -> runs.execute(run, keepRunning, () -> allocate(run, deadline, keepRunning)));
+        return run;
+    }
+
+    private static void validate(LoadScenarioProperties.GcProfile profile) {
+        if (!profile.isEnabled()) {
+            throw new IllegalArgumentException("allocationRateMbPerSec must be > 0");
+        }
+        if (profile.getMinObjectBytes() < 1 || profile.getMaxObjectBytes() < profile.getMinObjectBytes()) {
+            throw new IllegalArgumentException("Invalid object size range: " + profile.getMinObjectBytes() + "-" + profile.getMaxObjectBytes());
+        }
+        if (profile.getShortLivedPercent() < 0 || profile.getSurvivorPercent() < 0
+                || profile.getShortLivedPercent() + profile.getSurvivorPercent() > 100) {
+            throw new IllegalArgumentException("shortLivedPercent + survivorPercent must be within 0-100");
+        }
+    }
+
+    private record Cohort(long epoch, List<byte[]> objects) {
+    }
+
+    private void allocate(GcStressRun run, long deadline, BooleanSupplier keepRunning) {
+        LoadScenarioProperties.GcProfile profile = run.getProfile();
+        double bytesPerNano = profile.getAllocationRateMbPerSec() * 1024 * 1024 / 1_000_000_000.0;
+        double logSizeRange = Math.log((double) profile.getMaxObjectBytes() / profile.getMinObjectBytes());
+        int shortLimit = profile.getShortLivedPercent();
+        int survivorLimit = shortLimit + profile.getSurvivorPercent();
+        long maxTenuredBytes = profile.getMaxTenuredMb() * 1024L * 1024L;
+
+        byte[][] young = new byte[YOUNG_SLOTS][];
+        ArrayDeque<Cohort> survivors = new ArrayDeque<>();
+        ArrayDeque<byte[]> tenured = new ArrayDeque<>();
+        long tenuredBytes = 0;
+        int youngIndex = 0;
+        long allocated = 0;
+        long threadId = Thread.currentThread().threadId();
+        long threadAllocatedStart = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : -1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        run.started();
+        try {
+            long start = System.nanoTime();
+            long now;
+            while ((now = System.nanoTime()) - deadline < 0 && keepRunning.getAsBoolean()
+                    && !run.isStopRequested() && !Thread.currentThread().isInterrupted()) {
+                long target = (long) ((now - start) * bytesPerNano);
+                while (allocated < target) {
+                    int size = (int) (profile.getMinObjectBytes() * Math.exp(random.nextDouble() * logSizeRange));
+                    byte[] object = new byte[size];
+                    allocated += size;
+                    run.allocated(size);
+
+                    int lifetime = random.nextInt(100);
+                    if (lifetime < shortLimit) {
+                        // 링 슬롯에 잠깐 두었다가 덮어써서 버림 (escape analysis 로 할당이 사라지지 않도록)
+                        young[youngIndex++ & (YOUNG_SLOTS - 1)] = object;
+                    } else if (lifetime < survivorLimit) {
+                        long epoch = youngCollections.get();
+                        Cohort last = survivors.peekLast();
+                        if (last == null || last.epoch() != epoch) {
+                            last = new Cohort(epoch, new ArrayList<>());
+                            survivors.addLast(last);
+                        }
+                        last.objects().add(object);
+                    } else {
+                        tenured.addLast(object);
+                        tenuredBytes += size;
+                        while (tenuredBytes > maxTenuredBytes && !tenured.isEmpty()) {
+                            tenuredBytes -= tenured.pollFirst().length;
+                        }
+                    }
+                }
+                long collected = youngCollections.get();
+                while (!survivors.isEmpty() && survivors.peekFirst().epoch() + profile.getSurvivorGcs() <= collected) {
+                    survivors.pollFirst();
+                }
+                run.tenuredRetained(tenuredBytes);
+                LockSupport.parkNanos(TICK_NANOS);
+            }
+        } catch (OutOfMemoryError e) {
+            survivors.clear();
+            tenured.clear();
+            run.finish("failed: OutOfMemoryError");
+            log.error("GC stress {} hit OutOfMemoryError", run.getId());
+        } finally {
+            if (threadAllocatedStart >= 0) {
+                run.threadAllocated(threadBean.getThreadAllocatedBytes(threadId) - threadAllocatedStart);
+            }
+        }
+    }
+
+    public GcStressRun getRun(String id) {
+        return runs.get(id);
+    }
+
+    public void stopAll() {
+        runs.stopAll();
+    }
+
+    /**
+     * JVM 전체 GC 누적치와 최근 GC 부하 실행 목록.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> collectors = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collectors.put(gc.getName(), Map.of("count", gc.getCollectionCount(), "timeMs", gc.getCollectionTime()));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("collectors", collectors);
+        result.put("youngCollectionsObserved", youngCollections.get());
+        result.put("runs", runs.toMaps());
+        return result;
+    }
+}
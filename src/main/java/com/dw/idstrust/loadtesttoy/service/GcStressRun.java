@@ -0,0 +1,95 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GC 부하 1회의 목표치와 관측치.
+ * 할당량은 생성기가 직접 센 값과 할당 스레드의 ThreadMXBean 할당 바이트를 함께 보고하고,
+ * pause / 승격량은 실행 중 수신한 GC 알림(GarbageCollectionNotificationInfo)에서 집계한다.
+ */
+public class GcStressRun extends LoadRun {
+
+    private final LoadScenarioProperties.GcProfile profile;
+
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder allocatedObjects = new LongAdder();
+    private volatile long threadAllocatedBytes = -1;
+    private volatile long retainedTenuredBytes;
+
+    // GC 알림 스레드에서만 기록, 읽기는 동기화
+    private final Histogram pauses = new Histogram(3_600_000L, 3);
+    private long minorCollections;
+    private long majorCollections;
+    private long concurrentCycles;
+    private long pauseTotalMs;
+    private long promotedBytes;
+
+    GcStressRun(String owner, LoadScenarioProperties.GcProfile profile) {
+        super("gc", owner, "starting");
+        this.profile = profile;
+    }
+
+    void allocated(long bytes) {
+        allocatedBytes.add(bytes);
+        allocatedObjects.increment();
+    }
+
+    void tenuredRetained(long bytes) {
+        retainedTenuredBytes = bytes;
+    }
+
+    void threadAllocated(long bytes) {
+        threadAllocatedBytes = bytes;
+    }
+
+    synchronized void gcObserved(boolean minor, boolean concurrent, long durationMs, long promoted) {
+        if (concurrent) {
+            concurrentCycles++;
+            return;
+        }
+        if (minor) {
+            minorCollections++;
+            promotedBytes += Math.max(0, promoted);
+        } else {
+            majorCollections++;
+        }
+        pauseTotalMs += durationMs;
+        pauses.recordValue(Math.min(durationMs, pauses.getHighestTrackableValue()));
+    }
+
+    public LoadScenarioProperties.GcProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public synchronized Map<String, Object> toMap() {
+        double elapsedSec = elapsedSeconds();
+        double mb = 1024.0 * 1024.0;
+        Map<String, Object> result = baseMap();
+        result.put("elapsedSec", elapsedSec);
+        result.put("targetAllocationRateMbPerSec", profile.getAllocationRateMbPerSec());
+        result.put("achievedAllocationRateMbPerSec", elapsedSec > 0 ? allocatedBytes.sum() / mb / elapsedSec : 0.0);
+        result.put("allocatedMb", allocatedBytes.sum() / mb);
+        result.put("allocatedObjects", allocatedObjects.sum());
+        if (threadAllocatedBytes >= 0) {
+            result.put("threadAllocatedMb", threadAllocatedBytes / mb);
+        }
+        result.put("lifetimeMix", profile.getShortLivedPercent() + "/" + profile.getSurvivorPercent() + "/" + profile.getTenuredPercent());
+        result.put("retainedTenuredMb", retainedTenuredBytes / mb);
+        result.put("minorCollections", minorCollections);
+        result.put("majorCollections", majorCollections);
+        result.put("concurrentCycles", concurrentCycles);
+        result.put("pauseCount", pauses.getTotalCount());
+        result.put("pauseTotalMs", pauseTotalMs);
+        result.put("pauseP50Ms", pauses.getValueAtPercentile(50.0));
+        result.put("pauseP99Ms", pauses.getValueAtPercentile(99.0));
+        result.put("pauseMaxMs", pauses.getMaxValue());
+        result.put("promotedMb", promotedBytes / mb);
+        result.put("promotionRateMbPerSec", elapsedSec > 0 ? promotedBytes / mb / elapsedSec : 0.0);
+        return result;
+    }
+}
@@ -0,0 +1,44 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.util.List;
+
+/**
+ * ORDERS 테이블의 보조 인덱스 구성 (PK, ORDER_NUMBER 유니크 제약 인덱스는 항상 유지).
+ * NONE: 보조 인덱스 없음 (전체 스캔 기준선), SINGLE: 조회 조건 컬럼별 단일 컬럼 인덱스,
+ * COMPOSITE: 쿼리별 조건 + 정렬 순서 (+ keyset 커서 ID) 를 모두 담은 복합 인덱스.
+ */
+public enum IndexProfile {
+    NONE(List.of()),
+    SINGLE(List.of(
+            new Definition("IDX_ORDER_STATUS", "STATUS"),
+            new Definition("IDX_ORDER_DATE", "ORDER_DATE"),
+            new Definition("IDX_ORDER_TOTAL_PRICE", "TOTAL_PRICE"),
+            new Definition("IDX_ORDER_CUSTOMER", "CUSTOMER_NAME"))),
+    COMPOSITE(List.of(
+            // processRecentOrder: 고객 + 상태 조건, 최신 주문 1건 (정렬 없이 첫 행에서 멈춤)
+            new Definition("IDX_ORDER_CUST_STATUS_DATE", "CUSTOMER_NAME, STATUS, ORDER_DATE DESC"),
+            // 아래 세 인덱스는 keyset 페이지의 (정렬 컬럼 DESC, ID DESC) 를 역방향 range scan 으로 처리
+            new Definition("IDX_ORDER_STATUS_DATE_ID", "STATUS, ORDER_DATE, ID"),
+            new Definition("IDX_ORDER_DATE_ID", "ORDER_DATE, ID"),
+            new Definition("IDX_ORDER_PRICE_ID", "TOTAL_PRICE, ID")));
+
+    /**
+     * 인덱스 이름과 CREATE INDEX 의 컬럼 목록 (정렬 방향 포함).
+     */
+    public record Definition(String name, String columns) {
+    }
+
+    private final List<Definition> indexes;
+
+    IndexProfile(List<Definition> indexes) {
+        this.indexes = indexes;
+    }
+
+    public List<Definition> getIndexes() {
+        return indexes;
+    }
+
+    public static IndexProfile from(String value) {
+        return valueOf(value.trim().toUpperCase().replace('-', '_'));
+    }
+}
@@ -0,0 +1,337 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * ORDERS 보조 인덱스 구성을 런타임에 전환한다 (IndexProfile).
+ * 새 구성에 필요한 인덱스를 먼저 ONLINE 으로 만든 뒤 빠지는 인덱스를 삭제하므로 전환 중에도 부하를 계속 걸 수 있다.
+ * 활성 프로파일의 시간축(timeline)을 남겨 시나리오 / k6 실행 결과에 실행 구간 동안의 프로파일을 함께 기록한다.
+ */
+@Service
+public class IndexProfileService {
+    private static final Logger log = LoggerFactory.getLogger(IndexProfileService.class);
+
+    // 어떤 프로파일과도 일치하지 않는 인덱스 구성 (setup-oracle.sh 기본 구성, 수동 변경 등)
+    public static final String CUSTOM = "custom";
+
+    // 제약 조건(PK, UNIQUE)이 사용하는 인덱스는 관리 대상에서 제외
+    private static final String MANAGED_INDEXES_SQL = "SELECT i.INDEX_NAME FROM USER_INDEXES i WHERE i.TABLE_NAME = 'ORDERS' "
+            + "AND NOT EXISTS (SELECT 1 FROM USER_CONSTRAINTS c WHERE c.TABLE_NAME = i.TABLE_NAME AND c.INDEX_NAME = i.INDEX_NAME)";
+    private static final String INSERT_HISTORY_SQL = "INSERT INTO INDEX_PROFILE_HISTORY "
+            + "(PROFILE, PREVIOUS_PROFILE, STATUS, STARTED_AT, ENDED_AT, BUILD_MS, DETAIL) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_HISTORY_SQL = "SELECT PROFILE, PREVIOUS_PROFILE, STATUS, STARTED_AT, ENDED_AT, BUILD_MS, DETAIL "
+            + "FROM INDEX_PROFILE_HISTORY ORDER BY ID DESC FETCH FIRST ? ROWS ONLY";
+    // ORA-00439: feature not enabled (ONLINE 인덱스 작업을 지원하지 않는 에디션)
+    private static final int ORA_FEATURE_NOT_ENABLED = 439;
+    // 부하 중 DDL 이 ORA-00054 (resource busy) 로 바로 실패하지 않도록 잠금 대기
+    private static final int DDL_LOCK_TIMEOUT_SECONDS = 30;
+    private static final int MAX_RETAINED_SWITCHES = 20;
+    private static final int MAX_TIMELINE = 500;
+
+    private final DataSource dataSource;
+    private final ExecutorService workerPool;
+    private final String initialProfile;
+    private final Map<String, IndexProfileSwitch> switches = new ConcurrentHashMap<>();
+    private final AtomicReference<IndexProfileSwitch> inProgress = new AtomicReference<>();
+    // 프로파일 변경 시각 순서의 기록 (전환 중 구간은 "from->to" 로 표시)
+    private final List<Span> timeline = new CopyOnWriteArrayList<>();
+    private volatile String active = CUSTOM;
+
+    private record Span(long atMillis, String profile) {
+    }
+
+    public IndexProfileService(DataSource dataSource, @Qualifier("loadWorkerPool") ExecutorService workerPool,
+                               MeterRegistry meterRegistry, @Value("${load.index.profile:}") String initialProfile) {
+        this.dataSource = dataSource;
+        this.workerPool = workerPool;
+        this.initialProfile = initialProfile;
+        for (IndexProfile profile : IndexProfile.values()) {
+            String name = label(profile);
+            Gauge.builder("load.db.index.profile", this, s -> name.equals(s.active) ? 1 : 0)
+                    .tag("profile", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try (Connection conn = dataSource.getConnection()) {
+            mark(detect(conn));
+        } catch (SQLException e) {
+            log.warn("Could not detect ORDERS index profile: {}", e.getMessage());
+            return;
+        }
+        log.info("ORDERS index profile: {}", active);
+        if (initialProfile != null && !initialProfile.isBlank()) {
+            IndexProfile target;
+            try {
+                target = IndexProfile.from(initialProfile);
+            } catch (IllegalArgumentException e) {
+                // 잘못된 load.index.profile 은 무시하고 감지한 프로파일을 그대로 쓴다
+                log.error("Invalid load.index.profile '{}', keeping {}: {}", initialProfile, active, e.getMessage());
+                return;
+            }
+            if (!label(target).equals(active)) {
+                switchTo(target);
+            }
+        }
+    }
+
+    /**
+     * 전환 작업을 시작한다. 다른 전환이 진행 중이면 null.
+     */
+    public IndexProfileSwitch switchTo(IndexProfile target) {
+        IndexProfileSwitch job = new IndexProfileSwitch(active, target);
+        if (!inProgress.compareAndSet(null, job)) {
+            return null;
+        }
+        retain(job);
+        mark(job.getFrom() + "->" + label(target));
+        log.info("Starting index profile switch {}: {} -> {}", job.getId(), job.getFrom(), label(target));
+
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(() -> apply(job), workerPool);
+        } catch (RejectedExecutionException e) {
+            job.fail(e);
+            inProgress.set(null);
+            refresh(job);
+            throw e;
+        }
+        future.whenComplete((v, t) -> {
+            if (t != null) {
+                job.fail(t.getCause() != null ? t.getCause() : t);
+                log.error("Index profile switch {} failed", job.getId(), t);
+            } else {
+                job.complete();
+                log.info("Index profile switch {} completed: {}", job.getId(), job.toMap());
+            }
+            refresh(job);
+            persist(job);
+            inProgress.set(null);
+        });
+        return job;
+    }
+
+    public Map<String, Object> getProfiles() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("active", active);
+        IndexProfileSwitch running = inProgress.get();
+        result.put("switching", running != null ? running.toMap() : null);
+        List<Map<String, Object>> profiles = new ArrayList<>();
+        for (IndexProfile profile : IndexProfile.values()) {
+            profiles.add(Map.of(
+                    "name", label(profile),
+                    "indexes", profile.getIndexes().stream()
+                            .map(d -> Map.of("name", d.name(), "columns", d.columns()))
+                            .collect(Collectors.toList())));
+        }
+        result.put("profiles", profiles);
+        result.put("switches", switches.values().stream()
+                .sorted(Comparator.comparingLong(IndexProfileSwitch::getStartedAtMillis).reversed())
+                .map(IndexProfileSwitch::toMap)
+                .collect(Collectors.toList()));
+        return result;
+    }
+
+    public IndexProfileSwitch getSwitch(String jobId) {
+        return switches.get(jobId);
+    }
+
+    /**
+     * 재시작 전 전환까지 포함한 영구 이력 (최신순).
+     */
+    public List<Map<String, Object>> getHistory(int limit) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_HISTORY_SQL)) {
+            stmt.setInt(1, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("profile", rs.getString(1));
+                    row.put("previousProfile", rs.getString(2));
+                    row.put("status", rs.getString(3));
+                    row.put("startedAt", rs.getTimestamp(4).getTime());
+                    row.put("endedAt", rs.getTimestamp(5).getTime());
+                    row.put("buildMs", rs.getLong(6));
+                    row.put("detail", rs.getString(7));
+                    rows.add(row);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Index profile history query failed: " + e.getMessage(), e);
+        }
+        return rows;
+    }
+
+    public String getActive() {
+        return active;
+    }
+
+    /**
+     * [fromMillis, toMillis] 구간 동안 활성이었던 프로파일 (시간순). toMillis 가 0 이면 현재까지.
+     */
+    public List<String> profilesBetween(long fromMillis, long toMillis) {
+        long to = toMillis > 0 ? toMillis : System.currentTimeMillis();
+        List<Span> spans = List.copyOf(timeline);
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i < spans.size(); i++) {
+            long spanEnd = i + 1 < spans.size() ? spans.get(i + 1).atMillis() : Long.MAX_VALUE;
+            if (spans.get(i).atMillis() <= to && spanEnd > fromMillis) {
+                result.add(spans.get(i).profile());
+            }
+        }
+        return result;
+    }
+
+    static String label(IndexProfile profile) {
+        return profile.name().toLowerCase();
+    }
+
+    private void apply(IndexProfileSwitch job) {
+        try (Connection conn = dataSource.getConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("ALTER SESSION SET DDL_LOCK_TIMEOUT = " + DDL_LOCK_TIMEOUT_SECONDS);
+                Set<String> existing = managedIndexes(conn);
+                Set<String> wanted = new HashSet<>();
+                for (IndexProfile.Definition index : job.getTarget().getIndexes()) {
+                    wanted.add(index.name());
+                    if (!existing.contains(index.name())) {
+                        runDdl(stmt, job, "create", index.name(),
+                                "CREATE INDEX " + index.name() + " ON ORDERS (" + index.columns() + ")");
+                    }
+                }
+                for (String name : existing) {
+                    if (!wanted.contains(name)) {
+                        runDdl(stmt, job, "drop", name, "DROP INDEX " + name);
+                    }
+                }
+            } finally {
+                // 풀로 돌아가는 세션에 설정을 남기지 않음
+                try (Statement reset = conn.createStatement()) {
+                    reset.execute("ALTER SESSION SET DDL_LOCK_TIMEOUT = 0");
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Index profile switch failed: " + e.getMessage(), e);
+        }
+    }
+
+    // ONLINE 으로 먼저 시도하고, 에디션이 지원하지 않으면 일반 DDL 로 다시 실행
+    private void runDdl(Statement stmt, IndexProfileSwitch job, String action, String index, String ddl) throws SQLException {
+        long start = System.nanoTime();
+        boolean online = true;
+        try {
+            stmt.execute(ddl + " ONLINE");
+        } catch (SQLException e) {
+            if (e.getErrorCode() != ORA_FEATURE_NOT_ENABLED) {
+                throw e;
+            }
+            online = false;
+            stmt.execute(ddl);
+        }
+        long elapsed = System.nanoTime() - start;
+        job.stepCompleted(action, index, online, elapsed);
+        log.info("Index profile switch {}: {} {} in {} ms (online={})", job.getId(), action, index, elapsed / 1_000_000, online);
+    }
+
+    // 전환 후 실제 인덱스 구성으로 활성 프로파일을 다시 판정 (실패 시 중간 상태는 custom)
+    private void refresh(IndexProfileSwitch job) {
+        try (Connection conn = dataSource.getConnection()) {
+            mark(detect(conn));
+        } catch (SQLException e) {
+            log.warn("Could not detect ORDERS index profile after switch {}: {}", job.getId(), e.getMessage());
+            mark(CUSTOM);
+        }
+    }
+
+    private String detect(Connection conn) throws SQLException {
+        Set<String> existing = managedIndexes(conn);
+        for (IndexProfile profile : IndexProfile.values()) {
+            Set<String> names = profile.getIndexes().stream().map(IndexProfile.Definition::name).collect(Collectors.toSet());
+            if (names.equals(existing)) {
+                return label(profile);
+            }
+        }
+        return CUSTOM;
+    }
+
+    private Set<String> managedIndexes(Connection conn) throws SQLException {
+        Set<String> names = new HashSet<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(MANAGED_INDEXES_SQL)) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+
+    private void mark(String profile) {
+        active = profile;
+        if (timeline.isEmpty() || !timeline.get(timeline.size() - 1).profile().equals(profile)) {
+            timeline.add(new Span(System.currentTimeMillis(), profile));
+        }
+        while (timeline.size() > MAX_TIMELINE) {
+            timeline.remove(0);
+        }
+    }
+
+    private void persist(IndexProfileSwitch job) {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(INSERT_HISTORY_SQL)) {
+            stmt.setString(1, label(job.getTarget()));
+            stmt.setString(2, job.getFrom());
+            stmt.setString(3, job.getStatus());
+            stmt.setTimestamp(4, new Timestamp(job.getStartedAtMillis()));
+            stmt.setTimestamp(5, new Timestamp(job.getEndedAtMillis()));
+            stmt.setLong(6, job.getElapsedMillis());
+            String error = job.getError();
+            stmt.setString(7, error != null && error.length() > 4000 ? error.substring(0, 4000) : error);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            log.warn("Could not record index profile switch {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    private void retain(IndexProfileSwitch job) {
+        switches.put(job.getId(), job);
+        if (switches.size() > MAX_RETAINED_SWITCHES) {
+            switches.values().stream()
+                    .filter(j -> !"running".equals(j.getStatus()))
+                    .min(Comparator.comparingLong(IndexProfileSwitch::getStartedAtMillis))
+                    .ifPresent(oldest -> switches.remove(oldest.getId()));
+        }
+    }
+}
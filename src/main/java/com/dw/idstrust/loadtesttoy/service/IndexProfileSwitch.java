@@ -0,0 +1,99 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 인덱스 프로파일 전환 작업의 진행 상태와 단계별(인덱스 생성/삭제) 소요 시간.
+ */
+public class IndexProfileSwitch {
+
+    private final String id = "index-" + UUID.randomUUID().toString().substring(0, 8);
+    private final String from;
+    private final IndexProfile target;
+    private final long startedAtMillis = System.currentTimeMillis();
+    private final long startedAtNanos = System.nanoTime();
+    private final List<Map<String, Object>> steps = new CopyOnWriteArrayList<>();
+    private volatile long endedAtMillis;
+    private volatile long endedAtNanos;
+    private volatile String status = "running";
+    private volatile String error;
+
+    IndexProfileSwitch(String from, IndexProfile target) {
+        this.from = from;
+        this.target = target;
+    }
+
+    void stepCompleted(String action, String index, boolean online, long elapsedNanos) {
+        Map<String, Object> step = new LinkedHashMap<>();
+        step.put("action", action);
+        step.put("index", index);
+        step.put("online", online);
+        step.put("elapsedMs", elapsedNanos / 1_000_000.0);
+        steps.add(step);
+    }
+
+    void complete() {
+        endedAtNanos = System.nanoTime();
+        endedAtMillis = System.currentTimeMillis();
+        status = "completed";
+    }
+
+    void fail(Throwable t) {
+        endedAtNanos = System.nanoTime();
+        endedAtMillis = System.currentTimeMillis();
+        status = "failed";
+        error = t.getMessage();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public IndexProfile getTarget() {
+        return target;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    public long getEndedAtMillis() {
+        return endedAtMillis;
+    }
+
+    public long getElapsedMillis() {
+        return ((endedAtNanos != 0 ? endedAtNanos : System.nanoTime()) - startedAtNanos) / 1_000_000;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("jobId", id);
+        result.put("status", status);
+        result.put("from", from);
+        result.put("to", IndexProfileService.label(target));
+        result.put("startedAt", startedAtMillis);
+        result.put("endedAt", endedAtMillis == 0 ? null : endedAtMillis);
+        result.put("elapsedMs", getElapsedMillis());
+        result.put("steps", List.copyOf(steps));
+        if (error != null) {
+            result.put("error", error);
+        }
+        return result;
+    }
+}
@@ -39,4 +39,12 @@ public interface K6ControlService {
      * @return 테스트 상태 정보를 담은 Map
      */
     Map<String, Object> getStatus();
+
+    /**
+     * k6 JSON 출력에서 집계한 초 단위 시계열(RPS, 지연 백분위수, 실패율, 활성 VU)을 반환합니다.
+     *
+     * @param testId 실행 중이거나 타입별로 마지막에 완료된 테스트의 ID
+     * @return 최근 구간, 누적 요약, 시계열을 담은 Map. 알 수 없는 ID 이면 null
+     */
+    Map<String, Object> getMetrics(String testId);
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -26,11 +27,13 @@ public class K6ControlServiceImpl implements K6ControlService {
 
     private final Map<String, K6TestInstance> runningTests = new ConcurrentHashMap<>();
     private final Map<String, Map<String, String>> lastFinishedTests = new ConcurrentHashMap<>();
+    private final Map<String, K6LiveMetrics> lastFinishedMetrics = new ConcurrentHashMap<>();
 
     private final String dockerCommand;
     private final String baseUrl;
     private final String networkName;
     private final String k6ScriptsPath;
+    private final IndexProfileService indexProfiles;
 
     /**
      * K6 테스트 인스턴스의 상태를 저장하는 내부 클래스.
@@ -40,24 +43,29 @@ public class K6ControlServiceImpl implements K6ControlService {
         final String type;
         final Process process;
         final Map<String, String> result = new ConcurrentHashMap<>();
+        final K6LiveMetrics metrics;
+        final long startedAtMillis = System.currentTimeMillis();
 
         K6TestInstance(String id, String type, String scenario, Process process) {
             this.id = id;
             this.type = type;
             this.process = process;
+            this.metrics = new K6LiveMetrics(id);
             result.put("id", id);
             result.put("type", type);
             result.put("scenario", scenario);
             result.put("status", "running");
-            result.put("startTime", String.valueOf(System.currentTimeMillis()));
+            result.put("startTime", String.valueOf(startedAtMillis));
         }
     }
 
     public K6ControlServiceImpl(@Value("${k6.base-url:http://app:28080}") String baseUrl,
                                 @Value("${k6.docker.network:load-test-net}") String networkName,
                                 @Value("${k6.scripts.path.on.host:}") String scriptsPathOnHost,
-                                @Value("${k6.scripts.path:}") String scriptsPath) {
+                                @Value("${k6.scripts.path:}") String scriptsPath,
+                                IndexProfileService indexProfiles) {
         this.baseUrl = baseUrl;
+        this.indexProfiles = indexProfiles;
         this.networkName = networkName;
         this.dockerCommand = findDockerCommand();
 
@@ -86,10 +94,11 @@ public class K6ControlServiceImpl implements K6ControlService {
             log.info("Starting K6 test [ID: {}] with command: {}", testId, String.join(" ", command));
 
             ProcessBuilder pb = new ProcessBuilder(command);
-            pb.redirectErrorStream(true); // 표준 에러를 표준 출력으로 리다이렉트
+            // stdout 은 JSON 메트릭 스트림, stderr 는 k6 로그로 분리하여 읽는다
             Process process = pb.start();
 
             K6TestInstance instance = new K6TestInstance(testId, testType, scenario, process);
+            instance.result.put("indexProfile", indexProfiles.getActive());
             runningTests.put(testId, instance);
 
             executeK6Process(instance);
@@ -129,24 +138,39 @@ public class K6ControlServiceImpl implements K6ControlService {
         command.add("BASE_URL=" + baseUrl);
         command.add("grafana/k6:latest");
         command.add("run");
+        command.add("--quiet");
+        command.add("--out");
+        command.add("json=/dev/stdout");
         command.add("/scripts/" + scriptName);
         return command;
     }
 
     private void executeK6Process(K6TestInstance instance) {
-        // Asynchronously read process output
+        // Asynchronously parse JSON metric output
         new Thread(() -> {
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(instance.process.getInputStream()))) {
+            try {
+                new K6JsonOutputReader(instance.metrics, line -> log.info("K6 [{}]: {}", instance.id, line))
+                        .read(instance.process.getInputStream());
+            } catch (Exception e) {
+                if (instance.process.isAlive() && !String.valueOf(e.getMessage()).contains("Stream closed")) {
+                    log.error("Error reading K6 output for test {}", instance.id, e);
+                }
+            }
+        }, "k6-output-" + instance.id).start();
+
+        // Asynchronously read k6 log output
+        new Thread(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(instance.process.getErrorStream()))) {
                 String line;
                 while ((line = reader.readLine()) != null) {
                     log.info("K6 [{}]: {}", instance.id, line);
                 }
             } catch (Exception e) {
-                if (instance.process.isAlive() && !e.getMessage().contains("Stream closed")) {
-                    log.error("Error reading K6 output for test {}", instance.id, e);
+                if (instance.process.isAlive() && !String.valueOf(e.getMessage()).contains("Stream closed")) {
+                    log.error("Error reading K6 log for test {}", instance.id, e);
                 }
             }
-        }).start();
+        }, "k6-log-" + instance.id).start();
 
         // Asynchronously wait for process completion
         new Thread(() -> {
@@ -160,8 +184,10 @@ public class K6ControlServiceImpl implements K6ControlService {
                 Thread.currentThread().interrupt();
                 log.warn("K6 test [{}] was interrupted.", instance.id);
             } finally {
+                recordIndexProfiles(instance);
                 runningTests.remove(instance.id);
                 lastFinishedTests.put(instance.type, instance.result); // 타입별로 마지막 결과 저장
+                lastFinishedMetrics.put(instance.type, instance.metrics);
             }
         }).start();
     }
@@ -195,8 +221,10 @@ public class K6ControlServiceImpl implements K6ControlService {
         // 3. Update status
         instance.result.put("status", "stopped");
         instance.result.put("endTime", String.valueOf(System.currentTimeMillis()));
+        recordIndexProfiles(instance);
         runningTests.remove(testId);
         lastFinishedTests.put(instance.type, instance.result);
+        lastFinishedMetrics.put(instance.type, instance.metrics);
     }
 
 
@@ -231,23 +259,57 @@ public class K6ControlServiceImpl implements K6ControlService {
             }
             instance.result.put("status", "stopped");
             instance.result.put("endTime", String.valueOf(System.currentTimeMillis()));
+            recordIndexProfiles(instance);
             lastFinishedTests.put(instance.type, instance.result);
+            lastFinishedMetrics.put(instance.type, instance.metrics);
         });
         runningTests.clear();
     }
 
     @Override
     public Map<String, Object> getStatus() {
-        List<Map<String, String>> running = runningTests.values().stream()
-                .map(instance -> Map.copyOf(instance.result))
+        List<Map<String, Object>> running = runningTests.values().stream()
+                .map(instance -> {
+                    Map<String, Object> test = new LinkedHashMap<>(instance.result);
+                    test.put("live", instance.metrics.live());
+                    return test;
+                })
                 .collect(Collectors.toList());
 
+        Map<String, Object> finishedLive = new LinkedHashMap<>();
+        lastFinishedMetrics.forEach((type, metrics) -> finishedLive.put(type, metrics.live()));
+
         return Map.of(
                 "runningTests", running,
-                "lastFinishedTests", Map.copyOf(lastFinishedTests)
+                "lastFinishedTests", Map.copyOf(lastFinishedTests),
+                "lastFinishedLive", finishedLive
         );
     }
 
+    @Override
+    public Map<String, Object> getMetrics(String testId) {
+        K6TestInstance instance = runningTests.get(testId);
+        K6LiveMetrics metrics = instance != null
+                ? instance.metrics
+                : lastFinishedMetrics.values().stream()
+                        .filter(m -> m.getTestId().equals(testId))
+                        .findFirst()
+                        .orElse(null);
+        if (metrics == null) {
+            return null;
+        }
+        Map<String, Object> result = new LinkedHashMap<>(metrics.live());
+        result.put("testId", testId);
+        result.put("series", metrics.series());
+        return result;
+    }
+
+    // 실행 구간 동안 거친 인덱스 프로파일 (전환이 없었으면 시작 시 프로파일 하나)
+    private void recordIndexProfiles(K6TestInstance instance) {
+        List<String> profiles = indexProfiles.profilesBetween(instance.startedAtMillis, System.currentTimeMillis());
+        instance.result.put("indexProfiles", String.join(",", profiles));
+    }
+
     // --- Helper Methods (unchanged) ---
 
     private String determineScriptsPath(String configuredPath) {
@@ -0,0 +1,242 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * k6 의 {@code --out json} 출력을 바이트 단위로 읽어 {@link K6LiveMetrics} 에 전달한다.
+ * 초당 수만 줄을 처리할 수 있도록 줄/값마다 String 을 만들지 않고 버퍼 위에서 직접
+ * 메트릭 이름, 시각, 값을 파싱하며, 집계 대상이 아닌 메트릭은 이름만 보고 건너뛴다.
+ * JSON 이 아닌 줄(종료 요약 등)만 문자열로 변환해 전달한다.
+ */
+final class K6JsonOutputReader {
+
+    private static final byte[] POINT_TYPE = ascii("\"type\":\"Point\"");
+    private static final byte[] METRIC_KEY = ascii("\"metric\":\"");
+    private static final byte[] TIME_KEY = ascii("\"time\":\"");
+    private static final byte[] VALUE_KEY = ascii("\"value\":");
+
+    private static final double[] POW10 = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18};
+
+    private final K6LiveMetrics metrics;
+    private final Consumer<String> textLines;
+
+    K6JsonOutputReader(K6LiveMetrics metrics, Consumer<String> textLines) {
+        this.metrics = metrics;
+        this.textLines = textLines;
+    }
+
+    void read(InputStream in) throws IOException {
+        byte[] buf = new byte[64 * 1024];
+        int end = 0;
+        int scanned = 0;
+        int n;
+        try {
+            while ((n = in.read(buf, end, buf.length - end)) != -1) {
+                end += n;
+                int lineStart = 0;
+                for (int i = scanned; i < end; i++) {
+                    if (buf[i] == '\n') {
+                        handleLine(buf, lineStart, i);
+                        lineStart = i + 1;
+                    }
+                }
+                int remaining = end - lineStart;
+                if (lineStart > 0) {
+                    System.arraycopy(buf, lineStart, buf, 0, remaining);
+                } else if (remaining == buf.length) {
+                    buf = Arrays.copyOf(buf, buf.length * 2);
+                }
+                end = remaining;
+                scanned = remaining;
+            }
+            if (end > 0) {
+                handleLine(buf, 0, end);
+            }
+        } finally {
+            metrics.finish();
+        }
+    }
+
+    private void handleLine(byte[] b, int from, int to) {
+        if (to > from && b[to - 1] == '\r') {
+            to--;
+        }
+        if (to <= from) {
+            return;
+        }
+        if (b[from] != '{') {
+            textLines.accept(new String(b, from, to - from, StandardCharsets.UTF_8));
+            return;
+        }
+        if (indexOf(b, from, to, POINT_TYPE) < 0) {
+            return;
+        }
+        K6LiveMetrics.Metric metric = matchMetric(b, from, to);
+        if (metric == null) {
+            return;
+        }
+        int time = indexOf(b, from, to, TIME_KEY);
+        int value = indexOf(b, from, to, VALUE_KEY);
+        if (time < 0 || value < 0) {
+            return;
+        }
+        long second = parseEpochSecond(b, time + TIME_KEY.length, to);
+        if (second == Long.MIN_VALUE) {
+            return;
+        }
+        metrics.record(metric, second, parseNumber(b, value + VALUE_KEY.length, to));
+    }
+
+    private static K6LiveMetrics.Metric matchMetric(byte[] b, int from, int to) {
+        int start = indexOf(b, from, to, METRIC_KEY);
+        if (start < 0) {
+            return null;
+        }
+        start += METRIC_KEY.length;
+        int end = start;
+        while (end < to && b[end] != '"') {
+            end++;
+        }
+        for (K6LiveMetrics.Metric metric : K6LiveMetrics.Metric.ALL) {
+            byte[] name = metric.name;
+            if (name.length == end - start && Arrays.equals(b, start, end, name, 0, name.length)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * RFC 3339 시각(예: 2024-05-09T14:34:45.239531499+09:00)을 epoch 초로 변환한다.
+     */
+    static long parseEpochSecond(byte[] b, int p, int to) {
+        if (to - p < 20) {
+            return Long.MIN_VALUE;
+        }
+        int year = digits(b, p, 4);
+        int month = digits(b, p + 5, 2);
+        int day = digits(b, p + 8, 2);
+        int hour = digits(b, p + 11, 2);
+        int minute = digits(b, p + 14, 2);
+        int sec = digits(b, p + 17, 2);
+        if ((year | month | day | hour | minute | sec) < 0) {
+            return Long.MIN_VALUE;
+        }
+        int i = p + 19;
+        if (i < to && b[i] == '.') {
+            i++;
+            while (i < to && b[i] >= '0' && b[i] <= '9') {
+                i++;
+            }
+        }
+        int offsetSeconds = 0;
+        if (i + 6 <= to && (b[i] == '+' || b[i] == '-')) {
+            int offsetHour = digits(b, i + 1, 2);
+            int offsetMinute = digits(b, i + 4, 2);
+            if ((offsetHour | offsetMinute) < 0) {
+                return Long.MIN_VALUE;
+            }
+            offsetSeconds = (offsetHour * 3600 + offsetMinute * 60) * (b[i] == '-' ? -1 : 1);
+        }
+        return daysFromCivil(year, month, day) * 86_400L + hour * 3600L + minute * 60L + sec - offsetSeconds;
+    }
+
+    private static int digits(byte[] b, int p, int count) {
+        int result = 0;
+        for (int i = p; i < p + count; i++) {
+            int d = b[i] - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            result = result * 10 + d;
+        }
+        return result;
+    }
+
+    // proleptic Gregorian 날짜 -> 1970-01-01 기준 일수
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+
+    /**
+     * JSON 숫자를 double 로 파싱한다. 유효 숫자 18자리까지만 사용하며 지연/카운터 값에는 충분하다.
+     */
+    static double parseNumber(byte[] b, int p, int to) {
+        boolean negative = p < to && b[p] == '-';
+        if (negative) {
+            p++;
+        }
+        long mantissa = 0;
+        int significant = 0;
+        int scale = 0;
+        while (p < to && b[p] >= '0' && b[p] <= '9') {
+            if (significant < 18) {
+                mantissa = mantissa * 10 + (b[p] - '0');
+                if (mantissa != 0) {
+                    significant++;
+                }
+            } else {
+                scale++;
+            }
+            p++;
+        }
+        if (p < to && b[p] == '.') {
+            p++;
+            while (p < to && b[p] >= '0' && b[p] <= '9') {
+                if (significant < 18) {
+                    mantissa = mantissa * 10 + (b[p] - '0');
+                    if (mantissa != 0) {
+                        significant++;
+                    }
+                    scale--;
+                }
+                p++;
+            }
+        }
+        if (p < to && (b[p] == 'e' || b[p] == 'E')) {
+            p++;
+            boolean negativeExponent = p < to && b[p] == '-';
+            if (p < to && (b[p] == '-' || b[p] == '+')) {
+                p++;
+            }
+            int exponent = 0;
+            while (p < to && b[p] >= '0' && b[p] <= '9') {
+                exponent = exponent * 10 + (b[p] - '0');
+                p++;
+            }
+            scale += negativeExponent ? -exponent : exponent;
+        }
+        double value = mantissa;
+        if (scale > 0) {
+            value *= scale < POW10.length ? POW10[scale] : Math.pow(10, scale);
+        } else if (scale < 0) {
+            value /= -scale < POW10.length ? POW10[-scale] : Math.pow(10, -scale);
+        }
+        return negative ? -value : value;
+    }
+
+    private static int indexOf(byte[] b, int from, int to, byte[] pattern) {
+        byte first = pattern[0];
+        int last = to - pattern.length;
+        for (int i = from; i <= last; i++) {
+            if (b[i] == first && Arrays.equals(b, i, i + pattern.length, pattern, 0, pattern.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
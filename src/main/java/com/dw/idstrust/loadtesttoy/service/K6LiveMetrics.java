@@ -0,0 +1,192 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.HdrHistogram.Histogram;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * k6 샘플을 테스트별 초 단위 시계열(RPS, 지연 백분위수, 실패율, 활성 VU)로 집계한다.
+ * 파서 스레드 하나만 기록하며, 완성된 초 구간은 불변 맵으로 발행되어 상태 API 가 잠금 없이 읽는다.
+ * k6 출력은 초 경계에서 약간 뒤섞여 도착하므로 최근 {@value #OPEN_SECONDS}초 구간은 열어 둔 뒤 확정한다.
+ */
+class K6LiveMetrics {
+
+    enum Metric {
+        HTTP_REQS("http_reqs"),
+        HTTP_REQ_DURATION("http_req_duration"),
+        HTTP_REQ_FAILED("http_req_failed"),
+        VUS("vus"),
+        ITERATIONS("iterations");
+
+        static final Metric[] ALL = values();
+
+        final byte[] name;
+
+        Metric(String name) {
+            this.name = name.getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private static final int OPEN_SECONDS = 3;
+    private static final int MAX_SERIES = 600;
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String testId;
+    private final Bucket[] open = new Bucket[OPEN_SECONDS];
+    private final Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+    private final ArrayDeque<Map<String, Object>> series = new ArrayDeque<>();
+    private long newestSecond = Long.MIN_VALUE;
+    private long totalRequests;
+    private long totalFailed;
+    private long totalFailSamples;
+    private long lateSamples;
+    private int lastVus;
+
+    private volatile Map<String, Object> latest = Map.of();
+    private volatile Map<String, Object> totals = Map.of();
+
+    private static final class Bucket {
+        long second = Long.MIN_VALUE;
+        long requests;
+        long failed;
+        long failSamples;
+        long iterations;
+        int vus;
+        final Histogram latency = new Histogram(MAX_LATENCY_MICROS, 3);
+
+        void reset(long second) {
+            this.second = second;
+            requests = 0;
+            failed = 0;
+            failSamples = 0;
+            iterations = 0;
+            vus = -1;
+            latency.reset();
+        }
+    }
+
+    K6LiveMetrics(String testId) {
+        this.testId = testId;
+        for (int i = 0; i < OPEN_SECONDS; i++) {
+            open[i] = new Bucket();
+        }
+    }
+
+    void record(Metric metric, long second, double value) {
+        if (second > newestSecond) {
+            advance(second);
+        } else if (second <= newestSecond - OPEN_SECONDS) {
+            lateSamples++;
+            return;
+        }
+        Bucket bucket = open[(int) Math.floorMod(second, (long) OPEN_SECONDS)];
+        if (bucket.second != second) {
+            bucket.reset(second);
+        }
+        switch (metric) {
+            case HTTP_REQS -> bucket.requests += (long) value;
+            case HTTP_REQ_DURATION -> bucket.latency.recordValue(
+                    Math.min(Math.max(0L, (long) (value * 1000.0)), MAX_LATENCY_MICROS));
+            case HTTP_REQ_FAILED -> {
+                bucket.failSamples++;
+                if (value != 0) {
+                    bucket.failed++;
+                }
+            }
+            case VUS -> bucket.vus = Math.max(bucket.vus, (int) value);
+            case ITERATIONS -> bucket.iterations += (long) value;
+        }
+    }
+
+    /**
+     * 스트림 종료 시 열려 있는 구간을 모두 확정한다.
+     */
+    void finish() {
+        if (newestSecond != Long.MIN_VALUE) {
+            closeThrough(newestSecond);
+        }
+    }
+
+    private void advance(long second) {
+        if (newestSecond != Long.MIN_VALUE) {
+            closeThrough(Math.min(newestSecond, second - OPEN_SECONDS));
+        }
+        newestSecond = second;
+    }
+
+    // 오래된 순서로 확정
+    private void closeThrough(long lastSecond) {
+        for (long t = newestSecond - OPEN_SECONDS + 1; t <= lastSecond; t++) {
+            Bucket bucket = open[(int) Math.floorMod(t, (long) OPEN_SECONDS)];
+            if (bucket.second == t) {
+                publish(bucket);
+                bucket.second = Long.MIN_VALUE;
+            }
+        }
+    }
+
+    private void publish(Bucket bucket) {
+        if (bucket.vus >= 0) {
+            lastVus = bucket.vus;
+        }
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("time", TimeUnit.SECONDS.toMillis(bucket.second));
+        point.put("rps", bucket.requests);
+        putPercentiles(point, bucket.latency);
+        point.put("failRate", bucket.failSamples > 0 ? (double) bucket.failed / bucket.failSamples : 0.0);
+        point.put("vus", lastVus);
+        point.put("iterations", bucket.iterations);
+        Map<String, Object> published = Collections.unmodifiableMap(point);
+
+        synchronized (series) {
+            series.addLast(published);
+            if (series.size() > MAX_SERIES) {
+                series.pollFirst();
+            }
+        }
+        latest = published;
+
+        total.add(bucket.latency);
+        totalRequests += bucket.requests;
+        totalFailed += bucket.failed;
+        totalFailSamples += bucket.failSamples;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", totalRequests);
+        summary.put("failRate", totalFailSamples > 0 ? (double) totalFailed / totalFailSamples : 0.0);
+        putPercentiles(summary, total);
+        summary.put("lateSamples", lateSamples);
+        totals = Collections.unmodifiableMap(summary);
+    }
+
+    private static void putPercentiles(Map<String, Object> target, Histogram histogram) {
+        target.put("p50Ms", histogram.getValueAtPercentile(50.0) / 1000.0);
+        target.put("p90Ms", histogram.getValueAtPercentile(90.0) / 1000.0);
+        target.put("p95Ms", histogram.getValueAtPercentile(95.0) / 1000.0);
+        target.put("p99Ms", histogram.getValueAtPercentile(99.0) / 1000.0);
+        target.put("maxMs", histogram.getMaxValue() / 1000.0);
+    }
+
+    String getTestId() {
+        return testId;
+    }
+
+    /**
+     * 가장 최근에 확정된 1초 구간과 누적 요약.
+     */
+    Map<String, Object> live() {
+        return Map.of("current", latest, "totals", totals);
+    }
+
+    List<Map<String, Object>> series() {
+        synchronized (series) {
+            return new ArrayList<>(series);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 엔드포인트별 HDR 지연 시간 히스토그램 레지스트리.
+ * 고정 주기(metrics.latency.interval-ms)로 구간을 교체하여, 조회하는 쪽 수와 무관하게 동일한 구간 스냅샷을 제공한다.
+ */
+@Service
+public class LatencyMetricsService {
+
+    private final ConcurrentMap<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+    private final long intervalMs;
+    private volatile long lastRollAt = System.currentTimeMillis();
+
+    public LatencyMetricsService(@Value("${metrics.latency.interval-ms:5000}") long intervalMs) {
+        this.intervalMs = intervalMs;
+    }
+
+    public LatencyRecorder recorder(String name) {
+        LatencyRecorder recorder = recorders.get(name);
+        return recorder != null ? recorder : recorders.computeIfAbsent(name, LatencyRecorder::new);
+    }
+
+    @Scheduled(fixedRateString = "${metrics.latency.interval-ms:5000}")
+    public void rollInterval() {
+        recorders.values().forEach(LatencyRecorder::roll);
+        lastRollAt = System.currentTimeMillis();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> endpoints = new TreeMap<>();
+        recorders.forEach((name, recorder) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("interval", recorder.lastInterval());
+            entry.put("cumulative", recorder.cumulative());
+            endpoints.put(name, entry);
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("intervalMs", intervalMs);
+        result.put("intervalEndedAt", lastRollAt);
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    public void reset() {
+        recorders.values().forEach(LatencyRecorder::reset);
+    }
+}
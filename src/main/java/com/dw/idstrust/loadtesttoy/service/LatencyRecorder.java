@@ -0,0 +1,72 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트(또는 시나리오) 하나의 지연 시간 기록기.
+ * 기록은 HdrHistogram Recorder 로 wait-free / allocation-free 이며, 구간 교체(roll)만 동기화된다.
+ * 값은 마이크로초 단위로 저장한다.
+ */
+public class LatencyRecorder {
+    static final long HIGHEST_TRACKABLE_MICROS = 3_600_000_000L; // 1시간
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Histogram cumulative = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private Histogram interval;
+    private volatile Map<String, Object> lastInterval = summarize(null);
+
+    LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void recordNanos(long nanos) {
+        recorder.recordValue(toMicros(nanos));
+    }
+
+    synchronized void roll() {
+        interval = recorder.getIntervalHistogram(interval);
+        cumulative.add(interval);
+        lastInterval = summarize(interval);
+    }
+
+    synchronized void reset() {
+        recorder.reset();
+        cumulative.reset();
+        lastInterval = summarize(null);
+    }
+
+    Map<String, Object> lastInterval() {
+        return lastInterval;
+    }
+
+    synchronized Map<String, Object> cumulative() {
+        return summarize(cumulative);
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0, Math.min(HIGHEST_TRACKABLE_MICROS, nanos / 1_000));
+    }
+
+    static Map<String, Object> summarize(Histogram h) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        long count = h == null ? 0 : h.getTotalCount();
+        result.put("count", count);
+        result.put("p50Ms", count == 0 ? 0.0 : h.getValueAtPercentile(50.0) / 1000.0);
+        result.put("p90Ms", count == 0 ? 0.0 : h.getValueAtPercentile(90.0) / 1000.0);
+        result.put("p99Ms", count == 0 ? 0.0 : h.getValueAtPercentile(99.0) / 1000.0);
+        result.put("p999Ms", count == 0 ? 0.0 : h.getValueAtPercentile(99.9) / 1000.0);
+        result.put("maxMs", count == 0 ? 0.0 : h.getMaxValue() / 1000.0);
+        result.put("meanMs", count == 0 ? 0.0 : h.getMean() / 1000.0);
+        return result;
+    }
+}
@@ -1,53 +1,107 @@
 package com.dw.idstrust.loadtesttoy.service;
 
 import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import com.dw.idstrust.loadtesttoy.service.kernel.CpuKernelRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
 
 @Service
 public class LoadGeneratorService {
     private static final Logger log = LoggerFactory.getLogger(LoadGeneratorService.class);
 
     private final LoadScenarioProperties props;
+    private final LatencyMetricsService latencyMetrics;
+    private final CpuLoadEngine cpuEngine;
+    private final MemoryPressureEngine memoryEngine;
+    private final GcStressEngine gcEngine;
+    private final DiskIoEngine diskEngine;
+    private final NetworkLoadEngine networkEngine;
+    private final WriteLoadEngine writeEngine;
+    private final IndexProfileService indexProfiles;
 
-    private final ExecutorService workerPool = Executors.newCachedThreadPool(r -> {
-        Thread t = new Thread(r, "load-worker");
-        t.setDaemon(true);
-        return t;
-    });
+    // platform 모드: cached thread pool, virtual 모드: 작업당 가상 스레드 (ExecutionConfig 참고)
+    private final ExecutorService workerPool;
 
     private final List<Future<?>> activeTasks = new CopyOnWriteArrayList<>();
     private final ConcurrentMap<String, AtomicBoolean> runningMap = new ConcurrentHashMap<>();
+    // 시나리오별 마지막 실행 통계
+    private final ConcurrentMap<String, ScenarioRun> lastRuns = new ConcurrentHashMap<>();
 
-    public LoadGeneratorService(LoadScenarioProperties props) {
+    public LoadGeneratorService(LoadScenarioProperties props,
+                                @Qualifier("loadWorkerPool") ExecutorService workerPool,
+                                LatencyMetricsService latencyMetrics,
+                                CpuLoadEngine cpuEngine,
+                                MemoryPressureEngine memoryEngine,
+                                GcStressEngine gcEngine,
+                                DiskIoEngine diskEngine,
+                                NetworkLoadEngine networkEngine,
+                                WriteLoadEngine writeEngine,
+                                IndexProfileService indexProfiles) {
         this.props = props;
+        this.workerPool = workerPool;
+        this.latencyMetrics = latencyMetrics;
+        this.cpuEngine = cpuEngine;
+        this.memoryEngine = memoryEngine;
+        this.gcEngine = gcEngine;
+        this.diskEngine = diskEngine;
+        this.networkEngine = networkEngine;
+        this.writeEngine = writeEngine;
+        this.indexProfiles = indexProfiles;
         log.info("LoadGeneratorService initialized (scheduler disabled, HTTP request mode)");
     }
 
     // Execute single workload synchronously (for HTTP request)
     public void executeWorkload(int durationMs, int cpuPercent, int ioOps) {
-        log.info("Executing workload: duration={}ms, cpu={}%, io={} ops/s", durationMs, cpuPercent, ioOps);
+        executeWorkload(durationMs, cpuPercent, ioOps, CpuKernelRegistry.DEFAULT_KERNEL, 1);
+    }
+
+    public void executeWorkload(int durationMs, int cpuPercent, int ioOps, String kernel, int parallelism) {
+        log.info("Executing workload: duration={}ms, cpu={}%, io={} ops/s, kernel={} x{}", durationMs, cpuPercent, ioOps, kernel, parallelism);
+        try (CpuLoadSession cpu = openCpuSession("workload", cpuPercent, kernel, parallelism)) {
+            runWorkload(durationMs, cpu, ioOps);
+        }
+    }
+
+    // cpuPercent 가 0 이면 null (CPU 부하 없음)
+    private CpuLoadSession openCpuSession(String owner, int cpuPercent, String kernel, int parallelism) {
+        return cpuPercent > 0 ? cpuEngine.open(owner, cpuPercent, kernel, parallelism) : null;
+    }
+
+    // 시나리오 작업 단위에서도 사용 (단위마다 로그를 남기지 않음)
+    private void runWorkload(int durationMs, CpuLoadSession cpu, int ioOps) {
         Instant end = Instant.now().plusMillis(durationMs);
 
-        while (Instant.now().isBefore(end)) {
-            int cpu = Math.max(0, Math.min(100, cpuPercent));
-            if (cpu > 0) {
-                busyWork(cpu);
+        while (Instant.now().isBefore(end) && !Thread.currentThread().isInterrupted()) {
+            if (cpu != null) {
+                // 창 안에 idle 구간이 포함되어 있으므로 별도 대기 불필요
+                cpuEngine.burn(cpu);
             }
             if (ioOps > 0) {
+                // 실제 파일 I/O 1회 후 ioOps 간격의 남은 시간만 대기
+                long intervalNanos = 1_000_000_000L / ioOps;
+                long opStart = System.nanoTime();
+                diskEngine.workloadOp();
+                long remainingNanos = intervalNanos - (System.nanoTime() - opStart);
                 try {
-                    Thread.sleep(1000L / Math.max(1, ioOps));
+                    if (remainingNanos > 0) {
+                        Thread.sleep(remainingNanos / 1_000_000, (int) (remainingNanos % 1_000_000));
+                    }
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
                 }
-            } else {
+            } else if (cpu == null) {
                 try {
                     Thread.sleep(50);
                 } catch (InterruptedException e) {
@@ -58,25 +112,62 @@ public class LoadGeneratorService {
         }
     }
 
-    public void triggerScenario(LoadScenarioProperties.Scenario scenario) {
+    /**
+     * @return 시작한 실행. 같은 이름의 시나리오가 이미 실행 중이면 null
+     */
+    public ScenarioRun triggerScenario(LoadScenarioProperties.Scenario scenario) {
         String name = scenario.getName() == null ? "unnamed" : scenario.getName();
         AtomicBoolean running = runningMap.computeIfAbsent(name, k -> new AtomicBoolean(false));
-        if (running.get()) {
+        if (!running.compareAndSet(false, true)) {
             log.info("Scenario {} already running, skipping", name);
-            return;
+            return null;
         }
-        running.set(true);
+
+        try {
+            boolean staged = scenario.getStages() != null && !scenario.getStages().isEmpty();
+            if (staged && scenario.isOpenLoop()) {
+                throw new IllegalArgumentException("stages are only supported for closed-loop scenarios: " + name);
+            }
+            if (staged) {
+                return triggerRampingClosedLoop(name, scenario, running);
+            }
+            return scenario.isOpenLoop()
+                    ? triggerOpenLoop(name, scenario, running)
+                    : triggerClosedLoop(name, scenario, running);
+        } catch (RuntimeException e) {
+            // 잘못된 설정(알 수 없는 커널 등)으로 시작하지 못한 경우 실행 표시 해제
+            running.set(false);
+            runningMap.remove(name, running);
+            throw e;
+        }
+    }
+
+    // Closed-loop: concurrency 개의 워커가 작업 단위를 쉬지 않고 연속 실행
+    private ScenarioRun triggerClosedLoop(String name, LoadScenarioProperties.Scenario scenario, AtomicBoolean running) {
         log.info("Triggering scenario: {} for {}s with concurrency={} cpu%={} ioOps/s={}", name, scenario.getDuration().getSeconds(), scenario.getConcurrency(), scenario.getCpuLoadPercent(), scenario.getIoOpsPerSecond());
+        ScenarioRun run = registerRun(new ScenarioRun(name, "closed-loop"));
+        run.setLatencyCorrection(ScenarioRun.CORRECTION_NOT_APPLICABLE);
+        CpuLoadSession cpu = startRun(name, scenario, run, running);
+        LatencyRecorder latency = latencyMetrics.recorder("scenario:" + name);
 
         CountDownLatch latch = new CountDownLatch(scenario.getConcurrency());
-        Instant end = Instant.now().plus(scenario.getDuration());
+        long end = System.nanoTime() + scenario.getDuration().toNanos();
 
         for (int i = 0; i < scenario.getConcurrency(); i++) {
             Future<?> f = workerPool.submit(() -> {
                 try {
-                    executeWorkload((int) scenario.getDuration().toMillis(),
-                                  scenario.getCpuLoadPercent(),
-                                  scenario.getIoOpsPerSecond());
+                    while (running.get() && end - System.nanoTime() > 0 && !Thread.currentThread().isInterrupted()) {
+                        run.tryDispatch(Integer.MAX_VALUE);
+                        long startedAt = System.nanoTime();
+                        try {
+                            runWorkload(scenario.getUnitDurationMs(), cpu, scenario.getIoOpsPerSecond());
+                        } finally {
+                            long serviceNanos = System.nanoTime() - startedAt;
+                            run.unitCompleted(0, serviceNanos);
+                            // 다음 단위는 이전 단위가 끝나자마자 시작하므로 의도된 발행 간격이 없어 보정할 누락 샘플도 없다
+                            latency.recordNanos(serviceNanos);
+                        }
+                    }
                 } finally {
                     latch.countDown();
                 }
@@ -92,35 +183,165 @@ public class LoadGeneratorService {
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             } finally {
+                if (cpu != null) {
+                    cpu.close();
+                }
+                run.finish(running.get() ? "completed" : "stopped");
                 running.set(false);
                 runningMap.remove(name, running);
                 activeTasks.removeIf(Future::isDone);
+                run.released();
             }
         });
+        return run;
     }
 
-    private void busyWork(int percent) {
-        long sliceMs = 100L;
-        long busyMs = sliceMs * percent / 100L;
-        long idleMs = sliceMs - busyMs;
-        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(busyMs);
-        while (System.nanoTime() < end) {
-            Math.sqrt(Math.random());
-        }
-        if (idleMs > 0) {
+    // Closed-loop + stages: 실행 중에 워커 수를 단계별 목표로 늘리거나 줄임 (RampingWorkers 참고)
+    private ScenarioRun triggerRampingClosedLoop(String name, LoadScenarioProperties.Scenario scenario, AtomicBoolean running) {
+        RampingWorkers.validate(scenario.getStages());
+        log.info("Triggering ramping scenario: {} with {} stages cpu%={} ioOps/s={}", name, scenario.getStages().size(), scenario.getCpuLoadPercent(), scenario.getIoOpsPerSecond());
+        ScenarioRun run = registerRun(new ScenarioRun(name, "closed-loop-ramping"));
+        run.setLatencyCorrection(ScenarioRun.CORRECTION_NOT_APPLICABLE);
+        CpuLoadSession cpu = startRun(name, scenario, run, running);
+
+        RampingWorkers ramp = new RampingWorkers(scenario, run, workerPool, running,
+                latencyMetrics.recorder("scenario:" + name), cpuEngine,
+                () -> runWorkload(scenario.getUnitDurationMs(), cpu, scenario.getIoOpsPerSecond()));
+
+        Future<?> f = workerPool.submit(() -> {
             try {
-                Thread.sleep(idleMs);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+                ramp.run();
+                log.info("Scenario {} completed", name);
+            } finally {
+                if (cpu != null) {
+                    cpu.close();
+                }
+                running.set(false);
+                runningMap.remove(name, running);
+                activeTasks.removeIf(Future::isDone);
+                run.released();
+            }
+        });
+        activeTasks.add(f);
+        return run;
+    }
+
+    // Open-loop: 도착률에 맞춰 작업 단위를 디스패치 (이전 단위 완료를 기다리지 않음)
+    private ScenarioRun triggerOpenLoop(String name, LoadScenarioProperties.Scenario scenario, AtomicBoolean running) {
+        log.info("Triggering open-loop scenario: {} for {}s at {} units/s ({}) unit={}ms cpu%={} ioOps/s={}", name, scenario.getDuration().getSeconds(), scenario.getArrivalRate(), scenario.getArrivalDistribution(), scenario.getUnitDurationMs(), scenario.getCpuLoadPercent(), scenario.getIoOpsPerSecond());
+        ScenarioRun run = registerRun(new ScenarioRun(name, "open-loop"));
+        run.setLatencyCorrection(scenario.isCorrectCoordinatedOmission() ? ScenarioRun.CORRECTION_INTENDED_START : ScenarioRun.CORRECTION_NONE);
+        CpuLoadSession cpu = startRun(name, scenario, run, running);
+
+        ArrivalScheduler scheduler = new ArrivalScheduler(scenario, run, workerPool, running,
+                latencyMetrics.recorder("scenario:" + name),
+                intendedStart -> runWorkload(scenario.getUnitDurationMs(), cpu, scenario.getIoOpsPerSecond()));
+
+        Future<?> f = workerPool.submit(() -> {
+            try {
+                scheduler.run();
+                log.info("Open-loop scenario {} completed: {}", name, run.toMap());
+            } finally {
+                if (cpu != null) {
+                    cpu.close();
+                }
+                running.set(false);
+                runningMap.remove(name, running);
+                activeTasks.removeIf(Future::isDone);
+                run.released();
             }
+        });
+        activeTasks.add(f);
+        return run;
+    }
+
+    // CPU 세션과 동반 부하(GC, 디스크, 네트워크)를 시작한다. 설정 오류로 실패하면 이미 연 세션을 닫고 실행을 failed 로 마감한다.
+    private CpuLoadSession startRun(String name, LoadScenarioProperties.Scenario scenario, ScenarioRun run, AtomicBoolean running) {
+        CpuLoadSession cpu = null;
+        try {
+            cpu = openCpuSession("scenario:" + name, scenario.getCpuLoadPercent(),
+                    scenario.getCpuKernel(), scenario.getCpuParallelism());
+            run.attachCpu(cpu);
+            startCompanionLoads(name, scenario, run, running);
+            return cpu;
+        } catch (RuntimeException e) {
+            if (cpu != null) {
+                cpu.close();
+            }
+            run.finish("failed");
+            run.released();
+            throw e;
         }
     }
 
+    // stages 가 있으면 단계 길이의 합이 시나리오 실행 시간
+    private static long durationMillis(LoadScenarioProperties.Scenario scenario) {
+        if (scenario.getStages() == null || scenario.getStages().isEmpty()) {
+            return scenario.getDuration().toMillis();
+        }
+        return scenario.getStages().stream().mapToLong(stage -> stage.getDuration().toMillis()).sum();
+    }
+
+    // 켜져 있는 동반 부하를 시나리오 실행 시간 동안 함께 생성 (running 플래그가 내려가면 같이 멈춤)
+    private void startCompanionLoads(String name, LoadScenarioProperties.Scenario scenario, ScenarioRun run, AtomicBoolean running) {
+        String owner = "scenario:" + name;
+        long durationMs = durationMillis(scenario);
+        BooleanSupplier keepRunning = running::get;
+        LoadScenarioProperties.GcProfile gc = scenario.getGc();
+        if (gc != null && gc.isEnabled()) {
+            run.attachGc(gcEngine.start(owner, gc, durationMs, keepRunning));
+        }
+        LoadScenarioProperties.DiskProfile disk = scenario.getDisk();
+        if (disk != null && disk.isEnabled()) {
+            run.attachDisk(diskEngine.start(owner, disk, durationMs, keepRunning));
+        }
+        LoadScenarioProperties.NetworkProfile network = scenario.getNetwork();
+        if (network != null && network.isEnabled()) {
+            run.attachNetwork(networkEngine.start(owner, network, durationMs, keepRunning));
+        }
+        LoadScenarioProperties.WriteProfile write = scenario.getWrite();
+        if (write != null && write.isEnabled()) {
+            run.attachWrite(writeEngine.start(owner, write, durationMs, keepRunning));
+        }
+    }
+
+    private ScenarioRun registerRun(ScenarioRun run) {
+        lastRuns.put(run.getName(), run);
+        return run;
+    }
+
+    public List<Map<String, Object>> getScenarioRuns() {
+        return lastRuns.values().stream()
+                .sorted(Comparator.comparingLong(ScenarioRun::getStartedAtMillis).reversed())
+                .map(run -> {
+                    Map<String, Object> result = run.toMap();
+                    // 실행 구간 동안 활성이었던 ORDERS 인덱스 프로파일 (전환 중 구간 포함)
+                    result.put("indexProfiles", indexProfiles.profilesBetween(run.getStartedAtMillis(), run.getEndedAtMillis()));
+                    return result;
+                })
+                .collect(Collectors.toList());
+    }
+
     public boolean isRunning() {
         return runningMap.values().stream().anyMatch(AtomicBoolean::get) || activeTasks.stream().anyMatch(t -> !t.isDone());
     }
 
+    /**
+     * 이름이 같은 실행 중인 시나리오 하나를 멈춘다. 워커는 현재 작업 단위를 마치고 종료한다.
+     *
+     * @return 실행 중이었으면 true
+     */
+    public boolean stopScenario(String name) {
+        AtomicBoolean running = runningMap.get(name);
+        return running != null && running.getAndSet(false);
+    }
+
     public void stopAll() {
+        runningMap.values().forEach(r -> r.set(false));
+        gcEngine.stopAll();
+        diskEngine.stopAll();
+        networkEngine.stopAll();
+        writeEngine.stopAll();
         for (Future<?> f : activeTasks) {
             f.cancel(true);
         }
@@ -128,79 +349,48 @@ public class LoadGeneratorService {
         runningMap.clear();
     }
 
-    public void executeMemoryWorkload(int sizeInMb, int durationInMs) {
-        log.info("Triggering memory workload: {} MB for {} ms", sizeInMb, durationInMs);
+    public MemoryPressureJob executeMemoryWorkload(int sizeInMb, int durationInMs) {
+        return executeMemoryWorkload(MemoryPressureEngine.Mode.HEAP, sizeInMb, durationInMs, 0);
+    }
+
+    public MemoryPressureJob executeMemoryWorkload(MemoryPressureEngine.Mode mode, int sizeInMb, int durationInMs, int touchRateMbPerSec) {
+        log.info("Triggering memory workload: {} MB ({}) for {} ms, touch rate={} MB/s", sizeInMb, mode, durationInMs, touchRateMbPerSec);
+        MemoryPressureJob job = memoryEngine.newJob("memory-workload", mode, sizeInMb, durationInMs, touchRateMbPerSec);
         AtomicBoolean running = new AtomicBoolean(true);
         runningMap.put("memory-workload", running);
 
         Future<?> future = workerPool.submit(() -> {
             try {
-                List<byte[]> memoryHog = new CopyOnWriteArrayList<>();
-                long sizeInBytes = (long) sizeInMb * 1024 * 1024;
-                int chunkSize = 1 * 1024 * 1024; // 1MB chunks
-                long allocatedBytes = 0;
-
-                log.info("Allocating ~{} MB of memory...", sizeInMb);
-                while (allocatedBytes < sizeInBytes) {
-                    memoryHog.add(new byte[chunkSize]);
-                    allocatedBytes += chunkSize;
-                }
-                log.info("Successfully allocated ~{} MB of memory.", sizeInMb);
-
-                // Hold the memory for the specified duration
-                Thread.sleep(durationInMs);
-
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("Memory workload thread interrupted.");
-            } catch (OutOfMemoryError e) {
-                log.error("OutOfMemoryError during memory workload! Releasing allocated memory.", e);
+                memoryEngine.run(job, null);
             } finally {
-                // The memory will be released automatically when the thread finishes
-                // and 'memoryHog' goes out of scope, allowing the GC to reclaim it.
-                log.info("Releasing ~{} MB of memory.", sizeInMb);
                 running.set(false);
                 runningMap.remove("memory-workload");
             }
         });
         activeTasks.add(future);
+        return job;
     }
 
-    public void executeCpuAndMemoryWorkload(int cpuPercent, int sizeInMb, int durationInMs) {
+    public MemoryPressureJob executeCpuAndMemoryWorkload(int cpuPercent, int sizeInMb, int durationInMs) {
         log.info("Triggering CPU+Memory workload: {}% CPU, {} MB for {} ms", cpuPercent, sizeInMb, durationInMs);
+        MemoryPressureJob job = memoryEngine.newJob("cpu-memory-workload", MemoryPressureEngine.Mode.HEAP, sizeInMb, durationInMs, 0);
         AtomicBoolean running = new AtomicBoolean(true);
         runningMap.put("cpu-memory-workload", running);
 
         Future<?> future = workerPool.submit(() -> {
-            List<byte[]> memoryHog = new CopyOnWriteArrayList<>();
+            CpuLoadSession cpu = openCpuSession("cpu-memory-workload", cpuPercent, CpuKernelRegistry.DEFAULT_KERNEL, 1);
             try {
-                // 1. Allocate Memory
-                long sizeInBytes = (long) sizeInMb * 1024 * 1024;
-                int chunkSize = 1 * 1024 * 1024; // 1MB chunks
-                long allocatedBytes = 0;
-                log.info("Allocating ~{} MB of memory for combined workload...", sizeInMb);
-                while (allocatedBytes < sizeInBytes) {
-                    memoryHog.add(new byte[chunkSize]);
-                    allocatedBytes += chunkSize;
-                }
-                log.info("Successfully allocated ~{} MB of memory.", sizeInMb);
-
-                // 2. Generate CPU load while holding memory
-                Instant end = Instant.now().plusMillis(durationInMs);
-                while (Instant.now().isBefore(end)) {
-                    busyWork(cpuPercent);
-                }
-
-            } catch (OutOfMemoryError e) {
-                log.error("OutOfMemoryError during combined workload!", e);
+                // 메모리를 잡은 상태에서 CPU 부하 생성
+                memoryEngine.run(job, () -> runWorkload(durationInMs, cpu, 0));
             } finally {
-                // 3. Release memory
-                log.info("Releasing ~{} MB of memory from combined workload.", sizeInMb);
-                memoryHog.clear();
+                if (cpu != null) {
+                    cpu.close();
+                }
                 running.set(false);
                 runningMap.remove("cpu-memory-workload");
             }
         });
         activeTasks.add(future);
+        return job;
     }
 }
@@ -0,0 +1,106 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 부하 엔진이 워커 풀에서 돌리는 실행 1회의 공통 상태.
+ * 엔진은 durationMs 가 지나거나, 소유자(시나리오)의 keepRunning 이 false 가 되거나, stop() 이 호출되면 실행을 끝낸다.
+ * 측정 구간은 started() 부터 finish() 까지이고, 엔진별 설정과 측정치는 하위 클래스가 가진다.
+ */
+public abstract class LoadRun {
+
+    private final String id;
+    private final String owner;
+    private final long createdAtMillis = System.currentTimeMillis();
+    private volatile long startedAtNanos;
+    private volatile long endedAtNanos;
+    private volatile String status;
+    private volatile String error;
+    private volatile boolean stopRequested;
+
+    protected LoadRun(String idPrefix, String owner, String initialStatus) {
+        this.id = idPrefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.owner = owner;
+        this.status = initialStatus;
+    }
+
+    void started() {
+        startedAtNanos = System.nanoTime();
+        status = "running";
+    }
+
+    void setStatus(String status) {
+        this.status = status;
+    }
+
+    void finish(String finalStatus) {
+        if (endedAtNanos == 0) {
+            endedAtNanos = System.nanoTime();
+            status = finalStatus;
+        }
+    }
+
+    void fail(Throwable t) {
+        error = t.getMessage() != null ? t.getMessage() : t.toString();
+        finish("failed");
+    }
+
+    public void stop() {
+        stopRequested = true;
+    }
+
+    boolean isStopRequested() {
+        return stopRequested;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isFinished() {
+        return endedAtNanos != 0;
+    }
+
+    public long getCreatedAtMillis() {
+        return createdAtMillis;
+    }
+
+    long getStartedAtNanos() {
+        return startedAtNanos;
+    }
+
+    // 측정 구간 길이 (시작 전이면 0, 실행 중이면 현재까지)
+    long elapsedNanos() {
+        long start = startedAtNanos;
+        return start == 0 ? 0 : (isFinished() ? endedAtNanos : System.nanoTime()) - start;
+    }
+
+    double elapsedSeconds() {
+        return elapsedNanos() / 1_000_000_000.0;
+    }
+
+    // 결과 맵의 공통 앞부분: id, owner, status
+    Map<String, Object> baseMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", id);
+        result.put("owner", owner);
+        result.put("status", status);
+        return result;
+    }
+
+    public abstract Map<String, Object> toMap();
+}
@@ -0,0 +1,310 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 힙, 다이렉트 버퍼(off-heap), 메모리 맵 파일 세 가지 방식으로 메모리 압박을 만든다.
+ * 1MB 청크 단위로 할당하고 청크마다 모든 페이지에 쓰기를 하여 RSS 에 실제로 반영되게 하며,
+ * touchRateMbPerSec 가 주어지면 그 속도로 나누어 할당/터치한다.
+ * 유지 시간이 끝나면 다이렉트/맵 버퍼는 GC 를 기다리지 않고 즉시 해제한다.
+ * 달성치는 요청 크기, JVM 이 집계한 committed(힙/버퍼 풀), /proc/self/status 의 RSS 로 나누어 보고한다.
+ */
+@Service
+public class MemoryPressureEngine {
+    private static final Logger log = LoggerFactory.getLogger(MemoryPressureEngine.class);
+
+    static final long MB = 1024L * 1024L;
+    private static final int CHUNK_BYTES = (int) MB;
+    private static final int PAGE_SIZE = 4096;
+    private static final long RSS_SAMPLE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final Path PROC_STATUS = Paths.get("/proc/self/status");
+
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafe = theUnsafe.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (Exception e) {
+            LoggerFactory.getLogger(MemoryPressureEngine.class)
+                    .warn("Direct buffer cleaner is not available, off-heap memory will be released by GC");
+        }
+        INVOKE_CLEANER = invokeCleaner;
+        UNSAFE = unsafe;
+    }
+
+    public enum Mode {
+        HEAP, DIRECT, MAPPED;
+
+        public static Mode from(String value) {
+            if (value == null || value.isBlank()) {
+                return HEAP;
+            }
+            try {
+                return Mode.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown memory mode: " + value + " (heap, direct, mapped)");
+            }
+        }
+    }
+
+    private final Path mappedDir;
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final RunRegistry<MemoryPressureJob> jobs = new RunRegistry<>("Memory job", log);
+
+    public MemoryPressureEngine(@Value("${load.memory.mapped-dir:${java.io.tmpdir}}") String mappedDir) {
+        this.mappedDir = Paths.get(mappedDir);
+    }
+
+    public MemoryPressureJob newJob(String owner, Mode mode, int sizeMb, int durationMs, int touchRateMbPerSec) {
+        return jobs.register(new MemoryPressureJob(owner, mode, Math.max(0, sizeMb) * MB, Math.max(0, durationMs),
+                Math.max(0, touchRateMbPerSec)));
+    }
+
+    /**
+     * 할당 -> 유지 -> 해제를 호출 스레드에서 수행한다. 인터럽트되면 즉시 해제한다.
+     *
+     * @param whileHolding 메모리를 유지하는 동안 실행할 작업. null 이면 남은 유지 시간만큼 대기하며 RSS 를 샘플링한다.
+     */
+    public void run(MemoryPressureJob job, Runnable whileHolding) {
+        Regions regions = new Regions(job.getMode(), (int) ((job.getRequestedBytes() + CHUNK_BYTES - 1) / CHUNK_BYTES));
+        try {
+            job.started();
+            job.rssSampled(readProcStatus().getOrDefault("VmRSS", -1L));
+            allocate(job, regions);
+            job.allocationFinished();
+            log.info("Memory job {} allocated {}", job.getId(), job.toMap());
+            if (whileHolding != null) {
+                whileHolding.run();
+            } else {
+                hold(job);
+            }
+            job.rssSampled(readProcStatus().getOrDefault("VmRSS", -1L));
+            job.finish(Thread.currentThread().isInterrupted() ? "stopped" : "completed");
+        } catch (OutOfMemoryError | IOException e) {
+            job.fail(e);
+            log.error("Memory job {} failed after {}: {}", job.getId(), job.toMap(), e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish("stopped");
+        } finally {
+            regions.release();
+            log.info("Memory job {} released ({})", job.getId(), job.getStatus());
+        }
+    }
+
+    private void allocate(MemoryPressureJob job, Regions regions) throws IOException, InterruptedException {
+        long requested = job.getRequestedBytes();
+        long rateBytesPerSec = job.getTouchRateMbPerSec() * MB;
+        long start = System.nanoTime();
+        long lastSample = start;
+        long allocated = 0;
+        while (allocated < requested) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+            int size = (int) Math.min(CHUNK_BYTES, requested - allocated);
+            regions.allocateAndTouch(size, this::mappedFile);
+            allocated += size;
+            job.chunkAllocated(size);
+
+            long now = System.nanoTime();
+            if (now - lastSample >= RSS_SAMPLE_INTERVAL_NANOS) {
+                job.rssSampled(readProcStatus().getOrDefault("VmRSS", -1L));
+                lastSample = now;
+            }
+            if (rateBytesPerSec > 0) {
+                long due = start + (long) (allocated * 1_000_000_000.0 / rateBytesPerSec);
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+            }
+        }
+        job.rssSampled(readProcStatus().getOrDefault("VmRSS", -1L));
+    }
+
+    // 유지 시간은 할당이 끝난 뒤부터 센다 (느린/속도 제한 할당이 유지 구간을 잡아먹지 않도록)
+    private void hold(MemoryPressureJob job) throws InterruptedException {
+        long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(job.getDurationMs());
+        long remaining;
+        while ((remaining = end - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, RSS_SAMPLE_INTERVAL_NANOS));
+            job.rssSampled(readProcStatus().getOrDefault("VmRSS", -1L));
+        }
+    }
+
+    private FileChannel mappedFile() throws IOException {
+        Files.createDirectories(mappedDir);
+        Path file = Files.createTempFile(mappedDir, "load-mmap-", ".bin");
+        return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
+    /**
+     * 한 작업이 잡고 있는 메모리 영역. 청크 목록은 미리 크기를 잡은 ArrayList 에 추가만 한다
+     * (청크마다 배열 전체를 복사하던 CopyOnWriteArrayList 대체).
+     */
+    private static final class Regions {
+        private final Mode mode;
+        private final List<byte[]> heap;
+        private final List<ByteBuffer> buffers;
+        private FileChannel channel;
+        private long mappedOffset;
+
+        Regions(Mode mode, int chunks) {
+            this.mode = mode;
+            this.heap = new ArrayList<>(mode == Mode.HEAP ? chunks : 0);
+            this.buffers = new ArrayList<>(mode == Mode.HEAP ? 0 : chunks);
+        }
+
+        interface ChannelOpener {
+            FileChannel open() throws IOException;
+        }
+
+        void allocateAndTouch(int size, ChannelOpener opener) throws IOException {
+            switch (mode) {
+                case HEAP -> {
+                    byte[] chunk = new byte[size];
+                    for (int i = 0; i < size; i += PAGE_SIZE) {
+                        chunk[i] = 1;
+                    }
+                    heap.add(chunk);
+                }
+                case DIRECT -> {
+                    ByteBuffer chunk = ByteBuffer.allocateDirect(size);
+                    touch(chunk, size);
+                    buffers.add(chunk);
+                }
+                case MAPPED -> {
+                    if (channel == null) {
+                        channel = opener.open();
+                    }
+                    ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_WRITE, mappedOffset, size);
+                    mappedOffset += size;
+                    touch(chunk, size);
+                    buffers.add(chunk);
+                }
+            }
+        }
+
+        private static void touch(ByteBuffer buffer, int size) {
+            for (int i = 0; i < size; i += PAGE_SIZE) {
+                buffer.put(i, (byte) 1);
+            }
+        }
+
+        void release() {
+            heap.clear();
+            if (INVOKE_CLEANER != null) {
+                for (ByteBuffer buffer : buffers) {
+                    try {
+                        INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                    } catch (Exception e) {
+                        log.debug("Failed to clean buffer eagerly: {}", e.toString());
+                    }
+                }
+            }
+            buffers.clear();
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close memory-mapped file: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    public MemoryPressureJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    public List<Map<String, Object>> getJobs() {
+        return jobs.toMaps();
+    }
+
+    /**
+     * 프로세스 메모리 현황: /proc/self/status(가상/상주 크기), JVM 힙, 다이렉트/맵 버퍼 풀.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        Map<String, Long> proc = readProcStatus();
+        Map<String, Object> process = new LinkedHashMap<>();
+        for (String key : List.of("VmSize", "VmRSS", "RssAnon", "RssFile", "VmSwap")) {
+            Long bytes = proc.get(key);
+            if (bytes != null) {
+                process.put(key + "Mb", bytes / (double) MB);
+            }
+        }
+        result.put("process", process);
+
+        MemoryUsage heap = memoryBean.getHeapMemoryUsage();
+        result.put("heap", Map.of(
+                "usedMb", heap.getUsed() / (double) MB,
+                "committedMb", heap.getCommitted() / (double) MB,
+                "maxMb", heap.getMax() / (double) MB));
+
+        Map<String, Object> pools = new LinkedHashMap<>();
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            pools.put(pool.getName(), Map.of(
+                    "count", pool.getCount(),
+                    "capacityMb", pool.getTotalCapacity() / (double) MB,
+                    "usedMb", pool.getMemoryUsed() / (double) MB));
+        }
+        result.put("bufferPools", pools);
+        result.put("jobs", getJobs());
+        return result;
+    }
+
+    // "VmRSS:    123456 kB" 형식. Linux 가 아니면 빈 맵
+    private static Map<String, Long> readProcStatus() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        if (!Files.isReadable(PROC_STATUS)) {
+            return values;
+        }
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS)) {
+                if (!line.startsWith("Vm") && !line.startsWith("Rss")) {
+                    continue;
+                }
+                int colon = line.indexOf(':');
+                String[] parts = line.substring(colon + 1).trim().split("\\s+");
+                if (colon > 0 && parts.length == 2 && "kB".equals(parts[1])) {
+                    values.put(line.substring(0, colon), Long.parseLong(parts[0]) * 1024L);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            log.debug("Failed to read {}: {}", PROC_STATUS, e.toString());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,90 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 부하 1회의 진행 상태와 달성치.
+ * 요청 크기(reserved), 실제 할당한 크기(청크마다 모든 페이지를 건드림), 프로세스 RSS 증가분을 나누어 보고한다.
+ */
+public class MemoryPressureJob extends LoadRun {
+
+    private final MemoryPressureEngine.Mode mode;
+    private final long requestedBytes;
+    private final int durationMs;
+    private final int touchRateMbPerSec;
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private volatile long rssAtStartBytes = -1;
+    private volatile long peakRssBytes = -1;
+    private volatile long allocationNanos;
+
+    MemoryPressureJob(String owner, MemoryPressureEngine.Mode mode, long requestedBytes, int durationMs, int touchRateMbPerSec) {
+        super("mem", owner, "starting");
+        this.mode = mode;
+        this.requestedBytes = requestedBytes;
+        this.durationMs = durationMs;
+        this.touchRateMbPerSec = touchRateMbPerSec;
+    }
+
+    void chunkAllocated(long bytes) {
+        allocatedBytes.addAndGet(bytes);
+    }
+
+    void rssSampled(long rssBytes) {
+        if (rssBytes < 0) {
+            return;
+        }
+        if (rssAtStartBytes < 0) {
+            rssAtStartBytes = rssBytes;
+        }
+        if (rssBytes > peakRssBytes) {
+            peakRssBytes = rssBytes;
+        }
+    }
+
+    void allocationFinished() {
+        allocationNanos = System.nanoTime() - getStartedAtNanos();
+        setStatus("holding");
+    }
+
+    public MemoryPressureEngine.Mode getMode() {
+        return mode;
+    }
+
+    public long getRequestedBytes() {
+        return requestedBytes;
+    }
+
+    public int getDurationMs() {
+        return durationMs;
+    }
+
+    public int getTouchRateMbPerSec() {
+        return touchRateMbPerSec;
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("jobId", getId());
+        result.put("owner", getOwner());
+        result.put("mode", mode.name().toLowerCase());
+        result.put("status", getStatus());
+        result.put("requestedMb", requestedBytes / MemoryPressureEngine.MB);
+        result.put("allocatedMb", allocatedBytes.get() / (double) MemoryPressureEngine.MB);
+        result.put("touchRateMbPerSec", touchRateMbPerSec);
+        result.put("durationMs", durationMs);
+        result.put("allocationMs", allocationNanos / 1_000_000);
+        result.put("elapsedMs", elapsedNanos() / 1_000_000);
+        if (rssAtStartBytes >= 0) {
+            result.put("rssAtStartMb", rssAtStartBytes / (double) MemoryPressureEngine.MB);
+            result.put("peakRssMb", peakRssBytes / (double) MemoryPressureEngine.MB);
+            result.put("rssGrowthMb", (peakRssBytes - rssAtStartBytes) / (double) MemoryPressureEngine.MB);
+        }
+        if (getError() != null) {
+            result.put("error", getError());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 프로세스 내부 loopback echo 서버와 클라이언트로 소켓 수준 부하를 만드는 엔진.
+ * 실행마다 서버를 새로 띄우고(NIO 이벤트 루프 또는 연결당 가상 스레드), connections 개의 클라이언트가
+ * 워커 풀에서 요청을 보내고 같은 크기의 응답을 모두 받을 때까지의 왕복 시간을 기록한다.
+ * 클라이언트는 논블로킹 채널로 요청 쓰기와 응답 읽기를 번갈아 하므로, 메시지가 소켓 버퍼보다 커도
+ * 양쪽이 서로의 읽기를 기다리며 쓰기에서 멈추지 않는다.
+ */
+@Service
+public class NetworkLoadEngine {
+    private static final Logger log = LoggerFactory.getLogger(NetworkLoadEngine.class);
+
+    private static final int MAX_MESSAGE_BYTES = 4 * 1024 * 1024;
+    private static final int MAX_CONNECTIONS = 1024;
+    // 응답 대기 중에도 stop() 을 확인하는 주기
+    private static final long SELECT_TIMEOUT_MS = 100;
+
+    private final ExecutorService workerPool;
+    private final RunRegistry<NetworkLoadRun> runs = new RunRegistry<>("Network load", log);
+
+    public NetworkLoadEngine(@Qualifier("loadWorkerPool") ExecutorService workerPool) {
+        this.workerPool = workerPool;
+    }
+
+    /**
+     * 이 실행 전용 echo 서버를 임시 포트에 띄우고 connections 개의 클라이언트 연결로 요청을 보낸다.
+     * 서버는 실행이 끝나면 닫히고, 서버 측 집계는 결과의 serverStats 로 남는다.
+     *
+     * @throws IllegalArgumentException 잘못된 프로파일
+     */
+    public NetworkLoadRun start(String owner, LoadScenarioProperties.NetworkProfile profile, long durationMs, BooleanSupplier keepRunning) {
+        if (profile.getMessageBytes() < 1 || profile.getMessageBytes() > MAX_MESSAGE_BYTES) {
+            throw new IllegalArgumentException("messageBytes must be within 1-" + MAX_MESSAGE_BYTES);
+        }
+        if (profile.getConnections() < 1 || profile.getConnections() > MAX_CONNECTIONS) {
+            throw new IllegalArgumentException("connections must be within 1-" + MAX_CONNECTIONS);
+        }
+        if (profile.getRequestRate() < 0) {
+            throw new IllegalArgumentException("requestRate must be >= 0");
+        }
+        NetworkLoadRun run = runs.register(new NetworkLoadRun(owner, profile));
+        log.info("Starting network load {} for {}: server={} message={}B connections={} rate={}/s",
+                run.getId(), owner, profile.getServer(), profile.getMessageBytes(), profile.getConnections(), profile.getRequestRate());
+        workerPool.submit(() -> runs.execute(run, keepRunning, () -> execute(run, durationMs, keepRunning)));
+        return run;
+    }
+
+    private void execute(NetworkLoadRun run, long durationMs, BooleanSupplier keepRunning) throws IOException {
+        LoadScenarioProperties.NetworkProfile profile = run.getProfile();
+        try (EchoServer server = profile.getServer() == LoadScenarioProperties.NetworkServerMode.VIRTUAL
+                ? new VirtualThreadEchoServer() : new NioEchoServer()) {
+            run.started(server);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+            // requestRate 는 연결들에 균등 분배
+            long intervalNanos = profile.getRequestRate() > 0
+                    ? 1_000_000_000L * profile.getConnections() / profile.getRequestRate() : 0;
+            List<CompletableFuture<Void>> clients = new ArrayList<>();
+            for (int c = 0; c < profile.getConnections(); c++) {
+                clients.add(CompletableFuture.runAsync(
+                        () -> client(run, server, intervalNanos, deadline, keepRunning), workerPool));
+            }
+            CompletableFuture.allOf(clients.toArray(new CompletableFuture[0])).join();
+        }
+    }
+
+    private static void client(NetworkLoadRun run, EchoServer server, long intervalNanos, long deadline, BooleanSupplier keepRunning) {
+        int messageBytes = run.getProfile().getMessageBytes();
+        ByteBuffer request = ByteBuffer.allocateDirect(messageBytes);
+        ByteBuffer response = ByteBuffer.allocateDirect(messageBytes);
+        for (int i = 0; i + 8 <= messageBytes; i += 8) {
+            request.putLong(i, ThreadLocalRandom.current().nextLong());
+        }
+        // 연결마다 시작 시점을 흩어 동시에 몰리지 않게 함
+        long nextDue = System.nanoTime() + (intervalNanos > 0 ? ThreadLocalRandom.current().nextLong(intervalNanos) : 0);
+
+        try (SocketChannel channel = SocketChannel.open(server.address()); Selector selector = Selector.open()) {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.configureBlocking(false);
+            SelectionKey key = channel.register(selector, 0);
+            while (System.nanoTime() - deadline < 0 && keepRunning.getAsBoolean()
+                    && !run.isStopRequested() && !Thread.currentThread().isInterrupted()) {
+                if (intervalNanos > 0) {
+                    long wait;
+                    while ((wait = nextDue - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    nextDue += intervalNanos;
+                }
+                long startedAt = System.nanoTime();
+                if (!exchange(run, channel, key, request, response)) {
+                    break;
+                }
+                run.record(messageBytes, messageBytes, System.nanoTime() - startedAt);
+            }
+        } catch (IOException e) {
+            if (!run.isStopRequested()) {
+                run.connectionFailed();
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // 요청을 다 쓰기 전에도 도착한 응답을 읽는다. 중간에 stop() 되거나 인터럽트되면 false
+    private static boolean exchange(NetworkLoadRun run, SocketChannel channel, SelectionKey key,
+                                    ByteBuffer request, ByteBuffer response) throws IOException {
+        request.clear();
+        response.clear();
+        while (true) {
+            if (request.hasRemaining()) {
+                channel.write(request);
+            }
+            if (channel.read(response) < 0) {
+                throw new EOFException("echo server closed the connection");
+            }
+            if (!response.hasRemaining()) {
+                return true;
+            }
+            if (run.isStopRequested() || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            key.interestOps(request.hasRemaining() ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+            key.selector().select(SELECT_TIMEOUT_MS);
+            key.selector().selectedKeys().clear();
+        }
+    }
+
+    public NetworkLoadRun getRun(String id) {
+        return runs.get(id);
+    }
+
+    public void stopAll() {
+        runs.stopAll();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("activeRuns", runs.active().size());
+        result.put("runs", runs.toMaps());
+        return result;
+    }
+}
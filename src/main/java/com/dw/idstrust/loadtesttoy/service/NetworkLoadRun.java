@@ -0,0 +1,98 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * loopback 네트워크 부하 1회의 설정과 결과. 요청-응답 왕복 지연(µs 해상도)과 처리량을 집계한다.
+ */
+public class NetworkLoadRun extends LoadRun {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadScenarioProperties.NetworkProfile profile;
+    private volatile EchoServer server;
+    private volatile Map<String, Object> serverStats;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+    NetworkLoadRun(String owner, LoadScenarioProperties.NetworkProfile profile) {
+        super("net", owner, "starting");
+        this.profile = profile;
+    }
+
+    void started(EchoServer server) {
+        this.server = server;
+        started();
+    }
+
+    void record(int sent, int received, long nanos) {
+        requests.increment();
+        bytesSent.add(sent);
+        bytesReceived.add(received);
+        latency.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos))));
+    }
+
+    void connectionFailed() {
+        errors.increment();
+    }
+
+    @Override
+    void finish(String finalStatus) {
+        EchoServer s = server;
+        if (!isFinished() && s != null) {
+            // 서버를 닫기 전에 마지막 통계를 남겨 둔다
+            serverStats = s.stats();
+        }
+        super.finish(finalStatus);
+    }
+
+    public LoadScenarioProperties.NetworkProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        double elapsedSec = elapsedSeconds();
+        long count = requests.sum();
+        Map<String, Object> result = baseMap();
+        result.put("server", profile.getServer().name().toLowerCase());
+        result.put("messageBytes", profile.getMessageBytes());
+        result.put("connections", profile.getConnections());
+        result.put("requestRate", profile.getRequestRate());
+        result.put("elapsedSec", elapsedSec);
+        result.put("requests", count);
+        result.put("errors", errors.sum());
+        result.put("throughputRps", elapsedSec > 0 ? count / elapsedSec : 0.0);
+        result.put("sentMBps", elapsedSec > 0 ? bytesSent.sum() / (1024.0 * 1024.0) / elapsedSec : 0.0);
+        result.put("receivedMBps", elapsedSec > 0 ? bytesReceived.sum() / (1024.0 * 1024.0) / elapsedSec : 0.0);
+        Map<String, Object> rtt = new LinkedHashMap<>();
+        rtt.put("p50Ms", latency.getValueAtPercentile(50.0) / 1000.0);
+        rtt.put("p90Ms", latency.getValueAtPercentile(90.0) / 1000.0);
+        rtt.put("p99Ms", latency.getValueAtPercentile(99.0) / 1000.0);
+        rtt.put("p999Ms", latency.getValueAtPercentile(99.9) / 1000.0);
+        rtt.put("maxMs", latency.getMaxValue() / 1000.0);
+        result.put("latency", rtt);
+        EchoServer s = server;
+        Map<String, Object> stats = serverStats;
+        if (stats != null) {
+            result.put("serverStats", stats);
+        } else if (s != null) {
+            result.put("serverStats", s.stats());
+        }
+        if (getError() != null) {
+            result.put("error", getError());
+        }
+        return result;
+    }
+}
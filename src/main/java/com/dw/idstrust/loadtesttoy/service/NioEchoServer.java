@@ -0,0 +1,170 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 단일 Selector 이벤트 루프 스레드가 모든 연결을 non-blocking 으로 처리하는 echo 서버.
+ * 연결마다 direct 버퍼 하나를 두고, 소켓 송신 버퍼가 가득 차 다 쓰지 못한 바이트가 남으면
+ * OP_WRITE 로 전환해 비울 때까지 읽기를 멈춘다 (backpressure).
+ */
+final class NioEchoServer implements EchoServer {
+    private static final Logger log = LoggerFactory.getLogger(NioEchoServer.class);
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final InetSocketAddress address;
+    private final Thread eventLoop;
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder bytesEchoed = new LongAdder();
+    private final LongAdder selects = new LongAdder();
+    private volatile boolean closed;
+
+    NioEchoServer() throws IOException {
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        this.address = (InetSocketAddress) serverChannel.getLocalAddress();
+        this.eventLoop = Thread.ofPlatform().name("nio-echo-" + address.getPort()).daemon().start(this::runEventLoop);
+    }
+
+    private void runEventLoop() {
+        try {
+            while (!closed) {
+                selector.select();
+                selects.increment();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else if (key.isReadable()) {
+                            read(key);
+                        } else if (key.isWritable()) {
+                            write(key);
+                        }
+                    } catch (IOException e) {
+                        // 클라이언트가 먼저 끊은 경우 등: 해당 연결만 정리
+                        closeConnection(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                log.error("NIO echo server event loop failed", e);
+            }
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key);
+            }
+            try {
+                selector.close();
+                serverChannel.close();
+            } catch (IOException e) {
+                log.debug("Failed to close NIO echo server: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.register(selector, SelectionKey.OP_READ, ByteBuffer.allocateDirect(BUFFER_BYTES));
+            accepted.increment();
+            openConnections.incrementAndGet();
+        }
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        ByteBuffer buffer = (ByteBuffer) key.attachment();
+        if (channel.read(buffer) < 0) {
+            closeConnection(key);
+            return;
+        }
+        flush(key, channel, buffer);
+    }
+
+    private void write(SelectionKey key) throws IOException {
+        flush(key, (SocketChannel) key.channel(), (ByteBuffer) key.attachment());
+    }
+
+    private void flush(SelectionKey key, SocketChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        bytesEchoed.add(channel.write(buffer));
+        buffer.compact();
+        // 남은 바이트가 있으면 쓰기 가능해질 때까지 읽기 중단
+        key.interestOps(buffer.position() > 0 ? SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    private void closeConnection(SelectionKey key) {
+        closeQuietly(key);
+        openConnections.decrementAndGet();
+    }
+
+    private static void closeQuietly(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+
+    @Override
+    public InetSocketAddress address() {
+        return address;
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("type", "nio");
+        result.put("port", address.getPort());
+        result.put("eventLoopThreads", 1);
+        result.put("accepted", accepted.sum());
+        result.put("openConnections", Math.max(0, openConnections.get()));
+        result.put("bytesEchoed", bytesEchoed.sum());
+        result.put("selects", selects.sum());
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        selector.wakeup();
+        try {
+            eventLoop.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
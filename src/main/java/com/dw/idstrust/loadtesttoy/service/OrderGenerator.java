@@ -0,0 +1,59 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.entity.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 더미 주문 데이터 생성기.
+ * 여러 스레드에서 동시에 호출되므로 공유 Random 대신 ThreadLocalRandom 을 사용한다.
+ */
+@Component
+public class OrderGenerator {
+
+    static final String[] CUSTOMER_NAMES = {
+            "김철수", "이영희", "박민수", "최지원", "정현우",
+            "강서연", "윤태영", "임수진", "한지훈", "오민지",
+            "서준호", "권나영", "송재현", "안혜진", "장동민"
+    };
+
+    static final String[] PRODUCT_NAMES = {
+            "노트북", "스마트폰", "태블릿", "모니터", "키보드",
+            "마우스", "헤드셋", "웹캠", "SSD", "RAM",
+            "그래픽카드", "파워서플라이", "케이스", "쿨러", "메인보드"
+    };
+
+    static final String[] STATUSES = {
+            "PENDING", "CONFIRMED", "SHIPPED", "DELIVERED", "CANCELLED"
+    };
+
+    static final String[] ADDRESSES = {
+            "서울특별시 강남구 테헤란로 123",
+            "서울특별시 송파구 올림픽로 456",
+            "경기도 성남시 분당구 정자일로 789",
+            "서울특별시 마포구 월드컵북로 321",
+            "인천광역시 연수구 센트럴로 654"
+    };
+
+    public Order next() {
+        return next(String.format("ORD-%08X", ThreadLocalRandom.current().nextInt()));
+    }
+
+    public Order next(String orderNumber) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String customerName = CUSTOMER_NAMES[random.nextInt(CUSTOMER_NAMES.length)];
+        String productName = PRODUCT_NAMES[random.nextInt(PRODUCT_NAMES.length)];
+        Integer quantity = random.nextInt(10) + 1;
+        BigDecimal unitPrice = BigDecimal.valueOf(10000 + random.nextInt(990000));
+        BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+        LocalDateTime orderDate = LocalDateTime.now().minusDays(random.nextInt(365));
+        String status = STATUSES[random.nextInt(STATUSES.length)];
+        String address = ADDRESSES[random.nextInt(ADDRESSES.length)];
+
+        return new Order(orderNumber, customerName, productName, quantity,
+                unitPrice, totalPrice, orderDate, status, address);
+    }
+}
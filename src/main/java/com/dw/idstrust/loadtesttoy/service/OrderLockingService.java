@@ -0,0 +1,296 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LockingProperties;
+import com.dw.idstrust.loadtesttoy.config.LockingProperties.Retry;
+import com.dw.idstrust.loadtesttoy.config.LockingProperties.Strategy;
+import com.dw.idstrust.loadtesttoy.entity.Order;
+import com.dw.idstrust.loadtesttoy.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 주문 처리(PENDING -> CONFIRMED)를 동시성 제어 방식별로 실행하고 충돌/재시도 비용을 집계한다.
+ * 시도마다 별도 트랜잭션을 쓰고 백오프 대기는 트랜잭션 밖에서 하므로, 대기 중에는 커넥션을 잡지 않는다.
+ * 충돌로 버려진 시도의 소요 시간을 wasted 로, 잠금 획득(SELECT ... FOR UPDATE)에 걸린 시간을 lockWait 로 보고한다.
+ * 쿼리 타임아웃·교착 상태(ORA-00060)·잠금 대기 타임아웃 같은 DB 오류는 충돌과 구분해 failed 로 집계하고 재시도하지 않는다.
+ */
+@Service
+public class OrderLockingService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderLockingService.class);
+
+    private static final String PENDING = "PENDING";
+    private static final String CONFIRMED = "CONFIRMED";
+
+    private final OrderRepository orderRepository;
+    private final DatabaseService databaseService;
+    private final QueryCacheService queryCache;
+    private final LockingProperties props;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate tx;
+    // 생성 시 모든 전략을 채워 두고 이후에는 읽기만 한다
+    private final Map<Strategy, Stats> stats = new EnumMap<>(Strategy.class);
+
+    public OrderLockingService(OrderRepository orderRepository, DatabaseService databaseService,
+                               QueryCacheService queryCache, LockingProperties props, MeterRegistry meterRegistry,
+                               PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.databaseService = databaseService;
+        this.queryCache = queryCache;
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.tx.setTimeout(10);
+        for (Strategy strategy : Strategy.values()) {
+            stats.put(strategy, new Stats());
+        }
+    }
+
+    public enum Outcome {
+        PROCESSED, NOT_FOUND, CONFLICT, EXHAUSTED, FAILED;
+
+        String label() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * 요청 1건의 결과. attempts 는 첫 시도 포함, outcome 은 processed | not_found | exhausted | failed.
+     */
+    public record Result(Strategy strategy, Retry retry, Outcome outcome, int attempts, int conflicts,
+                         long elapsedNanos, long wastedNanos, long lockWaitNanos) {
+
+        public boolean processed() {
+            return outcome == Outcome.PROCESSED;
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("locking", label(strategy));
+            result.put("retry", retry.name().toLowerCase());
+            result.put("outcome", outcome.label());
+            result.put("attempts", attempts);
+            result.put("conflicts", conflicts);
+            result.put("elapsedMs", elapsedNanos / 1_000_000.0);
+            result.put("wastedMs", wastedNanos / 1_000_000.0);
+            result.put("lockWaitMs", lockWaitNanos / 1_000_000.0);
+            return result;
+        }
+    }
+
+    private record Attempt(Outcome outcome, long lockWaitNanos) {
+    }
+
+    /**
+     * strategy / retry 가 null 이면 load.locking.* 기본값을 쓴다.
+     */
+    public Result processRecentOrder(String customerName, Strategy strategy, Retry retry) {
+        if (strategy == null) {
+            strategy = props.getStrategy();
+        }
+        if (retry == null) {
+            retry = props.getRetry();
+        }
+        // NONE 은 충돌을 감지하지 않으므로 재시도할 일이 없다
+        int maxAttempts = retry == Retry.NONE || strategy == Strategy.NONE ? 1 : Math.max(1, props.getMaxAttempts());
+        long start = System.nanoTime();
+        long wasted = 0;
+        long lockWait = 0;
+        int conflicts = 0;
+        int attempts = 0;
+        Outcome outcome;
+        while (true) {
+            attempts++;
+            long attemptStart = System.nanoTime();
+            Attempt attempt = attempt(customerName, strategy);
+            long attemptNanos = System.nanoTime() - attemptStart;
+            lockWait += attempt.lockWaitNanos();
+            meterRegistry.counter("load.db.locking.attempts",
+                    "strategy", label(strategy), "outcome", attempt.outcome().label()).increment();
+            if (attempt.outcome() != Outcome.CONFLICT) {
+                outcome = attempt.outcome();
+                break;
+            }
+            conflicts++;
+            wasted += attemptNanos;
+            if (attempts >= maxAttempts) {
+                outcome = Outcome.EXHAUSTED;
+                break;
+            }
+            backoff(retry, attempts);
+        }
+        if (wasted > 0) {
+            meterRegistry.timer("load.db.locking.wasted", "strategy", label(strategy)).record(wasted, TimeUnit.NANOSECONDS);
+        }
+        Result result = new Result(strategy, retry, outcome, attempts, conflicts,
+                System.nanoTime() - start, wasted, lockWait);
+        stats.get(strategy).record(result);
+        return result;
+    }
+
+    // DB 오류로 끝난 시도는 트랜잭션이 이미 롤백됐으므로 잠금 대기 시간 없이 FAILED 로 남긴다
+    private Attempt attempt(String customerName, Strategy strategy) {
+        try {
+            return execute(customerName, strategy);
+        } catch (DataAccessException | TransactionException e) {
+            log.debug("Locking attempt failed (strategy={}): {}", label(strategy), e.getMessage());
+            return new Attempt(Outcome.FAILED, 0);
+        }
+    }
+
+    private Attempt execute(String customerName, Strategy strategy) {
+        return switch (strategy) {
+            case NONE -> new Attempt(databaseService.processRecentOrder(customerName)
+                    ? Outcome.PROCESSED : Outcome.NOT_FOUND, 0);
+            case OPTIMISTIC -> tx.execute(status -> optimistic(customerName));
+            case PESSIMISTIC -> tx.execute(status -> locked(customerName, false));
+            case SKIP_LOCKED -> tx.execute(status -> locked(customerName, true));
+        };
+    }
+
+    // 버전을 조건으로 UPDATE 하고 0 행이면 그 사이 다른 트랜잭션이 먼저 바꾼 것 (충돌)
+    private Attempt optimistic(String customerName) {
+        Optional<Order> order = orderRepository.findTopByCustomerNameAndStatusOrderByOrderDateDesc(customerName, PENDING);
+        if (order.isEmpty()) {
+            return new Attempt(Outcome.NOT_FOUND, 0);
+        }
+        int updated = orderRepository.updateStatusIfVersion(order.get().getId(), order.get().getVersion(), CONFIRMED);
+        if (updated == 0) {
+            return new Attempt(Outcome.CONFLICT, 0);
+        }
+        queryCache.invalidateAfterCommit(QueryCacheService.ORDER_LISTS);
+        return new Attempt(Outcome.PROCESSED, 0);
+    }
+
+    // 잠금을 얻지 못했는데(대기 후 처리됐거나 모두 잠겨 건너뜀) 아직 PENDING 주문이 남아 있으면 충돌로 보고 재시도한다
+    private Attempt locked(String customerName, boolean skipLocked) {
+        long lockStart = System.nanoTime();
+        Optional<Order> order = orderRepository.lockRecentPending(customerName, skipLocked);
+        long lockWait = System.nanoTime() - lockStart;
+        if (order.isEmpty()) {
+            boolean pendingLeft = orderRepository
+                    .findTopByCustomerNameAndStatusOrderByOrderDateDesc(customerName, PENDING).isPresent();
+            return new Attempt(pendingLeft ? Outcome.CONFLICT : Outcome.NOT_FOUND, lockWait);
+        }
+        Order locked = order.get();
+        locked.setStatus(CONFIRMED);
+        locked.setVersion(locked.getVersion() + 1);
+        queryCache.invalidateAfterCommit(QueryCacheService.ORDER_LISTS);
+        return new Attempt(Outcome.PROCESSED, lockWait);
+    }
+
+    // full jitter: 0 ~ min(backoffMax, backoffBase * 2^(attempt-1)) 사이 무작위 대기
+    private void backoff(Retry retry, int attempt) {
+        if (retry != Retry.BACKOFF) {
+            return;
+        }
+        long base = props.getBackoffBase().toNanos();
+        long max = props.getBackoffMax().toNanos();
+        long ceiling = Math.min(max, base << Math.min(attempt - 1, 20));
+        if (ceiling > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("locking", label(props.getStrategy()));
+        config.put("retry", props.getRetry().name().toLowerCase());
+        config.put("maxAttempts", props.getMaxAttempts());
+        config.put("backoffBaseMs", props.getBackoffBase().toMillis());
+        config.put("backoffMaxMs", props.getBackoffMax().toMillis());
+
+        Map<String, Object> strategies = new LinkedHashMap<>();
+        stats.forEach((strategy, s) -> strategies.put(label(strategy), s.toMap()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("config", config);
+        result.put("strategies", strategies);
+        return result;
+    }
+
+    public void reset() {
+        stats.values().forEach(Stats::reset);
+    }
+
+    static String label(Strategy strategy) {
+        return strategy.name().toLowerCase().replace('_', '-');
+    }
+
+    private static final class Stats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder notFound = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+        private final LongAdder wastedNanos = new LongAdder();
+        private final LongAdder lockWaitNanos = new LongAdder();
+
+        void record(Result result) {
+            requests.increment();
+            switch (result.outcome()) {
+                case PROCESSED -> processed.increment();
+                case NOT_FOUND -> notFound.increment();
+                case EXHAUSTED -> exhausted.increment();
+                case FAILED -> failed.increment();
+                case CONFLICT -> throw new IllegalStateException("conflict is not a final outcome");
+            }
+            attempts.add(result.attempts());
+            conflicts.add(result.conflicts());
+            elapsedNanos.add(result.elapsedNanos());
+            wastedNanos.add(result.wastedNanos());
+            lockWaitNanos.add(result.lockWaitNanos());
+        }
+
+        void reset() {
+            requests.reset();
+            processed.reset();
+            notFound.reset();
+            exhausted.reset();
+            failed.reset();
+            attempts.reset();
+            conflicts.reset();
+            elapsedNanos.reset();
+            wastedNanos.reset();
+            lockWaitNanos.reset();
+        }
+
+        Map<String, Object> toMap() {
+            long requestCount = requests.sum();
+            long attemptCount = attempts.sum();
+            long processedCount = processed.sum();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", requestCount);
+            result.put("processed", processedCount);
+            result.put("notFound", notFound.sum());
+            result.put("exhausted", exhausted.sum());
+            result.put("failed", failed.sum());
+            result.put("attempts", attemptCount);
+            result.put("conflicts", conflicts.sum());
+            result.put("conflictRate", attemptCount > 0 ? (double) conflicts.sum() / attemptCount : 0.0);
+            result.put("retriesPerSuccess", processedCount > 0 ? (double) (attemptCount - requestCount) / processedCount : 0.0);
+            result.put("avgElapsedMs", requestCount > 0 ? elapsedNanos.sum() / 1_000_000.0 / requestCount : 0.0);
+            result.put("wastedMs", wastedNanos.sum() / 1_000_000.0);
+            result.put("lockWaitMs", lockWaitNanos.sum() / 1_000_000.0);
+            return result;
+        }
+    }
+}
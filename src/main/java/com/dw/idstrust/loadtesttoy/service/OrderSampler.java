@@ -0,0 +1,184 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.entity.Order;
+import com.dw.idstrust.loadtesttoy.repository.OrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 기본키 기반 무작위 주문 샘플링.
+ * ID 범위(MIN/MAX/COUNT)를 주기적으로 갱신하여 캐시해 두고, 범위 안에서 균등 또는 Zipf 분포로 ID 를 뽑아
+ * IN 조회로 가져온다 (삭제된 ID 로 모자란 만큼만 다시 뽑아 조회). ORDER BY DBMS_RANDOM 처럼 테이블 전체를 정렬하지 않는다.
+ */
+@Service
+public class OrderSampler {
+    private static final Logger log = LoggerFactory.getLogger(OrderSampler.class);
+
+    // Oracle IN 목록 최대 개수
+    public static final int MAX_BATCH = 1000;
+    // 삭제된 ID 때문에 모자란 행을 다시 뽑는 최대 횟수
+    private static final int MAX_ROUNDS = 16;
+    // Zipf 순위 -> ID 매핑용 소수 (핫 키가 한 구간에 몰리지 않도록 흩뿌린다)
+    private static final long[] SCATTER_PRIMES = {1_000_000_007L, 998_244_353L, 2_147_483_647L};
+
+    public enum Distribution {
+        UNIFORM, ZIPF;
+
+        public static Distribution from(String value) {
+            return value == null || value.isBlank() ? UNIFORM : valueOf(value.trim().toUpperCase());
+        }
+    }
+
+    private record IdIndex(long minId, long maxId, long rowCount, long refreshedAt) {
+        long span() {
+            return maxId - minId + 1;
+        }
+    }
+
+    private final OrderRepository orderRepository;
+    private volatile IdIndex index;
+    private volatile ZipfSampler zipf;
+
+    public OrderSampler(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${load.sampler.refresh-ms:30000}")
+    public void refresh() {
+        OrderRepository.IdRange range = orderRepository.findIdRange();
+        if (range == null || range.getMinId() == null) {
+            index = null;
+            return;
+        }
+        index = new IdIndex(range.getMinId(), range.getMaxId(), range.getRowCount(), System.currentTimeMillis());
+        log.debug("Order id index refreshed: {}", index);
+    }
+
+    /**
+     * 뽑은 순서대로 존재하는 주문을 limit 개(최대 MAX_BATCH) 돌려준다.
+     * UNIFORM 은 서로 다른 행만, ZIPF 는 핫 키가 반복해서 뽑히면 같은 행을 중복해서 담는다.
+     * 삭제된 ID 로 모자라면 모자란 만큼 다시 뽑고, MAX_ROUNDS 안에 채우지 못하면 경고를 남기고 ID 범위를 갱신한다.
+     */
+    public List<Order> sample(int limit, Distribution distribution, double skew) {
+        IdIndex idx = index;
+        if (idx == null) {
+            refresh();
+            idx = index;
+            if (idx == null) {
+                return List.of();
+            }
+        }
+        boolean distinct = distribution != Distribution.ZIPF;
+        int n = Math.max(1, Math.min(limit, MAX_BATCH));
+        if (distinct) {
+            n = (int) Math.min(n, idx.rowCount());
+        }
+
+        Map<Long, Order> found = new HashMap<>();
+        Set<Long> absent = new HashSet<>();
+        Set<Long> taken = new HashSet<>();
+        List<Order> result = new ArrayList<>(n);
+        int rounds = 0;
+        while (result.size() < n && rounds++ < MAX_ROUNDS) {
+            // 뽑은 ID 가 아직 담지 않은 행일 확률에 반비례하게 뽑는다 (ID 공백, UNIFORM 은 이미 담은 행도 제외)
+            long usable = Math.max(1, idx.rowCount() - (distinct ? taken.size() : 0));
+            double hitRate = Math.min(1.0, (double) usable / idx.span());
+            int draws = (int) Math.min(MAX_BATCH, Math.ceil((n - result.size()) / hitRate));
+            long[] drawn = new long[draws];
+            Set<Long> lookup = new LinkedHashSet<>();
+            for (int i = 0; i < draws; i++) {
+                drawn[i] = distribution == Distribution.ZIPF ? zipfId(idx, skew) : uniformId(idx);
+                if (!found.containsKey(drawn[i]) && !absent.contains(drawn[i])) {
+                    lookup.add(drawn[i]);
+                }
+            }
+            if (!lookup.isEmpty()) {
+                for (Order order : orderRepository.findAllById(lookup)) {
+                    found.put(order.getId(), order);
+                }
+                lookup.removeAll(found.keySet());
+                absent.addAll(lookup);
+            }
+            // 조회 결과 순서(DB/IN 목록 순서)가 아니라 뽑은 순서대로 담아야 표본이 치우치지 않는다
+            for (long id : drawn) {
+                Order order = found.get(id);
+                if (order == null || (distinct && !taken.add(id))) {
+                    continue;
+                }
+                result.add(order);
+                if (result.size() == n) {
+                    break;
+                }
+            }
+        }
+        if (result.size() < n) {
+            log.warn("Order sample returned {} of {} rows after {} rounds; refreshing the id index",
+                    result.size(), n, MAX_ROUNDS);
+            refresh();
+        }
+        return result;
+    }
+
+    /**
+     * 쓰기 부하용 ID. 조회하지 않으므로 삭제된 ID 가 섞일 수 있다 (해당 UPDATE 는 0 행).
+     * hotFraction 비율은 ID 범위에 흩어진 hotKeys 개의 고정 키에서, 나머지는 범위 전체에서 균등하게 뽑는다.
+     * 데이터가 없으면 빈 배열.
+     */
+    public long[] sampleIds(int count, double hotFraction, int hotKeys) {
+        IdIndex idx = index;
+        if (idx == null) {
+            refresh();
+            idx = index;
+            if (idx == null) {
+                return new long[0];
+            }
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long hot = Math.max(1, Math.min(hotKeys, idx.span()));
+        long[] ids = new long[Math.max(0, count)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = hotFraction > 0 && random.nextDouble() < hotFraction
+                    ? idx.minId() + scatter(random.nextLong(hot), idx.span())
+                    : uniformId(idx);
+        }
+        return ids;
+    }
+
+    private long uniformId(IdIndex idx) {
+        return ThreadLocalRandom.current().nextLong(idx.minId(), idx.maxId() + 1);
+    }
+
+    private long zipfId(IdIndex idx, double skew) {
+        ZipfSampler sampler = zipf;
+        if (sampler == null || sampler.getN() != idx.span() || sampler.getExponent() != skew) {
+            sampler = new ZipfSampler(idx.span(), skew);
+            zipf = sampler;
+        }
+        long rank = sampler.sample() - 1;
+        return idx.minId() + scatter(rank, idx.span());
+    }
+
+    // [0, span) 위의 전단사 매핑: span 과 서로소인 소수를 곱한 뒤 나머지 (span < 2^32 이면 overflow 없음)
+    private static long scatter(long rank, long span) {
+        if (span >= (1L << 32)) {
+            return rank;
+        }
+        for (long prime : SCATTER_PRIMES) {
+            if (span % prime != 0) {
+                return (rank * prime) % span;
+            }
+        }
+        return rank;
+    }
+}
@@ -0,0 +1,61 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * keyset 페이지 커서. 형식은 "<정렬 키 값>_<id>" 이고, 첫 페이지(커서 없음)는 value=null, id=Long.MAX_VALUE.
+ * 형식이 잘못된 커서와 0 이하의 pageSize 는 IllegalArgumentException 으로 거부한다 (컨트롤러에서 400).
+ */
+record PageCursor(String value, long id) {
+
+    private static final PageCursor FIRST = new PageCursor(null, Long.MAX_VALUE);
+
+    static String of(String value, Long id) {
+        return value + "_" + id;
+    }
+
+    static PageCursor parse(String cursor) {
+        if (cursor == null) {
+            return FIRST;
+        }
+        int separator = cursor.lastIndexOf('_');
+        if (separator <= 0 || separator == cursor.length() - 1) {
+            throw new IllegalArgumentException("invalid cursor (expected <value>_<id>): " + cursor);
+        }
+        try {
+            return new PageCursor(cursor.substring(0, separator), Long.parseLong(cursor.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor id: " + cursor, e);
+        }
+    }
+
+    static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+    }
+
+    LocalDateTime date(LocalDateTime first) {
+        if (value == null) {
+            return first;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid cursor date: " + value, e);
+        }
+    }
+
+    BigDecimal price(BigDecimal first) {
+        if (value == null) {
+            return first;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor price: " + value, e);
+        }
+    }
+}
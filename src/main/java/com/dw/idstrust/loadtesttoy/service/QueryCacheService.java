@@ -0,0 +1,126 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * DatabaseService 조회 앞단의 in-process read-through 캐시 (Caffeine, W-TinyLFU).
+ * 쿼리 유형별로 런타임에 켜고 끌 수 있으며, 크기 제한은 캐시된 결과 행 수(weight) 기준이다.
+ */
+@Service
+public class QueryCacheService {
+    private static final Logger log = LoggerFactory.getLogger(QueryCacheService.class);
+
+    public enum QueryType {
+        HIGH_VALUE, STATUS, DATE_RANGE, COUNT;
+
+        public static QueryType from(String value) {
+            return valueOf(value.trim().toUpperCase().replace('-', '_'));
+        }
+    }
+
+    // 주문 상태 변경 시 결과가 달라질 수 있는 목록 조회
+    public static final Set<QueryType> ORDER_LISTS = Set.of(QueryType.HIGH_VALUE, QueryType.STATUS, QueryType.DATE_RANGE);
+
+    private final Map<QueryType, Cache<Object, Object>> caches = new EnumMap<>(QueryType.class);
+    private final Map<QueryType, AtomicBoolean> enabled = new EnumMap<>(QueryType.class);
+
+    public QueryCacheService(@Value("${cache.query.max-rows:200000}") long maxRows,
+                             @Value("${cache.query.ttl:30s}") Duration ttl,
+                             @Value("${cache.query.enabled:}") List<String> enabledTypes) {
+        for (QueryType type : QueryType.values()) {
+            caches.put(type, Caffeine.newBuilder()
+                    .maximumWeight(maxRows)
+                    .weigher((Object key, Object value) -> value instanceof Collection<?> c ? Math.max(1, c.size()) : 1)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build());
+            enabled.put(type, new AtomicBoolean(false));
+        }
+        enabledTypes.stream().filter(t -> !t.isBlank()).forEach(t -> enabled.get(QueryType.from(t)).set(true));
+        log.info("Query cache initialized (maxRows={}, ttl={}, enabled={})", maxRows, ttl, enabledTypes);
+    }
+
+    /**
+     * 캐시가 켜져 있으면 key 로 조회하고 없을 때만 loader 를 실행한다. 꺼져 있으면 항상 loader 를 실행한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(QueryType type, Object key, Supplier<T> loader) {
+        if (!enabled.get(type).get()) {
+            return loader.get();
+        }
+        return (T) caches.get(type).get(key, k -> loader.get());
+    }
+
+    public boolean isEnabled(QueryType type) {
+        return enabled.get(type).get();
+    }
+
+    public void setEnabled(QueryType type, boolean on) {
+        enabled.get(type).set(on);
+        if (!on) {
+            caches.get(type).invalidateAll();
+        }
+        log.info("Query cache for {} {}", type, on ? "enabled" : "disabled");
+    }
+
+    public void invalidate(Collection<QueryType> types) {
+        types.forEach(type -> caches.get(type).invalidateAll());
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(Cache::invalidateAll);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 무효화한다. 트랜잭션 밖이면 즉시 무효화한다.
+     */
+    public void invalidateAfterCommit(Collection<QueryType> types) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(types);
+                }
+            });
+        } else {
+            invalidate(types);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        caches.forEach((type, cache) -> {
+            CacheStats stats = cache.stats();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("enabled", enabled.get(type).get());
+            entry.put("entries", cache.estimatedSize());
+            entry.put("hitCount", stats.hitCount());
+            entry.put("missCount", stats.missCount());
+            entry.put("hitRate", stats.hitRate());
+            entry.put("evictionCount", stats.evictionCount());
+            entry.put("loadCount", stats.loadCount());
+            entry.put("averageLoadMs", stats.averageLoadPenalty() / 1_000_000.0);
+            entry.put("totalLoadTimeMs", stats.totalLoadTime() / 1_000_000);
+            result.put(type.name().toLowerCase().replace('_', '-'), entry);
+        });
+        return result;
+    }
+}
@@ -0,0 +1,20 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 조회 워크로드 결과 요약. PAGE 전략에서는 다음 페이지 커서를 포함한다 (마지막 페이지면 null).
+ */
+public record QueryResult(QueryStrategy strategy, long resultCount, String nextCursor) {
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("strategy", strategy.name().toLowerCase());
+        result.put("resultCount", resultCount);
+        if (strategy == QueryStrategy.PAGE) {
+            result.put("nextCursor", nextCursor);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,13 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+/**
+ * 주문 조회 워크로드의 결과 처리 방식.
+ * LIST: 전체 결과를 List 로 적재, PAGE: keyset 커서 기반 한 페이지, STREAM: fetch size 단위로 점진 처리.
+ */
+public enum QueryStrategy {
+    LIST, PAGE, STREAM;
+
+    public static QueryStrategy from(String value) {
+        return value == null || value.isBlank() ? LIST : valueOf(value.trim().toUpperCase());
+    }
+}
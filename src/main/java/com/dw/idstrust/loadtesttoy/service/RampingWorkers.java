@@ -0,0 +1,183 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Closed-loop 단계별 워커 수 제어기 (k6 ramping-vus 방식).
+ * stages 를 차례로 진행하면서 단계마다 직전 목표에서 이번 목표까지 워커 수를 선형으로 바꾼다.
+ * 시나리오를 다시 시작하지 않고 워커를 추가하며, 줄일 때는 번호가 큰 워커부터 현재 작업 단위를 마치고 빠진다.
+ * 단계가 끝날 때마다 그 구간의 처리량, 지연 분위수, 프로세스 CPU 사용률을 ScenarioRun 에 남기므로
+ * 한 번의 실행으로 처리량 곡선의 꺾이는 지점(knee)을 찾을 수 있다.
+ */
+class RampingWorkers implements Runnable {
+    private static final Logger log = LoggerFactory.getLogger(RampingWorkers.class);
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final LoadScenarioProperties.Scenario scenario;
+    private final ScenarioRun run;
+    private final ExecutorService workerPool;
+    private final AtomicBoolean running;
+    private final LatencyRecorder latency;
+    private final CpuLoadEngine cpuEngine;
+    private final Runnable unit;
+
+    // 워커 번호별 실행 여부. 번호 < desired 인 워커만 계속 실행된다.
+    private final AtomicBoolean[] slots;
+    private final AtomicInteger desired = new AtomicInteger();
+    private final AtomicInteger live = new AtomicInteger();
+    // 단계 구간 지연 (LatencyRecorder 와 같은 단위/정밀도, 단계 경계마다 교체)
+    private final Recorder stageLatency = new Recorder(LatencyRecorder.HIGHEST_TRACKABLE_MICROS, LatencyRecorder.SIGNIFICANT_DIGITS);
+
+    RampingWorkers(LoadScenarioProperties.Scenario scenario, ScenarioRun run, ExecutorService workerPool,
+                   AtomicBoolean running, LatencyRecorder latency, CpuLoadEngine cpuEngine, Runnable unit) {
+        this.scenario = scenario;
+        this.run = run;
+        this.workerPool = workerPool;
+        this.running = running;
+        this.latency = latency;
+        this.cpuEngine = cpuEngine;
+        this.unit = unit;
+        int maxWorkers = scenario.getStages().stream().mapToInt(LoadScenarioProperties.Stage::getTarget).max().orElse(0);
+        this.slots = new AtomicBoolean[maxWorkers];
+        for (int i = 0; i < maxWorkers; i++) {
+            slots[i] = new AtomicBoolean();
+        }
+    }
+
+    static void validate(List<LoadScenarioProperties.Stage> stages) {
+        for (LoadScenarioProperties.Stage stage : stages) {
+            if (stage.getTarget() < 0) {
+                throw new IllegalArgumentException("stage target must be >= 0: " + stage.getTarget());
+            }
+            if (stage.getDuration() == null || stage.getDuration().isNegative()) {
+                throw new IllegalArgumentException("stage duration must be >= 0");
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        Histogram interval = null;
+        int from = 0;
+        try {
+            List<LoadScenarioProperties.Stage> stages = scenario.getStages();
+            for (int i = 0; i < stages.size() && running.get(); i++) {
+                LoadScenarioProperties.Stage stage = stages.get(i);
+                int to = stage.getTarget();
+                long stageStart = System.nanoTime();
+                long stageStartMillis = System.currentTimeMillis();
+                long stageEnd = stageStart + stage.getDuration().toNanos();
+                long completedAtStart = run.getCompleted();
+                long cpuAtStart = cpuEngine.processCpuNanos();
+                interval = stageLatency.getIntervalHistogram(interval); // 직전 구간 버림
+                log.info("Scenario {} stage {}: {} -> {} workers over {}s", run.getName(), i, from, to, stage.getDuration().getSeconds());
+
+                long now;
+                while (running.get() && (now = System.nanoTime()) - stageEnd < 0 && !Thread.currentThread().isInterrupted()) {
+                    double progress = (double) (now - stageStart) / (stageEnd - stageStart);
+                    resize((int) Math.round(from + (to - from) * progress));
+                    LockSupport.parkNanos(Math.min(TICK_NANOS, stageEnd - now));
+                }
+                resize(to);
+                if (stage.getDuration().isZero()) {
+                    // 즉시 전환 단계는 구간 통계 없이 워커 수만 바꾼다
+                    from = to;
+                    continue;
+                }
+
+                long elapsed = System.nanoTime() - stageStart;
+                long cpuAtEnd = cpuEngine.processCpuNanos();
+                interval = stageLatency.getIntervalHistogram(interval);
+                long done = run.getCompleted() - completedAtStart;
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("stage", i);
+                result.put("fromWorkers", from);
+                result.put("toWorkers", to);
+                result.put("startedAt", stageStartMillis);
+                result.put("durationMs", elapsed / 1_000_000.0);
+                result.put("completed", done);
+                result.put("throughput", elapsed > 0 ? done * 1_000_000_000.0 / elapsed : 0.0);
+                result.put("latency", LatencyRecorder.summarize(interval));
+                result.put("processCpuPercent", cpuAtStart >= 0 && cpuAtEnd >= 0 && elapsed > 0
+                        ? (cpuAtEnd - cpuAtStart) * 100.0 / elapsed / cpuEngine.getProcessors() : null);
+                run.stageCompleted(result);
+                from = to;
+            }
+        } finally {
+            resize(0);
+            drain();
+            run.finish(running.get() ? "completed" : "stopped");
+        }
+    }
+
+    private void resize(int target) {
+        if (desired.getAndSet(target) != target) {
+            run.workersChanged(target);
+        }
+        for (int k = 0; k < target; k++) {
+            // 빠지는 중인 워커가 아직 슬롯을 잡고 있으면 다음 tick 의 resize 가 다시 채운다
+            if (slots[k].compareAndSet(false, true)) {
+                start(k);
+            }
+        }
+    }
+
+    private void start(int index) {
+        live.incrementAndGet();
+        try {
+            workerPool.execute(() -> work(index));
+        } catch (RejectedExecutionException e) {
+            live.decrementAndGet();
+            slots[index].set(false);
+            log.warn("Worker pool rejected ramping worker {} for scenario {}", index, run.getName());
+        }
+    }
+
+    private void work(int index) {
+        try {
+            while (running.get() && index < desired.get() && !Thread.currentThread().isInterrupted()) {
+                run.tryDispatch(Integer.MAX_VALUE);
+                long startedAt = System.nanoTime();
+                try {
+                    unit.run();
+                } finally {
+                    long serviceNanos = System.nanoTime() - startedAt;
+                    run.unitCompleted(0, serviceNanos);
+                    // closed-loop 이므로 coordinated omission 보정 없이 처리 시간만 기록 (LoadScenarioProperties 참고)
+                    latency.recordNanos(serviceNanos);
+                    stageLatency.recordValue(toMicros(serviceNanos));
+                }
+            }
+        } finally {
+            slots[index].set(false);
+            live.decrementAndGet();
+        }
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (live.get() > 0 && deadline - System.nanoTime() > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.max(0, Math.min(LatencyRecorder.HIGHEST_TRACKABLE_MICROS, nanos / 1_000));
+    }
+}
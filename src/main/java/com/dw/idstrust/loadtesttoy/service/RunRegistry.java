@@ -0,0 +1,89 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.slf4j.Logger;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 엔진 하나의 실행 목록. 최근 MAX_RETAINED_RUNS 개를 남기고(넘치면 끝난 것 중 가장 오래된 것부터 제거)
+ * 지금 실행 중인 것은 따로 추적하여 stopAll / 관측 이벤트 전달에 쓴다.
+ */
+final class RunRegistry<R extends LoadRun> {
+
+    static final int MAX_RETAINED_RUNS = 20;
+
+    @FunctionalInterface
+    interface Body {
+        void run() throws Exception;
+    }
+
+    private final String label;
+    private final Logger log;
+    private final Map<String, R> runs = new ConcurrentHashMap<>();
+    private final Set<R> active = ConcurrentHashMap.newKeySet();
+
+    RunRegistry(String label, Logger log) {
+        this.label = label;
+        this.log = log;
+    }
+
+    R register(R run) {
+        runs.put(run.getId(), run);
+        if (runs.size() > MAX_RETAINED_RUNS) {
+            runs.values().stream()
+                    .filter(LoadRun::isFinished)
+                    .min(Comparator.comparingLong(LoadRun::getCreatedAtMillis))
+                    .ifPresent(r -> runs.remove(r.getId()));
+        }
+        return run;
+    }
+
+    /**
+     * run 을 실행 중으로 표시하고 body 를 수행한다. body 가 정상 반환하면 중지 요청 여부에 따라 stopped / completed,
+     * 예외를 던지면 failed 로 마친다 (CompletableFuture 로 돌린 워커의 예외는 원인을 꺼내 기록).
+     */
+    void execute(R run, BooleanSupplier keepRunning, Body body) {
+        active.add(run);
+        try {
+            body.run();
+            run.finish(run.isStopRequested() || Thread.currentThread().isInterrupted() || !keepRunning.getAsBoolean()
+                    ? "stopped" : "completed");
+            log.info("{} {} finished: {}", label, run.getId(), run.toMap());
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            run.fail(cause);
+            log.error("{} {} failed", label, run.getId(), cause);
+        } finally {
+            active.remove(run);
+        }
+    }
+
+    R get(String id) {
+        return runs.get(id);
+    }
+
+    Collection<R> active() {
+        return Collections.unmodifiableSet(active);
+    }
+
+    void stopAll() {
+        active.forEach(LoadRun::stop);
+    }
+
+    // 최근 실행부터
+    List<Map<String, Object>> toMaps() {
+        return runs.values().stream()
+                .sorted(Comparator.comparingLong(LoadRun::getCreatedAtMillis).reversed())
+                .map(LoadRun::toMap)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,214 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오 1회 실행의 진행 상태와 작업 단위 통계.
+ * 대기 시간(queueing delay, 의도된 시작 시각 ~ 실제 시작)과 처리 시간(service time)을 분리하여 집계한다.
+ */
+public class ScenarioRun {
+
+    // 지연 기록 방식: 의도된 시작 시각 기준(open-loop 보정) | 보정 안 함 | closed-loop 라 보정 대상 아님
+    static final String CORRECTION_INTENDED_START = "intended-start";
+    static final String CORRECTION_NONE = "none";
+    static final String CORRECTION_NOT_APPLICABLE = "not-applicable (closed-loop)";
+
+    private final String id;
+    private final String name;
+    private final String mode;
+    private final long startedAtMillis = System.currentTimeMillis();
+    private final long startedAtNanos = System.nanoTime();
+    private volatile long endedAtMillis;
+    private volatile long endedAtNanos;
+    private volatile String status = "running";
+    private volatile String latencyCorrection = CORRECTION_NONE;
+    private volatile CpuLoadSession cpu;
+    private volatile GcStressRun gc;
+    private volatile DiskIoRun disk;
+    private volatile NetworkLoadRun network;
+    private volatile WriteLoadRun write;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final LongAdder queueDelayNanos = new LongAdder();
+    private final LongAdder serviceNanos = new LongAdder();
+    private final AtomicLong maxQueueDelayNanos = new AtomicLong();
+    private final AtomicLong maxServiceNanos = new AtomicLong();
+    private final CompletableFuture<ScenarioRun> released = new CompletableFuture<>();
+    // stages 시나리오: 현재 목표 워커 수와 끝난 단계별 통계
+    private volatile int targetWorkers = -1;
+    private final List<Map<String, Object>> stages = new CopyOnWriteArrayList<>();
+
+    public ScenarioRun(String name, String mode) {
+        this.id = name + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.name = name;
+        this.mode = mode;
+    }
+
+    /**
+     * inflight 가 상한 미만이면 작업 단위 하나를 점유한다. 상한에 걸리면 drop 으로 집계하고 false 를 반환한다.
+     */
+    boolean tryDispatch(int maxInflight) {
+        if (inflight.incrementAndGet() > maxInflight) {
+            inflight.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        dispatched.increment();
+        return true;
+    }
+
+    void unitRejected() {
+        inflight.decrementAndGet();
+        dispatched.decrement();
+        dropped.increment();
+    }
+
+    void unitCompleted(long queueDelay, long service) {
+        completed.increment();
+        queueDelayNanos.add(queueDelay);
+        serviceNanos.add(service);
+        maxQueueDelayNanos.accumulateAndGet(queueDelay, Math::max);
+        maxServiceNanos.accumulateAndGet(service, Math::max);
+        inflight.decrementAndGet();
+    }
+
+    void setLatencyCorrection(String latencyCorrection) {
+        this.latencyCorrection = latencyCorrection;
+    }
+
+    void attachCpu(CpuLoadSession cpu) {
+        this.cpu = cpu;
+    }
+
+    void attachGc(GcStressRun gc) {
+        this.gc = gc;
+    }
+
+    void attachDisk(DiskIoRun disk) {
+        this.disk = disk;
+    }
+
+    void attachNetwork(NetworkLoadRun network) {
+        this.network = network;
+    }
+
+    void attachWrite(WriteLoadRun write) {
+        this.write = write;
+    }
+
+    void workersChanged(int target) {
+        this.targetWorkers = target;
+    }
+
+    void stageCompleted(Map<String, Object> stage) {
+        stages.add(stage);
+    }
+
+    long getCompleted() {
+        return completed.sum();
+    }
+
+    void finish(String finalStatus) {
+        if (endedAtNanos == 0) {
+            endedAtNanos = System.nanoTime();
+            endedAtMillis = System.currentTimeMillis();
+            status = finalStatus;
+        }
+    }
+
+    // 실행 표시까지 해제되어 같은 이름의 시나리오를 다시 시작할 수 있는 시점
+    void released() {
+        released.complete(this);
+    }
+
+    public CompletableFuture<ScenarioRun> completion() {
+        return released;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return endedAtNanos != 0;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getStartedAtMillis() {
+        return startedAtMillis;
+    }
+
+    // 실행 중이면 0
+    public long getEndedAtMillis() {
+        return endedAtMillis;
+    }
+
+    public Map<String, Object> toMap() {
+        long elapsedNanos = (isFinished() ? endedAtNanos : System.nanoTime()) - startedAtNanos;
+        long done = completed.sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("id", id);
+        result.put("name", name);
+        result.put("mode", mode);
+        result.put("status", status);
+        result.put("startedAt", startedAtMillis);
+        result.put("endedAt", endedAtMillis == 0 ? null : endedAtMillis);
+        result.put("dispatched", dispatched.sum());
+        result.put("completed", done);
+        result.put("dropped", dropped.sum());
+        result.put("inflight", inflight.get());
+        result.put("achievedRate", elapsedNanos > 0 ? done * 1_000_000_000.0 / elapsedNanos : 0.0);
+        result.put("avgQueueDelayMs", done > 0 ? queueDelayNanos.sum() / 1_000_000.0 / done : 0.0);
+        result.put("maxQueueDelayMs", maxQueueDelayNanos.get() / 1_000_000.0);
+        result.put("avgServiceTimeMs", done > 0 ? serviceNanos.sum() / 1_000_000.0 / done : 0.0);
+        result.put("maxServiceTimeMs", maxServiceNanos.get() / 1_000_000.0);
+        result.put("latencyCorrection", latencyCorrection);
+        if (targetWorkers >= 0) {
+            result.put("targetWorkers", targetWorkers);
+            result.put("stages", List.copyOf(stages));
+        }
+        CpuLoadSession cpuSession = cpu;
+        if (cpuSession != null) {
+            result.put("cpu", cpuSession.toMap());
+        }
+        GcStressRun gcRun = gc;
+        if (gcRun != null) {
+            result.put("gc", gcRun.toMap());
+        }
+        DiskIoRun diskRun = disk;
+        if (diskRun != null) {
+            result.put("disk", diskRun.toMap());
+        }
+        NetworkLoadRun networkRun = network;
+        if (networkRun != null) {
+            result.put("network", networkRun.toMap());
+        }
+        WriteLoadRun writeRun = write;
+        if (writeRun != null) {
+            result.put("write", writeRun.toMap());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,340 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * load.scenarios.schedules 시간표를 JVM 안에서 실행하는 스케줄러 (load.scenarios.schedulerEnabled=true 일 때).
+ * 한 회차는 schedule.scenarios 를 앞의 시나리오가 끝나는 즉시 차례로 실행하는 것이며,
+ * cron 시각마다 또는 시작 직후 repeat 회 연속으로 회차를 시작한다.
+ * <p>
+ * 모든 상태 변경은 전용 스케줄러 스레드 하나에서만 일어난다. 시작 시각은 이전 예정 시각 기준으로 계산하여 누적 지연이 없고,
+ * 실제 시작과 예정 시각의 차이(dispatch lag)를 실행 이력에 남긴다.
+ */
+@Service
+public class ScenarioScheduler {
+    private static final Logger log = LoggerFactory.getLogger(ScenarioScheduler.class);
+
+    private static final int MAX_HISTORY = 500;
+    // 회차의 모든 단계가 시작하지 못했을 때(이미 실행 중, 설정 오류) 반복 회차를 바로 다시 돌리지 않도록 두는 최소 간격
+    private static final Duration IDLE_PASS_BACKOFF = Duration.ofSeconds(1);
+
+    private final LoadScenarioProperties props;
+    private final LoadGeneratorService loadService;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("scenario-scheduler").daemon(true).factory());
+    private final Map<String, ScheduleState> states = new ConcurrentHashMap<>();
+    private final ArrayDeque<Map<String, Object>> history = new ArrayDeque<>();
+
+    public ScenarioScheduler(LoadScenarioProperties props, LoadGeneratorService loadService) {
+        this.props = props;
+        this.loadService = loadService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!props.isSchedulerEnabled()) {
+            log.info("Scenario scheduler disabled (load.scenarios.schedulerEnabled=false)");
+            return;
+        }
+        for (LoadScenarioProperties.Schedule schedule : props.getSchedules()) {
+            if (!schedule.isEnabled()) {
+                continue;
+            }
+            try {
+                ScheduleState state = new ScheduleState(schedule, resolveSteps(schedule));
+                states.put(state.name, state);
+                timer.execute(() -> arm(state));
+            } catch (IllegalArgumentException | DateTimeException e) {
+                // 잘못된 cron / zone 은 그 스케줄만 건너뛴다
+                log.error("Invalid schedule {}: {}", schedule.getName(), e.getMessage());
+            }
+        }
+        log.info("Scenario scheduler started with {} schedule(s)", states.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    private List<LoadScenarioProperties.Scenario> resolveSteps(LoadScenarioProperties.Schedule schedule) {
+        if (schedule.getName() == null || schedule.getScenarios() == null || schedule.getScenarios().isEmpty()) {
+            throw new IllegalArgumentException("name and at least one scenario are required");
+        }
+        List<LoadScenarioProperties.Scenario> steps = new ArrayList<>();
+        for (String scenarioName : schedule.getScenarios()) {
+            LoadScenarioProperties.Scenario scenario = props.getDefinitions() == null ? null : props.getDefinitions().stream()
+                    .filter(s -> scenarioName.equals(s.getName()))
+                    .findFirst()
+                    .orElse(null);
+            if (scenario == null) {
+                throw new IllegalArgumentException("unknown scenario " + scenarioName);
+            }
+            steps.add(scenario);
+        }
+        return steps;
+    }
+
+    // 스케줄러 스레드에서 호출
+    private void arm(ScheduleState state) {
+        if (state.cron != null) {
+            armCron(state, ZonedDateTime.now(state.zone));
+        } else {
+            Instant plannedAt = Instant.now().plus(state.schedule.getStartDelay());
+            state.nextFireAt = plannedAt;
+            timer.schedule(() -> fire(state, plannedAt, false), state.schedule.getStartDelay().toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void armCron(ScheduleState state, ZonedDateTime after) {
+        ZonedDateTime nextFire = state.cron.next(after);
+        if (nextFire == null) {
+            state.nextFireAt = null;
+            return;
+        }
+        Instant plannedAt = nextFire.toInstant();
+        state.nextFireAt = plannedAt;
+        timer.schedule(() -> {
+            fire(state, plannedAt, false);
+            // 실제 발화 시각이 아니라 예정 시각 기준으로 다음 시각 계산
+            armCron(state, nextFire);
+        }, delayNanos(plannedAt), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 회차 시작 시각이 되었거나 수동 실행을 요청받았을 때. 이전 회차가 진행 중이면 overlap 정책을 따른다.
+     */
+    private void fire(ScheduleState state, Instant plannedAt, boolean manual) {
+        if (!state.passActive) {
+            startPass(state, plannedAt);
+            return;
+        }
+        switch (state.schedule.getOverlap()) {
+            case SKIP -> record(state, -1, null, plannedAt, null, "skipped", "previous pass still running");
+            case QUEUE -> {
+                if (state.queuedAt != null) {
+                    record(state, -1, null, plannedAt, null, "skipped", "a pass is already queued");
+                } else {
+                    state.queuedAt = plannedAt;
+                }
+            }
+            case REPLACE -> {
+                // 진행 중인 회차를 끊고, 현재 단계가 멈추면 새 회차 시작
+                state.generation++;
+                if (state.currentScenario != null) {
+                    state.queuedAt = plannedAt;
+                    loadService.stopScenario(state.currentScenario);
+                } else {
+                    // 단계 사이 gap 대기 중이면 남은 단계를 취소하고 바로 새 회차 시작
+                    cancelPendingStep(state);
+                    state.queuedAt = null;
+                    startPass(state, plannedAt);
+                }
+            }
+        }
+        if (manual) {
+            log.info("Manual trigger of schedule {} handled with overlap policy {}", state.name, state.schedule.getOverlap());
+        }
+    }
+
+    private void startPass(ScheduleState state, Instant plannedAt) {
+        state.passActive = true;
+        state.passes++;
+        state.passRuns = 0;
+        runStep(state, state.generation, 0, plannedAt);
+    }
+
+    private void runStep(ScheduleState state, long generation, int index, Instant plannedAt) {
+        state.pendingStep = null;
+        if (generation != state.generation) {
+            return;
+        }
+        LoadScenarioProperties.Scenario scenario = state.steps.get(index);
+        Instant startedAt = Instant.now();
+        ScenarioRun run;
+        try {
+            run = loadService.triggerScenario(scenario);
+        } catch (RuntimeException e) {
+            record(state, index, scenario.getName(), plannedAt, startedAt, "failed", e.getMessage());
+            afterStep(state, generation, index);
+            return;
+        }
+        if (run == null) {
+            record(state, index, scenario.getName(), plannedAt, startedAt, "skipped", "scenario already running");
+            afterStep(state, generation, index);
+            return;
+        }
+        state.currentScenario = scenario.getName();
+        state.passRuns++;
+        Map<String, Object> entry = record(state, index, scenario.getName(), plannedAt, startedAt, "running", null);
+        entry.put("runId", run.getId());
+        run.completion().whenComplete((r, t) -> timer.execute(() -> {
+            synchronized (history) {
+                entry.put("status", generation != state.generation ? "replaced" : run.getStatus());
+                entry.put("endedAt", System.currentTimeMillis());
+            }
+            state.currentScenario = null;
+            afterStep(state, generation, index);
+        }));
+    }
+
+    private void afterStep(ScheduleState state, long generation, int index) {
+        Duration gap = state.schedule.getGap();
+        if (generation == state.generation && index + 1 < state.steps.size()) {
+            Instant plannedAt = Instant.now().plus(gap);
+            state.pendingStep = timer.schedule(() -> runStep(state, generation, index + 1, plannedAt), gap.toNanos(), TimeUnit.NANOSECONDS);
+            return;
+        }
+        state.passActive = false;
+        if (state.queuedAt != null) {
+            Instant queuedAt = state.queuedAt;
+            state.queuedAt = null;
+            startPass(state, queuedAt);
+        } else if (state.cron == null && (state.schedule.getRepeat() <= 0 || state.passes < state.schedule.getRepeat())) {
+            Duration delay = state.passRuns == 0 && gap.compareTo(IDLE_PASS_BACKOFF) < 0 ? IDLE_PASS_BACKOFF : gap;
+            Instant plannedAt = Instant.now().plus(delay);
+            state.nextFireAt = plannedAt;
+            timer.schedule(() -> fire(state, plannedAt, false), delay.toNanos(), TimeUnit.NANOSECONDS);
+        } else if (state.cron == null) {
+            state.nextFireAt = null;
+            log.info("Schedule {} finished after {} pass(es)", state.name, state.passes);
+        }
+    }
+
+    private static void cancelPendingStep(ScheduleState state) {
+        ScheduledFuture<?> pending = state.pendingStep;
+        if (pending != null) {
+            pending.cancel(false);
+            state.pendingStep = null;
+        }
+    }
+
+    private Map<String, Object> record(ScheduleState state, int step, String scenario, Instant plannedAt, Instant startedAt,
+                                       String status, String reason) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("schedule", state.name);
+        entry.put("pass", state.passes);
+        entry.put("step", step);
+        entry.put("scenario", scenario);
+        entry.put("status", status);
+        entry.put("plannedAt", plannedAt.toEpochMilli());
+        if (startedAt != null) {
+            entry.put("startedAt", startedAt.toEpochMilli());
+            entry.put("dispatchLagMs", Duration.between(plannedAt, startedAt).toNanos() / 1_000_000.0);
+        }
+        if (reason != null) {
+            entry.put("reason", reason);
+        }
+        synchronized (history) {
+            if (history.size() == MAX_HISTORY) {
+                history.removeFirst();
+            }
+            history.addLast(entry);
+        }
+        log.info("Schedule {} pass {} step {} ({}): {}{}", state.name, state.passes, step, scenario, status,
+                reason == null ? "" : " - " + reason);
+        return entry;
+    }
+
+    private static long delayNanos(Instant at) {
+        return Math.max(0, Duration.between(Instant.now(), at).toNanos());
+    }
+
+    /**
+     * 시간표의 회차 하나를 지금 시작한다. 진행 중인 회차가 있으면 overlap 정책을 따른다.
+     *
+     * @return 알 수 없는 시간표이면 false
+     */
+    public boolean triggerNow(String name) {
+        ScheduleState state = states.get(name);
+        if (state == null) {
+            return false;
+        }
+        Instant now = Instant.now();
+        timer.execute(() -> fire(state, now, true));
+        return true;
+    }
+
+    public List<Map<String, Object>> getSchedules() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (ScheduleState state : states.values()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("name", state.name);
+            map.put("cron", state.schedule.getCron());
+            map.put("scenarios", state.schedule.getScenarios());
+            map.put("overlap", state.schedule.getOverlap().name().toLowerCase());
+            map.put("repeat", state.schedule.getRepeat());
+            map.put("passes", state.passes);
+            map.put("passActive", state.passActive);
+            map.put("currentScenario", state.currentScenario);
+            map.put("queued", state.queuedAt != null);
+            Instant nextFireAt = state.nextFireAt;
+            map.put("nextFireAt", nextFireAt == null ? null : nextFireAt.toEpochMilli());
+            result.add(map);
+        }
+        return result;
+    }
+
+    public List<Map<String, Object>> getHistory() {
+        synchronized (history) {
+            List<Map<String, Object>> result = new ArrayList<>(history.size());
+            for (Map<String, Object> entry : history) {
+                result.add(new LinkedHashMap<>(entry));
+            }
+            return result;
+        }
+    }
+
+    public boolean isEnabled() {
+        return props.isSchedulerEnabled();
+    }
+
+    // 스케줄러 스레드에서만 변경, HTTP 조회용으로 volatile
+    private static final class ScheduleState {
+        final String name;
+        final LoadScenarioProperties.Schedule schedule;
+        final List<LoadScenarioProperties.Scenario> steps;
+        final CronExpression cron;
+        final ZoneId zone;
+        volatile ScheduledFuture<?> pendingStep;
+        volatile Instant nextFireAt;
+        volatile boolean passActive;
+        volatile int passes;
+        int passRuns;
+        volatile long generation;
+        volatile Instant queuedAt;
+        volatile String currentScenario;
+
+        ScheduleState(LoadScenarioProperties.Schedule schedule, List<LoadScenarioProperties.Scenario> steps) {
+            this.name = schedule.getName();
+            this.schedule = schedule;
+            this.steps = steps;
+            this.cron = schedule.getCron() == null || schedule.getCron().isBlank() ? null : CronExpression.parse(schedule.getCron());
+            this.zone = schedule.getZone() == null || schedule.getZone().isBlank()
+                    ? ZoneId.systemDefault() : ZoneId.of(schedule.getZone().trim());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.ExecutionProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 모드별 스레드 생성 수와 가상 스레드 carrier pinning 이벤트를 집계한다.
+ * pinning 은 JFR jdk.VirtualThreadPinned 이벤트를 RecordingStream 으로 구독하여 수집한다.
+ */
+@Service
+public class ThreadStatsService {
+    private static final Logger log = LoggerFactory.getLogger(ThreadStatsService.class);
+
+    private final ExecutionProperties props;
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private final ConcurrentMap<String, LongAdder> threadsCreated = new ConcurrentHashMap<>();
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final LongAdder pinnedNanos = new LongAdder();
+    private final AtomicLong maxPinnedNanos = new AtomicLong();
+
+    private RecordingStream pinningStream;
+
+    public ThreadStatsService(ExecutionProperties props) {
+        this.props = props;
+    }
+
+    @PostConstruct
+    public void startPinningMonitor() {
+        if (!props.isVirtual()) {
+            return;
+        }
+        try {
+            pinningStream = new RecordingStream();
+            pinningStream.enable("jdk.VirtualThreadPinned").withThreshold(props.getPinnedThreshold());
+            pinningStream.onEvent("jdk.VirtualThreadPinned", event -> {
+                long nanos = event.getDuration().toNanos();
+                pinnedEvents.increment();
+                pinnedNanos.add(nanos);
+                maxPinnedNanos.accumulateAndGet(nanos, Math::max);
+            });
+            pinningStream.startAsync();
+            log.info("Virtual thread pinning monitor started (threshold={}ms)", props.getPinnedThreshold().toMillis());
+        } catch (Exception e) {
+            log.warn("Could not start JFR pinning monitor, pinning events will not be reported", e);
+            pinningStream = null;
+        }
+    }
+
+    @PreDestroy
+    public void stopPinningMonitor() {
+        if (pinningStream != null) {
+            pinningStream.close();
+        }
+    }
+
+    /**
+     * 생성되는 스레드 수를 pool 이름으로 집계하는 ThreadFactory 로 감싼다.
+     */
+    public ThreadFactory counting(String pool, ThreadFactory delegate) {
+        LongAdder counter = threadsCreated.computeIfAbsent(pool, k -> new LongAdder());
+        return r -> {
+            counter.increment();
+            return delegate.newThread(r);
+        };
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Long> created = new LinkedHashMap<>();
+        threadsCreated.forEach((pool, counter) -> created.put(pool, counter.sum()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", props.getMode().name().toLowerCase());
+        result.put("threadsCreated", created);
+        // JVM 수치는 플랫폼 스레드만 포함 (Tomcat 기본 요청 스레드 포함)
+        result.put("jvmLiveThreads", threadMXBean.getThreadCount());
+        result.put("jvmPeakThreads", threadMXBean.getPeakThreadCount());
+        result.put("jvmTotalStartedThreads", threadMXBean.getTotalStartedThreadCount());
+        result.put("pinningMonitor", pinningStream != null);
+        result.put("pinnedEvents", pinnedEvents.sum());
+        result.put("pinnedTotalMs", pinnedNanos.sum() / 1_000_000);
+        result.put("pinnedMaxMs", maxPinnedNanos.get() / 1_000_000);
+        return result;
+    }
+}
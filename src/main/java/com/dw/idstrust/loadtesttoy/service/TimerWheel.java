@@ -0,0 +1,151 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 해시드 타이머 휠. 스레드를 점유하지 않는 지연(timed wait)을 만들기 위한 단일 스레드 타이머다.
+ * 틱마다 현재 슬롯의 타이머만 검사하므로 대기 중인 타이머 수와 관계없이 스케줄/만료 비용이 O(1) 이다.
+ * 만료 정밀도는 tick 단위이며, 대기 중인 타이머가 없으면 틱을 멈추고 park 한다.
+ * <p>
+ * {@link #delay} 가 반환한 future 는 타이머 스레드에서 완료되므로, thenRun / whenComplete 같은 동기 후속 작업도
+ * 타이머 스레드에서 실행된다. 다음 단계 예약이나 카운터 갱신처럼 짧고 막히지 않는 작업만 동기로 연결하고,
+ * CPU 를 쓰거나 블로킹하는 작업은 실행기를 지정한 *Async 메소드로 연결해야 한다 (그동안 다른 타이머가 늦어진다).
+ */
+public class TimerWheel implements AutoCloseable {
+
+    private static final class Timeout {
+        final long deadlineNanos;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        long remainingRounds;
+
+        Timeout(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayDeque<Timeout>[] buckets; // 타이머 스레드만 접근
+    private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final AtomicLong maxLatenessNanos = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private final Thread worker;
+    private volatile boolean closed;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickDuration and wheelSize must be positive");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = Math.max(1, size) - 1;
+        this.buckets = new ArrayDeque[mask + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.worker = Thread.ofPlatform().name("timer-wheel").daemon().start(this::run);
+    }
+
+    /**
+     * delay 이후 완료되는 future. 0 이하이면 이미 완료된 future 를 반환한다.
+     */
+    public CompletableFuture<Void> delay(long delay, TimeUnit unit) {
+        if (delay <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (closed) {
+            return CompletableFuture.failedFuture(new IllegalStateException("timer wheel is closed"));
+        }
+        Timeout timeout = new Timeout(System.nanoTime() + unit.toNanos(delay));
+        incoming.add(timeout);
+        scheduled.increment();
+        if (pending.getAndIncrement() == 0) {
+            LockSupport.unpark(worker);
+        }
+        return timeout.future;
+    }
+
+    private void run() {
+        while (!closed) {
+            if (pending.get() == 0) {
+                // 대기 중인 타이머가 없으면 delay() 가 깨울 때까지 쉬고, 깨어나면 현재 시각 기준 틱부터 다시 센다
+                LockSupport.park(this);
+                tick = (System.nanoTime() - startNanos) / tickNanos;
+                continue;
+            }
+            long tickEnd = startNanos + (tick + 1) * tickNanos;
+            long wait;
+            while ((wait = tickEnd - System.nanoTime()) > 0 && !closed) {
+                LockSupport.parkNanos(this, wait);
+            }
+            transferIncoming();
+            expireBucket(buckets[(int) (tick & mask)]);
+            tick++;
+        }
+        for (ArrayDeque<Timeout> bucket : buckets) {
+            bucket.forEach(t -> t.future.cancel(false));
+            bucket.clear();
+        }
+        incoming.forEach(t -> t.future.cancel(false));
+    }
+
+    private void transferIncoming() {
+        Timeout timeout;
+        while ((timeout = incoming.poll()) != null) {
+            // 이미 지난 타이머는 현재 틱 슬롯에 넣어 바로 만료
+            long target = Math.max(tick, (timeout.deadlineNanos - startNanos) / tickNanos);
+            timeout.remainingRounds = (target - tick) / buckets.length;
+            buckets[(int) (target & mask)].add(timeout);
+        }
+    }
+
+    private void expireBucket(ArrayDeque<Timeout> bucket) {
+        long now = System.nanoTime();
+        Iterator<Timeout> it = bucket.iterator();
+        while (it.hasNext()) {
+            Timeout timeout = it.next();
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            it.remove();
+            pending.decrementAndGet();
+            expired.increment();
+            maxLatenessNanos.accumulateAndGet(now - timeout.deadlineNanos, Math::max);
+            timeout.future.complete(null);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("tickMs", tickNanos / 1_000_000.0);
+        result.put("wheelSize", buckets.length);
+        result.put("pending", pending.get());
+        result.put("scheduled", scheduled.sum());
+        result.put("expired", expired.sum());
+        result.put("maxLatenessMs", maxLatenessNanos.get() / 1_000_000.0);
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(worker);
+    }
+}
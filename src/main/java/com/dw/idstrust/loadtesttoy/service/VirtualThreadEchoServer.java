@@ -0,0 +1,112 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 연결마다 가상 스레드 하나가 blocking read/write 로 echo 하는 서버.
+ * 코드 구조는 thread-per-connection 이지만 블로킹 소켓 I/O 중에는 캐리어 스레드를 반납한다.
+ */
+final class VirtualThreadEchoServer implements EchoServer {
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadEchoServer.class);
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final ServerSocket serverSocket;
+    private final InetSocketAddress address;
+    private final Thread acceptor;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder bytesEchoed = new LongAdder();
+    private volatile boolean closed;
+
+    VirtualThreadEchoServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        this.address = (InetSocketAddress) serverSocket.getLocalSocketAddress();
+        this.acceptor = Thread.ofVirtual().name("vt-echo-accept-" + address.getPort()).start(this::acceptLoop);
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                accepted.increment();
+                Thread.ofVirtual().name("vt-echo-" + address.getPort() + "-", accepted.sum()).start(() -> echo(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    log.error("Virtual-thread echo server accept failed", e);
+                }
+                return;
+            }
+        }
+    }
+
+    private void echo(Socket socket) {
+        byte[] buffer = new byte[BUFFER_BYTES];
+        try (socket; InputStream in = socket.getInputStream(); OutputStream out = socket.getOutputStream()) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                out.write(buffer, 0, n);
+                bytesEchoed.add(n);
+            }
+        } catch (IOException ignored) {
+            // 클라이언트가 먼저 끊은 경우
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    @Override
+    public InetSocketAddress address() {
+        return address;
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("type", "virtual");
+        result.put("port", address.getPort());
+        result.put("accepted", accepted.sum());
+        result.put("openConnections", connections.size());
+        result.put("bytesEchoed", bytesEchoed.sum());
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug("Failed to close echo server socket: {}", e.getMessage());
+        }
+        for (Socket socket : connections) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힌 연결
+            }
+        }
+        try {
+            acceptor.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
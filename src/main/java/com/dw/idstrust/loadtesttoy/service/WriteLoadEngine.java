@@ -0,0 +1,425 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * ORDERS 쓰기 부하 엔진 (WriteProfile 참고).
+ * 워커마다 커넥션 하나를 실행 내내 점유하고 autocommit 없이 트랜잭션을 반복한다. deadlock (ORA-00060) 은 롤백 후
+ * 집계하고 계속 진행하며, 워커 세션의 V$MYSTAT / V$SESSION_EVENT 증가분을 주기적으로 실행 결과에 더한다.
+ * executeOnce 는 HTTP 요청(k6) 하나에 트랜잭션 하나를 수행하는 경로다.
+ */
+@Service
+public class WriteLoadEngine {
+    private static final Logger log = LoggerFactory.getLogger(WriteLoadEngine.class);
+
+    // 상태 순환 (DELIVERED / CANCELLED 는 다시 PENDING) 이라 부하가 길어져도 갱신 대상이 줄지 않는다
+    // JPA 를 거치지 않는 UPDATE 도 VERSION 을 올려야 낙관적 잠금 경로가 이 변경과의 충돌을 감지한다
+    private static final String TRANSITION_SQL = "UPDATE ORDERS SET STATUS = CASE STATUS "
+            + "WHEN 'PENDING' THEN 'CONFIRMED' WHEN 'CONFIRMED' THEN 'SHIPPED' WHEN 'SHIPPED' THEN 'DELIVERED' "
+            + "ELSE 'PENDING' END, VERSION = VERSION + 1 WHERE ID = ?";
+    private static final String HOT_ROW_SQL = "UPDATE ORDERS SET QUANTITY = MOD(QUANTITY, 100) + 1, "
+            + "TOTAL_PRICE = UNIT_PRICE * (MOD(QUANTITY, 100) + 1), VERSION = VERSION + 1 WHERE ID = ?";
+    // ROWNUM 으로 자르면 잠긴 행을 건너뛰기 전에 후보가 정해지므로, 제한 없이 커서를 열고 batchSize 행만 fetch 한다
+    // (SKIP LOCKED 는 fetch 한 행만 잠근다)
+    private static final String ARCHIVE_SELECT_SQL = "SELECT ID FROM ORDERS WHERE STATUS IN ('DELIVERED', 'CANCELLED') "
+            + "FOR UPDATE SKIP LOCKED";
+    private static final String ARCHIVE_INSERT_SQL = "INSERT INTO ORDERS_ARCHIVE (ID, ORDER_NUMBER, CUSTOMER_NAME, PRODUCT_NAME, "
+            + "QUANTITY, UNIT_PRICE, TOTAL_PRICE, ORDER_DATE, STATUS, SHIPPING_ADDRESS, CREATED_AT) "
+            + "SELECT ID, ORDER_NUMBER, CUSTOMER_NAME, PRODUCT_NAME, QUANTITY, UNIT_PRICE, TOTAL_PRICE, ORDER_DATE, "
+            + "STATUS, SHIPPING_ADDRESS, CREATED_AT FROM ORDERS WHERE ID = ?";
+    private static final String ARCHIVE_DELETE_SQL = "DELETE FROM ORDERS WHERE ID = ?";
+    private static final String SESSION_STATS_SQL = "SELECT n.NAME, s.VALUE FROM V$MYSTAT s "
+            + "JOIN V$STATNAME n ON n.STATISTIC# = s.STATISTIC# WHERE n.NAME IN ('redo size', 'redo entries')";
+    private static final String SESSION_EVENTS_SQL = "SELECT EVENT, TOTAL_WAITS, TIME_WAITED_MICRO FROM V$SESSION_EVENT "
+            + "WHERE SID = SYS_CONTEXT('USERENV', 'SID') AND EVENT IN ('enq: TX - row lock contention', 'log file sync')";
+    // ORA-00060: deadlock detected while waiting for resource
+    private static final int ORA_DEADLOCK = 60;
+    private static final long SESSION_STATS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int MAX_BATCH = OrderSampler.MAX_BATCH;
+
+    private final DataSource dataSource;
+    private final OrderSampler orderSampler;
+    private final OrderGenerator orderGenerator;
+    private final DatabaseService databaseService;
+    private final QueryCacheService queryCache;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workerPool;
+    private final RunRegistry<WriteLoadRun> runs = new RunRegistry<>("Write load", log);
+
+    /**
+     * 트랜잭션 1회의 결과. outcome: committed | deadlock | failed
+     */
+    public record TransactionResult(String outcome, int rows, long transactionNanos, long commitNanos, String error) {
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("outcome", outcome);
+            result.put("rows", rows);
+            result.put("transactionMs", transactionNanos / 1_000_000.0);
+            result.put("commitMs", commitNanos / 1_000_000.0);
+            if (error != null) {
+                result.put("error", error);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 세션 통계 스냅샷 (누적값). 두 스냅샷의 차가 그 사이 구간의 값이다.
+     */
+    record SessionStats(long redoBytes, long redoEntries, long rowLockWaits, long rowLockWaitMicros,
+                        long logFileSyncWaits, long logFileSyncMicros) {
+
+        SessionStats minus(SessionStats other) {
+            return new SessionStats(redoBytes - other.redoBytes, redoEntries - other.redoEntries,
+                    rowLockWaits - other.rowLockWaits, rowLockWaitMicros - other.rowLockWaitMicros,
+                    logFileSyncWaits - other.logFileSyncWaits, logFileSyncMicros - other.logFileSyncMicros);
+        }
+    }
+
+    public WriteLoadEngine(DataSource dataSource, OrderSampler orderSampler, OrderGenerator orderGenerator,
+                           DatabaseService databaseService, QueryCacheService queryCache, MeterRegistry meterRegistry,
+                           @Qualifier("loadWorkerPool") ExecutorService workerPool) {
+        this.dataSource = dataSource;
+        this.orderSampler = orderSampler;
+        this.orderGenerator = orderGenerator;
+        this.databaseService = databaseService;
+        this.queryCache = queryCache;
+        this.meterRegistry = meterRegistry;
+        this.workerPool = workerPool;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runs.stopAll();
+    }
+
+    /**
+     * workers 개의 쓰기 워커를 띄운다. 워커마다 커넥션을 하나씩 실행이 끝날 때까지 잡으므로 풀의 절반까지만 허용한다.
+     *
+     * @throws IllegalArgumentException 잘못된 프로파일 또는 커넥션 풀 대비 과도한 workers
+     */
+    public WriteLoadRun start(String owner, LoadScenarioProperties.WriteProfile profile, long durationMs, BooleanSupplier keepRunning) {
+        validate(profile);
+        WriteLoadRun run = runs.register(new WriteLoadRun(owner, profile));
+        log.info("Starting write load {} for {}: {} workers={} batch={} hotFraction={} hotKeys={} targetTps={}",
+                run.getId(), owner, profile.getMode(), profile.getWorkers(), profile.getBatchSize(),
+                profile.getHotFraction(), profile.getHotKeys(), profile.getTargetTps());
+        workerPool.submit(() -> runs.execute(run, keepRunning, () -> execute(run, durationMs, keepRunning)));
+        return run;
+    }
+
+    /**
+     * 트랜잭션 하나를 수행하고 결과를 반환한다 (세션 통계 없음).
+     */
+    public TransactionResult executeOnce(LoadScenarioProperties.WriteProfile profile) {
+        validate(profile);
+        try (Session session = new Session(dataSource.getConnection())) {
+            return transaction(session, profile);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Write transaction failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void validate(LoadScenarioProperties.WriteProfile profile) {
+        if (profile.getMode() == null) {
+            throw new IllegalArgumentException("mode is required");
+        }
+        if (profile.getWorkers() < 1 || profile.getBatchSize() < 1 || profile.getBatchSize() > MAX_BATCH) {
+            throw new IllegalArgumentException("workers >= 1 and batchSize within 1-" + MAX_BATCH + " are required");
+        }
+        if (profile.getHotFraction() < 0 || profile.getHotFraction() > 1 || profile.getHotKeys() < 1) {
+            throw new IllegalArgumentException("hotFraction must be within 0-1 and hotKeys >= 1");
+        }
+        // 워커마다 커넥션을 실행 내내 잡으므로 풀의 절반까지만 허용 (BulkLoadService 와 같은 기준)
+        int maxPool = databaseService.getMaxPoolSize();
+        if (maxPool > 0 && profile.getWorkers() > Math.max(1, maxPool / 2)) {
+            throw new IllegalArgumentException("workers must be <= " + Math.max(1, maxPool / 2) + " (half of the connection pool)");
+        }
+    }
+
+    private void execute(WriteLoadRun run, long durationMs, BooleanSupplier keepRunning) {
+        LoadScenarioProperties.WriteProfile profile = run.getProfile();
+        run.started();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int w = 0; w < profile.getWorkers(); w++) {
+            workers.add(CompletableFuture.runAsync(() -> work(run, deadline, keepRunning), workerPool));
+        }
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+    }
+
+    private void work(WriteLoadRun run, long deadline, BooleanSupplier keepRunning) {
+        LoadScenarioProperties.WriteProfile profile = run.getProfile();
+        long intervalNanos = profile.getTargetTps() > 0 ? 1_000_000_000L * profile.getWorkers() / profile.getTargetTps() : 0;
+        long nextDue = System.nanoTime();
+
+        try (Session session = new Session(dataSource.getConnection())) {
+            SessionStats last = sessionStats(session, run);
+            long nextStats = System.nanoTime() + SESSION_STATS_INTERVAL_NANOS;
+            try {
+                while (System.nanoTime() - deadline < 0 && keepRunning.getAsBoolean()
+                        && !run.isStopRequested() && !Thread.currentThread().isInterrupted()) {
+                    if (intervalNanos > 0) {
+                        long wait;
+                        while ((wait = nextDue - System.nanoTime()) > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                        nextDue += intervalNanos;
+                    }
+                    run.record(transaction(session, profile));
+                    if (last != null && System.nanoTime() - nextStats >= 0) {
+                        last = addSessionStats(session, run, last);
+                        nextStats = System.nanoTime() + SESSION_STATS_INTERVAL_NANOS;
+                    }
+                }
+            } finally {
+                if (last != null) {
+                    addSessionStats(session, run, last);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Write load worker failed: " + e.getMessage(), e);
+        }
+    }
+
+    // 롤백까지 마친 결과를 반환한다. 커넥션 자체를 쓸 수 없게 된 경우에만 SQLException
+    private TransactionResult transaction(Session session, LoadScenarioProperties.WriteProfile profile) throws SQLException {
+        String mode = profile.getMode().name().toLowerCase();
+        long start = System.nanoTime();
+        TransactionResult result;
+        try {
+            int rows = switch (profile.getMode()) {
+                case INSERT -> insert(session, profile.getBatchSize());
+                case TRANSITION -> updateBatch(session, orderSampler.sampleIds(profile.getBatchSize(), 0, 1));
+                case HOT_ROW -> updateEach(session,
+                        orderSampler.sampleIds(profile.getBatchSize(), profile.getHotFraction(), profile.getHotKeys()));
+                case ARCHIVE -> archive(session, profile.getBatchSize());
+            };
+            long commitStart = System.nanoTime();
+            session.connection.commit();
+            long end = System.nanoTime();
+            result = new TransactionResult("committed", rows, end - start, end - commitStart, null);
+            meterRegistry.timer("load.db.write.commit", "mode", mode).record(end - commitStart, TimeUnit.NANOSECONDS);
+            invalidateCache(profile.getMode());
+        } catch (SQLException e) {
+            try {
+                session.connection.rollback();
+            } catch (SQLException rollbackFailure) {
+                // 커넥션을 더 쓸 수 없음: 원래 실패를 잃지 않도록 붙여서 던진다
+                e.addSuppressed(rollbackFailure);
+                throw e;
+            }
+            boolean deadlock = e.getErrorCode() == ORA_DEADLOCK;
+            result = new TransactionResult(deadlock ? "deadlock" : "failed", 0, System.nanoTime() - start, 0, e.getMessage());
+            if (!deadlock) {
+                log.debug("Write transaction ({}) failed: {}", mode, e.getMessage());
+            }
+        }
+        meterRegistry.counter("load.db.write.transactions", "mode", mode, "outcome", result.outcome()).increment();
+        return result;
+    }
+
+    private int insert(Session session, int size) throws SQLException {
+        PreparedStatement idStmt = session.statement(BulkLoadService.ALLOCATE_IDS_SQL);
+        PreparedStatement insert = session.statement(BulkLoadService.INSERT_SQL);
+        long[] ids = BulkLoadService.allocateIds(idStmt, size);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (long id : ids) {
+            BulkLoadService.bind(insert, id, orderGenerator.next("ORD-W" + id), now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        return ids.length;
+    }
+
+    // 한 번의 배치 UPDATE: 행 잠금을 한 라운드트립 안에서 모두 잡는다
+    private int updateBatch(Session session, long[] ids) throws SQLException {
+        if (ids.length == 0) {
+            return 0;
+        }
+        PreparedStatement update = session.statement(TRANSITION_SQL);
+        for (long id : ids) {
+            update.setLong(1, id);
+            update.addBatch();
+        }
+        return sum(update.executeBatch());
+    }
+
+    // 한 행씩 UPDATE: 트랜잭션마다 잠금 순서가 달라 동시 워커끼리 서로 기다리거나 deadlock 이 난다
+    private int updateEach(Session session, long[] ids) throws SQLException {
+        PreparedStatement update = session.statement(HOT_ROW_SQL);
+        int rows = 0;
+        for (long id : ids) {
+            update.setLong(1, id);
+            rows += update.executeUpdate();
+        }
+        return rows;
+    }
+
+    private int archive(Session session, int size) throws SQLException {
+        PreparedStatement select = session.statement(ARCHIVE_SELECT_SQL);
+        select.setFetchSize(size);
+        List<Long> ids = new ArrayList<>(size);
+        try (ResultSet rs = select.executeQuery()) {
+            while (ids.size() < size && rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        PreparedStatement copy = session.statement(ARCHIVE_INSERT_SQL);
+        PreparedStatement delete = session.statement(ARCHIVE_DELETE_SQL);
+        for (long id : ids) {
+            copy.setLong(1, id);
+            copy.addBatch();
+            delete.setLong(1, id);
+            delete.addBatch();
+        }
+        copy.executeBatch();
+        return sum(delete.executeBatch());
+    }
+
+    private void invalidateCache(LoadScenarioProperties.WriteMode mode) {
+        if (mode == LoadScenarioProperties.WriteMode.INSERT || mode == LoadScenarioProperties.WriteMode.ARCHIVE) {
+            queryCache.invalidateAll();
+        } else {
+            queryCache.invalidate(QueryCacheService.ORDER_LISTS);
+        }
+    }
+
+    private static int sum(int[] counts) {
+        int rows = 0;
+        for (int count : counts) {
+            // SUCCESS_NO_INFO (-2) 는 1 행으로 센다
+            rows += count >= 0 ? count : 1;
+        }
+        return rows;
+    }
+
+    private SessionStats addSessionStats(Session session, WriteLoadRun run, SessionStats last) {
+        SessionStats current = sessionStats(session, run);
+        if (current == null) {
+            return null;
+        }
+        run.sessionStats(current.minus(last));
+        return current;
+    }
+
+    // 조회 권한이 없으면(ORA-00942 등) 실행 전체의 세션 통계를 끈다
+    private SessionStats sessionStats(Session session, WriteLoadRun run) {
+        long redoBytes = 0;
+        long redoEntries = 0;
+        long lockWaits = 0;
+        long lockWaitMicros = 0;
+        long syncWaits = 0;
+        long syncMicros = 0;
+        try {
+            try (ResultSet rs = session.statement(SESSION_STATS_SQL).executeQuery()) {
+                while (rs.next()) {
+                    if ("redo size".equals(rs.getString(1))) {
+                        redoBytes = rs.getLong(2);
+                    } else {
+                        redoEntries = rs.getLong(2);
+                    }
+                }
+            }
+            try (ResultSet rs = session.statement(SESSION_EVENTS_SQL).executeQuery()) {
+                while (rs.next()) {
+                    if ("log file sync".equals(rs.getString(1))) {
+                        syncWaits = rs.getLong(2);
+                        syncMicros = rs.getLong(3);
+                    } else {
+                        lockWaits = rs.getLong(2);
+                        lockWaitMicros = rs.getLong(3);
+                    }
+                }
+            }
+            return new SessionStats(redoBytes, redoEntries, lockWaits, lockWaitMicros, syncWaits, syncMicros);
+        } catch (SQLException e) {
+            run.sessionStatsUnavailable();
+            log.warn("Session statistics unavailable for write load {}: {}", run.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    public WriteLoadRun getRun(String id) {
+        return runs.get(id);
+    }
+
+    public void stopAll() {
+        runs.stopAll();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("active", runs.active().size());
+        result.put("runs", runs.toMaps());
+        return result;
+    }
+
+    /**
+     * 워커 1개가 점유하는 커넥션과 재사용하는 PreparedStatement.
+     */
+    private static class Session implements AutoCloseable {
+        final Connection connection;
+        private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+        Session(Connection connection) throws SQLException {
+            this.connection = connection;
+            try {
+                connection.setAutoCommit(false);
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+        }
+
+        PreparedStatement statement(String sql) throws SQLException {
+            PreparedStatement stmt = statements.get(sql);
+            if (stmt == null) {
+                stmt = connection.prepareStatement(sql);
+                statements.put(sql, stmt);
+            }
+            return stmt;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                for (PreparedStatement stmt : statements.values()) {
+                    stmt.close();
+                }
+                // 진행 중이던 트랜잭션을 풀로 돌려보내지 않음
+                connection.rollback();
+                connection.setAutoCommit(true);
+            } finally {
+                connection.close();
+            }
+        }
+    }
+}
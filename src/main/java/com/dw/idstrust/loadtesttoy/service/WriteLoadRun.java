@@ -0,0 +1,137 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.LoadScenarioProperties;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ORDERS 쓰기 부하 1회의 설정과 결과.
+ * 클라이언트 측 트랜잭션/커밋 지연과 deadlock 수에 더해, 워커 세션의 Oracle 통계(V$MYSTAT, V$SESSION_EVENT)
+ * 증가분으로 redo 생성량, 행 잠금 대기(enq: TX - row lock contention), log file sync 대기를 보고한다.
+ */
+public class WriteLoadRun extends LoadRun {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final LoadScenarioProperties.WriteProfile profile;
+    private volatile String lastTransactionError;
+    // 세션 통계 조회 권한이 없으면 false (SELECT_CATALOG_ROLE 필요)
+    private volatile boolean sessionStatsAvailable = true;
+
+    private final LongAdder transactions = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder deadlocks = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final Histogram transactionLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final Histogram commitLatency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+
+    private final LongAdder redoBytes = new LongAdder();
+    private final LongAdder redoEntries = new LongAdder();
+    private final LongAdder rowLockWaits = new LongAdder();
+    private final LongAdder rowLockWaitMicros = new LongAdder();
+    private final LongAdder logFileSyncWaits = new LongAdder();
+    private final LongAdder logFileSyncMicros = new LongAdder();
+
+    WriteLoadRun(String owner, LoadScenarioProperties.WriteProfile profile) {
+        super("write", owner, "starting");
+        this.profile = profile;
+    }
+
+    void record(WriteLoadEngine.TransactionResult result) {
+        switch (result.outcome()) {
+            case "committed" -> {
+                transactions.increment();
+                rows.add(result.rows());
+                transactionLatency.recordValue(toMicros(result.transactionNanos()));
+                commitLatency.recordValue(toMicros(result.commitNanos()));
+            }
+            case "deadlock" -> deadlocks.increment();
+            default -> {
+                failures.increment();
+                lastTransactionError = result.error();
+            }
+        }
+    }
+
+    void sessionStats(WriteLoadEngine.SessionStats delta) {
+        redoBytes.add(delta.redoBytes());
+        redoEntries.add(delta.redoEntries());
+        rowLockWaits.add(delta.rowLockWaits());
+        rowLockWaitMicros.add(delta.rowLockWaitMicros());
+        logFileSyncWaits.add(delta.logFileSyncWaits());
+        logFileSyncMicros.add(delta.logFileSyncMicros());
+    }
+
+    void sessionStatsUnavailable() {
+        sessionStatsAvailable = false;
+    }
+
+    public LoadScenarioProperties.WriteProfile getProfile() {
+        return profile;
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        double elapsedSec = elapsedSeconds();
+        long committed = transactions.sum();
+        Map<String, Object> result = baseMap();
+        result.put("mode", profile.getMode().name().toLowerCase());
+        result.put("workers", profile.getWorkers());
+        result.put("batchSize", profile.getBatchSize());
+        if (profile.getMode() == LoadScenarioProperties.WriteMode.HOT_ROW) {
+            result.put("hotFraction", profile.getHotFraction());
+            result.put("hotKeys", profile.getHotKeys());
+        }
+        result.put("targetTps", profile.getTargetTps());
+        result.put("elapsedSec", elapsedSec);
+        result.put("transactions", committed);
+        result.put("rows", rows.sum());
+        result.put("tps", elapsedSec > 0 ? committed / elapsedSec : 0.0);
+        result.put("deadlocks", deadlocks.sum());
+        result.put("failures", failures.sum());
+        result.put("transactionLatency", summary(transactionLatency));
+        result.put("commitLatency", summary(commitLatency));
+        if (sessionStatsAvailable) {
+            // 워커 세션이 끝날 때(또는 주기적으로) 반영되므로 실행 중에는 지연되어 보인다
+            Map<String, Object> session = new LinkedHashMap<>();
+            session.put("redoBytes", redoBytes.sum());
+            session.put("redoBytesPerTransaction", committed > 0 ? (double) redoBytes.sum() / committed : 0.0);
+            session.put("redoMBps", elapsedSec > 0 ? redoBytes.sum() / (1024.0 * 1024.0) / elapsedSec : 0.0);
+            session.put("redoEntries", redoEntries.sum());
+            session.put("rowLockWaits", rowLockWaits.sum());
+            session.put("rowLockWaitMs", rowLockWaitMicros.sum() / 1000.0);
+            session.put("logFileSyncWaits", logFileSyncWaits.sum());
+            session.put("logFileSyncMs", logFileSyncMicros.sum() / 1000.0);
+            result.put("session", session);
+        } else {
+            result.put("session", null);
+        }
+        if (lastTransactionError != null) {
+            result.put("lastTransactionError", lastTransactionError);
+        }
+        if (getError() != null) {
+            result.put("error", getError());
+        }
+        return result;
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(MAX_LATENCY_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    private static Map<String, Object> summary(Histogram histogram) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", histogram.getTotalCount());
+        result.put("p50Ms", histogram.getValueAtPercentile(50.0) / 1000.0);
+        result.put("p90Ms", histogram.getValueAtPercentile(90.0) / 1000.0);
+        result.put("p99Ms", histogram.getValueAtPercentile(99.0) / 1000.0);
+        result.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+        result.put("maxMs", histogram.getMaxValue() / 1000.0);
+        return result;
+    }
+}
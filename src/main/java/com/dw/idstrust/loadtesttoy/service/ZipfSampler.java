@@ -0,0 +1,79 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * [1, n] 범위 Zipf 분포 샘플러 (Hörmann &amp; Derflinger rejection-inversion).
+ * 테이블 크기 n 에 무관하게 O(1) 메모리로 동작하며, 불변 객체이므로 여러 스레드에서 공유할 수 있다.
+ */
+final class ZipfSampler {
+
+    private final long n;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralN;
+    private final double s;
+
+    ZipfSampler(long n, double exponent) {
+        if (n < 1 || exponent <= 0) {
+            throw new IllegalArgumentException("Zipf requires n >= 1 and exponent > 0");
+        }
+        this.n = n;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1.0;
+        this.hIntegralN = hIntegral(n + 0.5);
+        this.s = 2.0 - hIntegralInverse(hIntegral(2.5) - h(2.0));
+    }
+
+    long getN() {
+        return n;
+    }
+
+    double getExponent() {
+        return exponent;
+    }
+
+    long sample() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+            double x = hIntegralInverse(u);
+            long k = (long) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > n) {
+                k = n;
+            }
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return helper2((1.0 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = x * (1.0 - exponent);
+        if (t < -1.0) {
+            t = -1.0;
+        }
+        return Math.exp(helper1(t) * x);
+    }
+
+    // log(1+x)/x
+    private static double helper1(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1.0 - x * (0.5 - x * (1.0 / 3.0 - 0.25 * x));
+    }
+
+    // (exp(x)-1)/x
+    private static double helper2(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1.0 + x * 0.5 * (1.0 + x * (1.0 / 3.0) * (1.0 + 0.25 * x));
+    }
+}
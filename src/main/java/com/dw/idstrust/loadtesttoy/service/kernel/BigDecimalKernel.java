@@ -0,0 +1,46 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주문 금액 정산 (단가 x 수량, 할인, 부가세, 반올림). 불변 BigDecimal 할당과 다정밀도 연산 비용을 본다.
+ */
+@Component
+public class BigDecimalKernel implements CpuKernel {
+
+    private static final int LINES = 128;
+    private static final BigDecimal VAT = new BigDecimal("0.10");
+    private static final BigDecimal DISCOUNT = new BigDecimal("0.035");
+
+    private static final ThreadLocal<BigDecimal[]> PRICES = ThreadLocal.withInitial(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BigDecimal[] prices = new BigDecimal[LINES];
+        for (int i = 0; i < LINES; i++) {
+            prices[i] = BigDecimal.valueOf(10000 + random.nextInt(990000), 2);
+        }
+        return prices;
+    });
+
+    @Override
+    public String name() {
+        return "bigdecimal";
+    }
+
+    @Override
+    public long execute() {
+        BigDecimal[] prices = PRICES.get();
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < LINES; i++) {
+            BigDecimal line = prices[i].multiply(BigDecimal.valueOf(i % 10 + 1));
+            line = line.subtract(line.multiply(DISCOUNT, MathContext.DECIMAL64));
+            line = line.add(line.multiply(VAT)).setScale(2, RoundingMode.HALF_UP);
+            total = total.add(line);
+        }
+        return total.unscaledValue().longValue();
+    }
+}
@@ -0,0 +1,13 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+/**
+ * CPU 부하 엔진이 duty cycle 의 busy 구간 동안 반복 실행하는 연산 단위.
+ * 한 번의 {@link #execute()} 는 수십~수백 µs 안에 끝나야 창 마감 시각을 정확히 지킬 수 있다.
+ * 입력 버퍼 등 가변 상태는 스레드별로 보관하며, 반환값은 JIT 의 dead-code 제거를 막기 위해 누적된다.
+ */
+public interface CpuKernel {
+
+    String name();
+
+    long execute();
+}
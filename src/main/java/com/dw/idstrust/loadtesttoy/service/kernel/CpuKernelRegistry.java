@@ -0,0 +1,34 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 이름으로 CPU 커널을 찾는다. 등록된 모든 {@link CpuKernel} 빈이 대상이다.
+ */
+@Component
+public class CpuKernelRegistry {
+
+    public static final String DEFAULT_KERNEL = "spin";
+
+    private final Map<String, CpuKernel> kernels = new TreeMap<>();
+
+    public CpuKernelRegistry(List<CpuKernel> kernels) {
+        kernels.forEach(kernel -> this.kernels.put(kernel.name(), kernel));
+    }
+
+    public CpuKernel get(String name) {
+        CpuKernel kernel = kernels.get(name == null || name.isBlank() ? DEFAULT_KERNEL : name.trim().toLowerCase());
+        if (kernel == null) {
+            throw new IllegalArgumentException("Unknown CPU kernel: " + name + " (available: " + kernels.keySet() + ")");
+        }
+        return kernel;
+    }
+
+    public List<String> names() {
+        return List.copyOf(kernels.keySet());
+    }
+}
@@ -0,0 +1,57 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+import com.dw.idstrust.loadtesttoy.entity.Order;
+import com.dw.idstrust.loadtesttoy.service.OrderGenerator;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * 주문 데이터 텍스트 16KB 를 Deflate(level 6)로 압축. 해시 체인 탐색으로 캐시 미스와 분기 예측 실패가 많은 부하.
+ */
+@Component
+public class DeflateKernel implements CpuKernel {
+
+    private static final int INPUT_SIZE = 16 * 1024;
+
+    private final ThreadLocal<byte[]> input;
+    private final ThreadLocal<byte[]> output = ThreadLocal.withInitial(() -> new byte[INPUT_SIZE + 1024]);
+    private final ThreadLocal<Deflater> deflater = ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION));
+
+    public DeflateKernel(OrderGenerator orderGenerator) {
+        this.input = ThreadLocal.withInitial(() -> {
+            StringBuilder text = new StringBuilder(INPUT_SIZE * 2);
+            while (text.length() < INPUT_SIZE) {
+                Order order = orderGenerator.next();
+                text.append(order.getOrderNumber()).append(',')
+                        .append(order.getCustomerName()).append(',')
+                        .append(order.getProductName()).append(',')
+                        .append(order.getTotalPrice()).append(',')
+                        .append(order.getShippingAddress()).append('\n');
+            }
+            byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            return Arrays.copyOf(bytes, INPUT_SIZE);
+        });
+    }
+
+    @Override
+    public String name() {
+        return "deflate";
+    }
+
+    @Override
+    public long execute() {
+        Deflater d = deflater.get();
+        byte[] out = output.get();
+        d.reset();
+        d.setInput(input.get());
+        d.finish();
+        long compressed = 0;
+        while (!d.finished()) {
+            compressed += d.deflate(out);
+        }
+        return compressed;
+    }
+}
@@ -0,0 +1,47 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+import com.dw.idstrust.loadtesttoy.entity.Order;
+import com.dw.idstrust.loadtesttoy.service.OrderGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 50건 목록을 Jackson 으로 JSON 직렬화. 리플렉션/getter 호출, 문자열 인코딩, 단기 객체 할당이 섞인 부하.
+ */
+@Component
+public class JsonOrderKernel implements CpuKernel {
+
+    private static final int ORDERS = 50;
+
+    private final ObjectMapper objectMapper;
+    private final ThreadLocal<List<Order>> orders;
+
+    public JsonOrderKernel(ObjectMapper objectMapper, OrderGenerator orderGenerator) {
+        this.objectMapper = objectMapper;
+        this.orders = ThreadLocal.withInitial(() -> {
+            List<Order> generated = new ArrayList<>(ORDERS);
+            for (int i = 0; i < ORDERS; i++) {
+                generated.add(orderGenerator.next());
+            }
+            return generated;
+        });
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public long execute() {
+        try {
+            return objectMapper.writeValueAsBytes(orders.get()).length;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize orders", e);
+        }
+    }
+}
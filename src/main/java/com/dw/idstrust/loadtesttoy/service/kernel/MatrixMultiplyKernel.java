@@ -0,0 +1,52 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 64x64 double 행렬 곱 (i-k-j 루프). 내부 루프가 연속 메모리를 순회하므로 C2 의 auto-vectorization 대상이 되며,
+ * 세 행렬(약 96KB)이 L2 캐시에 머무는 크기다.
+ */
+@Component
+public class MatrixMultiplyKernel implements CpuKernel {
+
+    private static final int N = 64;
+
+    private static final ThreadLocal<double[][]> MATRICES = ThreadLocal.withInitial(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double[] a = new double[N * N];
+        double[] b = new double[N * N];
+        for (int i = 0; i < N * N; i++) {
+            a[i] = random.nextDouble();
+            b[i] = random.nextDouble();
+        }
+        return new double[][]{a, b, new double[N * N]};
+    });
+
+    @Override
+    public String name() {
+        return "matrix";
+    }
+
+    @Override
+    public long execute() {
+        double[][] m = MATRICES.get();
+        double[] a = m[0];
+        double[] b = m[1];
+        double[] c = m[2];
+        Arrays.fill(c, 0.0);
+        for (int i = 0; i < N; i++) {
+            int row = i * N;
+            for (int k = 0; k < N; k++) {
+                double aik = a[row + k];
+                int bRow = k * N;
+                for (int j = 0; j < N; j++) {
+                    c[row + j] += aik * b[bRow + j];
+                }
+            }
+        }
+        return Double.doubleToRawLongBits(c[ThreadLocalRandom.current().nextInt(N * N)]);
+    }
+}
@@ -0,0 +1,57 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+import com.dw.idstrust.loadtesttoy.entity.Order;
+import com.dw.idstrust.loadtesttoy.service.OrderGenerator;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 주문 로그 라인에 대한 정규식 매칭 (주문번호, 금액, 주소 추출). 백트래킹과 문자 클래스 검사가 주된 비용이다.
+ */
+@Component
+public class RegexKernel implements CpuKernel {
+
+    private static final int LINES = 64;
+
+    private static final Pattern ORDER_LINE = Pattern.compile(
+            "^(ORD-[0-9A-F]{8})\\s+customer=(\\S+)\\s+product=(.+?)\\s+qty=(\\d+)\\s+total=(\\d+(?:\\.\\d{1,2})?)\\s+address=(.*?(?:시|도)\\s+\\S+(?:구|시).*)$");
+
+    private final ThreadLocal<String[]> lines;
+    private final ThreadLocal<Matcher> matcher = ThreadLocal.withInitial(() -> ORDER_LINE.matcher(""));
+
+    public RegexKernel(OrderGenerator orderGenerator) {
+        this.lines = ThreadLocal.withInitial(() -> {
+            String[] generated = new String[LINES];
+            for (int i = 0; i < LINES; i++) {
+                Order order = orderGenerator.next();
+                generated[i] = order.getOrderNumber() + " customer=" + order.getCustomerName()
+                        + " product=" + order.getProductName() + " qty=" + order.getQuantity()
+                        + " total=" + order.getTotalPrice() + " address=" + order.getShippingAddress();
+            }
+            return generated;
+        });
+    }
+
+    @Override
+    public String name() {
+        return "regex";
+    }
+
+    @Override
+    public long execute() {
+        String[] input = lines.get();
+        Matcher m = matcher.get();
+        int offset = ThreadLocalRandom.current().nextInt(LINES);
+        long matched = 0;
+        for (int i = 0; i < 16; i++) {
+            m.reset(input[(offset + i) % LINES]);
+            if (m.matches()) {
+                matched += m.end(5) - m.start(1);
+            }
+        }
+        return matched;
+    }
+}
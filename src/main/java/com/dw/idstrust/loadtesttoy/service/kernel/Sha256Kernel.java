@@ -0,0 +1,44 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 4KB 블록 SHA-256 해싱. JDK intrinsic(SHA 확장 명령) 적용 여부에 따라 처리량이 크게 달라진다.
+ */
+@Component
+public class Sha256Kernel implements CpuKernel {
+
+    private static final int BLOCK_SIZE = 4096;
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    });
+
+    private static final ThreadLocal<byte[]> BLOCK = ThreadLocal.withInitial(() -> {
+        byte[] block = new byte[BLOCK_SIZE];
+        ThreadLocalRandom.current().nextBytes(block);
+        return block;
+    });
+
+    @Override
+    public String name() {
+        return "sha256";
+    }
+
+    @Override
+    public long execute() {
+        byte[] block = BLOCK.get();
+        byte[] hash = DIGEST.get().digest(block);
+        // 다음 입력이 이전 결과에 의존하도록 하여 상수 접기를 방지
+        block[0] = hash[0];
+        return hash[0] ^ hash[31];
+    }
+}
@@ -0,0 +1,32 @@
+package com.dw.idstrust.loadtesttoy.service.kernel;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 접근 없는 정수 연산 스핀 (xorshift). 순수 ALU 부하의 기준선.
+ */
+@Component
+public class SpinKernel implements CpuKernel {
+
+    private static final ThreadLocal<long[]> STATE = ThreadLocal.withInitial(() -> new long[]{System.nanoTime() | 1L});
+
+    @Override
+    public String name() {
+        return "spin";
+    }
+
+    @Override
+    public long execute() {
+        long[] state = STATE.get();
+        long x = state[0];
+        long acc = 0;
+        for (int i = 0; i < 4096; i++) {
+            x ^= x << 13;
+            x ^= x >>> 7;
+            x ^= x << 17;
+            acc += x;
+        }
+        state[0] = x;
+        return acc;
+    }
+}
@@ -0,0 +1,32 @@
+-- 주문 테이블과 시퀀스 (setup-oracle.sh 와 같은 정의)
+-- setup-oracle.sh / docker/oracle-init.sql 로 이미 만들어진 스키마에서도 실행되도록 없는 객체만 생성한다
+DECLARE
+    v_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_count FROM USER_SEQUENCES WHERE SEQUENCE_NAME = 'ORDER_SEQ';
+    IF v_count = 0 THEN
+        EXECUTE IMMEDIATE 'CREATE SEQUENCE ORDER_SEQ START WITH 1 INCREMENT BY 1';
+    END IF;
+
+    SELECT COUNT(*) INTO v_count FROM USER_TABLES WHERE TABLE_NAME = 'ORDERS';
+    IF v_count = 0 THEN
+        EXECUTE IMMEDIATE 'CREATE TABLE ORDERS (
+            ID NUMBER(19,0) NOT NULL,
+            ORDER_NUMBER VARCHAR2(50) NOT NULL,
+            CUSTOMER_NAME VARCHAR2(100) NOT NULL,
+            PRODUCT_NAME VARCHAR2(200) NOT NULL,
+            QUANTITY NUMBER(10,0) NOT NULL,
+            UNIT_PRICE NUMBER(10,2) NOT NULL,
+            TOTAL_PRICE NUMBER(12,2) NOT NULL,
+            ORDER_DATE TIMESTAMP NOT NULL,
+            STATUS VARCHAR2(20) NOT NULL,
+            SHIPPING_ADDRESS VARCHAR2(500),
+            CREATED_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+            PRIMARY KEY (ID),
+            UNIQUE (ORDER_NUMBER)
+        )';
+        EXECUTE IMMEDIATE 'CREATE INDEX IDX_ORDER_STATUS ON ORDERS (STATUS)';
+        EXECUTE IMMEDIATE 'CREATE INDEX IDX_ORDER_DATE ON ORDERS (ORDER_DATE)';
+    END IF;
+END;
+/
@@ -0,0 +1,13 @@
+-- 인덱스 프로파일 전환 이력 (POST /api/workload/db/index-profiles/{profile})
+-- 재시작 후에도 어느 시점에 어떤 인덱스 구성이었는지 부하 테스트 결과와 맞춰 볼 수 있도록 남긴다
+CREATE TABLE INDEX_PROFILE_HISTORY (
+    ID NUMBER(19,0) GENERATED BY DEFAULT AS IDENTITY,
+    PROFILE VARCHAR2(30) NOT NULL,
+    PREVIOUS_PROFILE VARCHAR2(30),
+    STATUS VARCHAR2(20) NOT NULL,
+    STARTED_AT TIMESTAMP NOT NULL,
+    ENDED_AT TIMESTAMP NOT NULL,
+    BUILD_MS NUMBER(19,0) NOT NULL,
+    DETAIL VARCHAR2(4000),
+    PRIMARY KEY (ID)
+);
@@ -0,0 +1,17 @@
+-- 쓰기 부하 ARCHIVE 모드의 이동 대상 (ORDERS 와 같은 컬럼 + 보관 시각)
+-- 이동한 주문은 ORDERS 에서 삭제되므로 ID 와 ORDER_NUMBER 는 그대로 유일하다
+CREATE TABLE ORDERS_ARCHIVE (
+    ID NUMBER(19,0) NOT NULL,
+    ORDER_NUMBER VARCHAR2(50) NOT NULL,
+    CUSTOMER_NAME VARCHAR2(100) NOT NULL,
+    PRODUCT_NAME VARCHAR2(200) NOT NULL,
+    QUANTITY NUMBER(10,0) NOT NULL,
+    UNIT_PRICE NUMBER(10,2) NOT NULL,
+    TOTAL_PRICE NUMBER(12,2) NOT NULL,
+    ORDER_DATE TIMESTAMP NOT NULL,
+    STATUS VARCHAR2(20) NOT NULL,
+    SHIPPING_ADDRESS VARCHAR2(500),
+    CREATED_AT TIMESTAMP NOT NULL,
+    ARCHIVED_AT TIMESTAMP DEFAULT SYSTIMESTAMP NOT NULL,
+    PRIMARY KEY (ID)
+);
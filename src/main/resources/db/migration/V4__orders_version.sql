@@ -0,0 +1,3 @@
+-- 주문 처리 낙관적 잠금용 버전 컬럼 (load.locking.strategy=optimistic)
+-- DEFAULT 가 있는 NOT NULL 컬럼 추가는 메타데이터만 바뀌므로 기존 행을 다시 쓰지 않는다
+ALTER TABLE ORDERS ADD (VERSION NUMBER(19,0) DEFAULT 0 NOT NULL);
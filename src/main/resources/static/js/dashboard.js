@@ -63,41 +63,53 @@ document.addEventListener('DOMContentLoaded', () => {
 
     // --- Initialization ---
     populateLongScenarios();
-    startAutoRefresh();
+    startTelemetryStream();
 
     // --- Functions ---
-    function startAutoRefresh() {
-        refreshAllStatus();
-        setInterval(refreshAllStatus, 3000);
+    // 서버가 한 번 수집한 상태를 SSE 로 받는다: 연결 시 snapshot, 이후 변경된 항목만 delta
+    function startTelemetryStream() {
+        const source = new EventSource('/api/dashboard/stream');
+        source.addEventListener('snapshot', (event) => renderTelemetry(JSON.parse(event.data)));
+        source.addEventListener('delta', (event) => renderTelemetry(JSON.parse(event.data)));
+        source.onerror = () => {
+            // EventSource 가 자동 재연결하며, 재연결 시 서버가 새 snapshot 을 보낸다
+            elements.global.appStatusBadge.textContent = 'Reconnecting';
+        };
     }
 
-    async function refreshAllStatus() {
-        await Promise.all([
-            refreshK6Status(),
-            refreshAppStatus(),
-            refreshDatabaseStatus(),
-            refreshPoolSize(),
-            refreshPoolLiveStatus()
-        ]);
+    function renderTelemetry(changes) {
+        if (changes.k6 !== undefined) renderK6Status(changes.k6);
+        if (changes.appRunning !== undefined) renderAppStatus(changes.appRunning);
+        if (changes.orderCount !== undefined) elements.global.orderCount.textContent = changes.orderCount.toLocaleString();
+        if (changes.maxPoolSize !== undefined) renderPoolSize(changes.maxPoolSize);
+        if (changes.pool !== undefined) renderPoolLiveStatus(changes.pool);
     }
 
     async function refreshK6Status() {
         try {
             const res = await fetch('/api/dashboard/k6/status');
-            const data = await res.json();
+            renderK6Status(await res.json());
+        } catch (error) {
+            console.error('Failed to refresh K6 status:', error);
+        }
+    }
 
-            const runningBaseline = data.runningTests.find(t => t.type === 'baseline');
-            const runningScenario = data.runningTests.find(t => t.type === 'scenario');
+    function renderK6Status(data) {
+        const runningBaseline = data.runningTests.find(t => t.type === 'baseline');
+        const runningScenario = data.runningTests.find(t => t.type === 'scenario');
 
-            updateTestCardUI('baseline', runningBaseline, data.lastFinishedTests.baseline);
-            updateTestCardUI('scenario', runningScenario, data.lastFinishedTests.scenario);
+        updateTestCardUI('baseline', runningBaseline, data.lastFinishedTests.baseline);
+        updateTestCardUI('scenario', runningScenario, data.lastFinishedTests.scenario);
 
-            const anyTestRunning = runningBaseline || runningScenario;
-            elements.global.stopAllBtn.style.display = anyTestRunning ? 'block' : 'none';
+        const anyTestRunning = runningBaseline || runningScenario;
+        elements.global.stopAllBtn.style.display = anyTestRunning ? 'block' : 'none';
+    }
 
-        } catch (error) {
-            console.error('Failed to refresh K6 status:', error);
-        }
+    function formatLive(live) {
+        const current = live && live.current;
+        if (!current || current.time === undefined) return '';
+        return ` | RPS: ${current.rps}, p95: ${current.p95Ms.toFixed(1)}ms, p99: ${current.p99Ms.toFixed(1)}ms, ` +
+            `Fail: ${(current.failRate * 100).toFixed(2)}%, VUs: ${current.vus}`;
     }
 
     function updateTestCardUI(type, runningTest, lastFinishedTest) {
@@ -109,7 +121,7 @@ document.addEventListener('DOMContentLoaded', () => {
             ui.stopBtn.style.display = 'block';
             ui.stopBtn.dataset.testId = runningTest.id;
             ui.resultDiv.classList.add('show');
-            ui.resultInfo.textContent = `Scenario: ${runningTest.scenario}, Status: ${runningTest.status}`;
+            ui.resultInfo.textContent = `Scenario: ${runningTest.scenario}, Status: ${runningTest.status}` + formatLive(runningTest.live);
         } else {
             ui.statusBadge.textContent = 'IDLE';
             ui.statusBadge.className = 'status-badge status-idle';
@@ -221,62 +233,38 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     // --- Other Functions ---
-    async function refreshAppStatus() {
-        try {
-            const res = await fetch('/api/dashboard/app/status');
-            const data = await res.json();
-            elements.global.appStatusBadge.textContent = data.running ? 'Active' : 'Idle';
-        } catch (error) {
-            console.error('Failed to refresh app status:', error);
-            elements.global.appStatusBadge.textContent = 'Error';
-        }
-    }
-
-    async function refreshDatabaseStatus() {
-        try {
-            const res = await fetch('/api/dashboard/db/status');
-            const data = await res.json();
-            if (data.orderCount !== undefined) {
-                elements.global.orderCount.textContent = data.orderCount.toLocaleString();
-            }
-        } catch (error) {
-            console.error('Failed to refresh database status:', error);
-        }
+    function renderAppStatus(running) {
+        elements.global.appStatusBadge.textContent = running ? 'Active' : 'Idle';
     }
 
     async function refreshPoolSize() {
         try {
             const res = await fetch('/api/workload/db/pool-size');
             const data = await res.json();
-            if (data.maxPoolSize !== undefined && data.maxPoolSize > 0) {
-                elements.dbPool.value.textContent = data.maxPoolSize;
-                if (document.activeElement !== elements.dbPool.input) {
-                    elements.dbPool.input.value = data.maxPoolSize;
-                }
-            } else {
-                elements.dbPool.value.textContent = 'N/A';
-            }
+            renderPoolSize(data.maxPoolSize);
         } catch (error) {
             console.error('Failed to refresh pool size:', error);
             elements.dbPool.value.textContent = 'Error';
         }
     }
-    
-    async function refreshPoolLiveStatus() {
-        try {
-            const res = await fetch('/api/dashboard/db/pool-status');
-            const data = await res.json();
-            elements.dbPool.activeValue.textContent = data.active ?? '-';
-            elements.dbPool.idleValue.textContent = data.idle ?? '-';
-            elements.dbPool.pendingValue.textContent = data.pending ?? '-';
-        } catch (error) {
-            console.error('Failed to refresh pool live status:', error);
-            elements.dbPool.activeValue.textContent = 'Err';
-            elements.dbPool.idleValue.textContent = 'Err';
-            elements.dbPool.pendingValue.textContent = 'Err';
+
+    function renderPoolSize(maxPoolSize) {
+        if (maxPoolSize !== undefined && maxPoolSize > 0) {
+            elements.dbPool.value.textContent = maxPoolSize;
+            if (document.activeElement !== elements.dbPool.input) {
+                elements.dbPool.input.value = maxPoolSize;
+            }
+        } else {
+            elements.dbPool.value.textContent = 'N/A';
         }
     }
 
+    function renderPoolLiveStatus(pool) {
+        elements.dbPool.activeValue.textContent = pool.active ?? '-';
+        elements.dbPool.idleValue.textContent = pool.idle ?? '-';
+        elements.dbPool.pendingValue.textContent = pool.pending ?? '-';
+    }
+
     async function setPoolSize() {
         const newSize = parseInt(elements.dbPool.input.value);
         if (isNaN(newSize) || newSize < 1) {
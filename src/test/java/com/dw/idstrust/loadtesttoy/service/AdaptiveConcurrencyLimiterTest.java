@@ -0,0 +1,111 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import com.dw.idstrust.loadtesttoy.config.AdmissionControlProperties;
+import com.dw.idstrust.loadtesttoy.service.AdaptiveConcurrencyLimiter.Outcome;
+import com.dw.idstrust.loadtesttoy.service.AdaptiveConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MS = 1_000_000L;
+
+    // closedLoop 호출 사이에 이어지는 진행 중 요청 수
+    private int inflight;
+
+    // 창마다 바로 한도를 다시 계산하도록 창 길이 0, 표본 20 개
+    private static AdmissionControlProperties props(AdmissionControlProperties.Algorithm algorithm) {
+        AdmissionControlProperties props = new AdmissionControlProperties();
+        props.setAlgorithm(algorithm);
+        props.setInitialLimit(20);
+        props.setMinLimit(4);
+        props.setMaxLimit(400);
+        props.setTolerance(2.0);
+        props.setWindow(Duration.ZERO);
+        props.setMinWindowSamples(20);
+        return props;
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(AdmissionControlProperties props) {
+        return new AdaptiveConcurrencyLimiter(props, new SimpleMeterRegistry());
+    }
+
+    /**
+     * 닫힌 루프 부하: 자리가 나는 대로 한도까지 채우고 가장 오래된 요청을 하나씩 완료시킨다.
+     * 동시 처리 수가 capacity 를 넘으면 넘은 만큼 대기 시간이 붙는다. routes 는 요청마다 번갈아 쓴다.
+     */
+    private void closedLoop(AdaptiveConcurrencyLimiter limiter, int completions, int capacity,
+                            String[] routes, long[] serviceNanos) {
+        for (int i = 0; i < completions; i++) {
+            while (limiter.tryAcquire(Priority.CRITICAL)) {
+                inflight++;
+            }
+            int route = i % routes.length;
+            long rtt = serviceNanos[route] * Math.max(1, (inflight + capacity - 1) / capacity);
+            limiter.release(routes[route], rtt, Outcome.SUCCESS);
+            inflight--;
+        }
+    }
+
+    @Test
+    void gradientConvergesAboveCapacityWithoutRunningAway() {
+        AdaptiveConcurrencyLimiter limiter = limiter(props(AdmissionControlProperties.Algorithm.GRADIENT));
+        String[] routes = {"/api/workload/cpu"};
+        long[] service = {10 * MS};
+        closedLoop(limiter, 5_000, 10, routes, service);
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (int i = 0; i < 20; i++) {
+            closedLoop(limiter, 100, 10, routes, service);
+            min = Math.min(min, limiter.getLimit());
+            max = Math.max(max, limiter.getLimit());
+        }
+        // 지연이 기준의 tolerance 배 근처에서 멈추므로 한도도 수용량의 몇 배 안에서 안정된다
+        assertTrue(min >= 10, "limit fell below capacity: " + min);
+        assertTrue(max <= 100, "limit ran away: " + max);
+        assertTrue(max - min <= 5, "limit did not settle: " + min + "-" + max);
+    }
+
+    @Test
+    void fastRouteDoesNotDragDownSlowRouteBaseline() {
+        AdaptiveConcurrencyLimiter limiter = limiter(props(AdmissionControlProperties.Algorithm.GRADIENT));
+        // 과부하 없이(수용량이 충분해 대기 없음) 빠른 상태 조회(1ms)와 느린 부하 요청(100ms)이 섞인 경우
+        closedLoop(limiter, 2_000, Integer.MAX_VALUE,
+                new String[]{"/api/workload/db/status", "/api/workload/cpu"}, new long[]{MS, 100 * MS});
+        assertTrue(limiter.getLimit() > 20, "limit shrank without overload: " + limiter.getLimit());
+    }
+
+    @Test
+    void aimdBacksOffOnDroppedRequests() {
+        AdaptiveConcurrencyLimiter limiter = limiter(props(AdmissionControlProperties.Algorithm.AIMD));
+        for (int round = 0; round < 50; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire(Priority.CRITICAL)) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release("/api/workload/db", 10 * MS, Outcome.DROPPED);
+            }
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void lowerPrioritiesGetOnlyTheirShare() {
+        AdmissionControlProperties props = props(AdmissionControlProperties.Algorithm.GRADIENT);
+        props.setBatchShare(0.5);
+        AdaptiveConcurrencyLimiter limiter = limiter(props);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(Priority.BATCH));
+        }
+        assertFalse(limiter.tryAcquire(Priority.BATCH));
+        assertTrue(limiter.tryAcquire(Priority.CRITICAL));
+        assertEquals(11, limiter.getInflight());
+    }
+}
@@ -0,0 +1,32 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CpuLoadEngineTest {
+
+    // 사용률 = duty × gain 인 플랜트에 PI 단계를 반복 적용
+    private static double settle(double target, double gain, int steps) {
+        double duty = 0.5;
+        double lastError = 0;
+        for (int i = 0; i < steps; i++) {
+            double error = target - duty * gain;
+            duty = CpuLoadEngine.nextDutyCycle(duty, error, lastError, gain);
+            lastError = error;
+        }
+        return duty;
+    }
+
+    @Test
+    void piControllerConvergesToTarget() {
+        assertEquals(0.6, settle(0.3, 0.5, 100), 1e-3);
+        assertEquals(0.8, settle(0.8, 1.0, 100), 1e-3);
+    }
+
+    @Test
+    void dutyCycleSaturatesWhenTargetIsUnreachable() {
+        assertEquals(1.0, settle(0.9, 0.5, 100), 0.0);
+        assertEquals(0.0, settle(0.0, 0.5, 100), 1e-3);
+    }
+}
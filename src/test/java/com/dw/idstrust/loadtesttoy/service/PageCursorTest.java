@@ -0,0 +1,62 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageCursorTest {
+
+    @Test
+    void missingCursorIsFirstPage() {
+        PageCursor first = PageCursor.parse(null);
+        assertNull(first.value());
+        assertEquals(Long.MAX_VALUE, first.id());
+        LocalDateTime end = LocalDateTime.of(2024, 1, 1, 0, 0);
+        assertEquals(end, first.date(end));
+        assertEquals(BigDecimal.TEN, first.price(BigDecimal.TEN));
+    }
+
+    @Test
+    void roundTripsValueAndId() {
+        LocalDateTime date = LocalDateTime.of(2024, 3, 5, 12, 30, 15);
+        PageCursor cursor = PageCursor.parse(PageCursor.of(date.toString(), 42L));
+        assertEquals(42L, cursor.id());
+        assertEquals(date, cursor.date(null));
+
+        PageCursor price = PageCursor.parse(PageCursor.of("199.90", 7L));
+        assertEquals(new BigDecimal("199.90"), price.price(null));
+    }
+
+    @Test
+    void splitsOnLastSeparator() {
+        PageCursor cursor = PageCursor.parse("a_b_3");
+        assertEquals("a_b", cursor.value());
+        assertEquals(3L, cursor.id());
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.parse("no-separator"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.parse("_5"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.parse("value_"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.parse("value_abc"));
+    }
+
+    @Test
+    void rejectsValuesOfTheWrongType() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.parse("not-a-date_1").date(null));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.parse("not-a-price_1").price(null));
+    }
+
+    @Test
+    void rejectsNonPositivePageSize() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.checkPageSize(0));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.checkPageSize(-5));
+        PageCursor.checkPageSize(1);
+    }
+}
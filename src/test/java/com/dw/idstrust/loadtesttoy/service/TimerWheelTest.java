@@ -0,0 +1,58 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTest {
+
+    // 8 슬롯 x 1ms: 8ms 를 넘는 지연은 휠을 여러 바퀴 돈다
+    private final TimerWheel timer = new TimerWheel(1, TimeUnit.MILLISECONDS, 8);
+
+    @AfterEach
+    void close() {
+        timer.close();
+    }
+
+    @Test
+    void expiresInDeadlineOrder() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CompletableFuture<Void> slow = timer.delay(60, TimeUnit.MILLISECONDS).thenRun(() -> order.add(60));
+        CompletableFuture<Void> fast = timer.delay(20, TimeUnit.MILLISECONDS).thenRun(() -> order.add(20));
+        CompletableFuture<Void> middle = timer.delay(40, TimeUnit.MILLISECONDS).thenRun(() -> order.add(40));
+        CompletableFuture.allOf(slow, fast, middle).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(20, 40, 60), order);
+    }
+
+    @Test
+    void doesNotExpireEarlyAcrossRounds() throws Exception {
+        long start = System.nanoTime();
+        timer.delay(50, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsedMs >= 50, "expired after " + elapsedMs + "ms");
+    }
+
+    @Test
+    void nonPositiveDelayIsAlreadyComplete() {
+        assertTrue(timer.delay(0, TimeUnit.MILLISECONDS).isDone());
+        assertTrue(timer.delay(-1, TimeUnit.MILLISECONDS).isDone());
+    }
+
+    @Test
+    void closeCancelsPendingTimers() {
+        CompletableFuture<Void> pending = timer.delay(10, TimeUnit.SECONDS);
+        timer.close();
+        assertThrows(CancellationException.class, () -> pending.get(5, TimeUnit.SECONDS));
+        assertTrue(timer.delay(1, TimeUnit.MILLISECONDS).isCompletedExceptionally());
+    }
+}
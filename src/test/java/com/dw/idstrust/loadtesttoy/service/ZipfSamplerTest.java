@@ -0,0 +1,47 @@
+package com.dw.idstrust.loadtesttoy.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZipfSamplerTest {
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfSampler(10, 0));
+    }
+
+    @Test
+    void singleElementAlwaysSamplesOne() {
+        ZipfSampler sampler = new ZipfSampler(1, 1.2);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(1, sampler.sample());
+        }
+    }
+
+    @Test
+    void frequenciesFollowZipfLaw() {
+        int n = 1000;
+        double exponent = 1.0;
+        int samples = 200_000;
+        ZipfSampler sampler = new ZipfSampler(n, exponent);
+        long[] counts = new long[n + 1];
+        for (int i = 0; i < samples; i++) {
+            long k = sampler.sample();
+            assertTrue(k >= 1 && k <= n, "out of range: " + k);
+            counts[(int) k]++;
+        }
+        double harmonic = 0;
+        for (int k = 1; k <= n; k++) {
+            harmonic += Math.pow(k, -exponent);
+        }
+        for (int k : new int[]{1, 2, 10}) {
+            double expected = Math.pow(k, -exponent) / harmonic;
+            double actual = (double) counts[k] / samples;
+            assertEquals(expected, actual, expected * 0.1, "P(" + k + ")");
+        }
+    }
+}